@@ -70,6 +70,18 @@ public class JournalListMvGenerator {
                     fullToAbbreviation.putAll(abbreviationMap);
                 }
             }));
+
+            // Allow looking up abbreviated names without loading all abbreviations. As when loading them, later names overwrite earlier ones.
+            MVMap<String, String> abbreviationToFull = store.openMap("AbbreviationToFull");
+            MVMap<String, String> dotlessToFull = store.openMap("DotlessToFull");
+            MVMap<String, String> shortestUniqueToFull = store.openMap("ShortestUniqueToFull");
+            fullToAbbreviation.forEach((name, storedAbbreviation) -> {
+                // The dotless abbreviation is not stored
+                Abbreviation abbreviation = new Abbreviation(name, storedAbbreviation.getAbbreviation(), storedAbbreviation.getShortestUniqueAbbreviation());
+                abbreviationToFull.put(storedAbbreviation.getAbbreviation(), name);
+                dotlessToFull.put(abbreviation.getDotlessAbbreviation(), name);
+                shortestUniqueToFull.put(storedAbbreviation.getShortestUniqueAbbreviation(), name);
+            });
         }
     }
 }
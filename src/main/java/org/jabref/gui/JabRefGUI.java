@@ -171,7 +171,8 @@ public class JabRefGUI extends Application {
                 preferences.getFilePreferences(),
                 preferences.getCitationKeyPatternPreferences(),
                 dialogService,
-                taskExecutor);
+                taskExecutor,
+                UiTaskExecutor::runInJavaFXThread);
         Injector.setModelOrService(AiService.class, aiService);
     }
 
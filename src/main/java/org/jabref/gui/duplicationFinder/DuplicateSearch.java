@@ -28,6 +28,7 @@ import org.jabref.gui.undo.UndoableInsertEntries;
 import org.jabref.gui.undo.UndoableRemoveEntries;
 import org.jabref.gui.util.UiTaskExecutor;
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.database.DuplicateFinder;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.HeadlessExecutorService;
@@ -97,26 +98,23 @@ public class DuplicateSearch extends SimpleCommand {
     }
 
     private void searchPossibleDuplicates(List<BibEntry> entries, BibDatabaseMode databaseMode) {
-        for (int i = 0; i < (entries.size() - 1); i++) {
-            for (int j = i + 1; j < entries.size(); j++) {
-                if (Thread.interrupted()) {
-                    return;
-                }
-
-                BibEntry first = entries.get(i);
-                BibEntry second = entries.get(j);
-
-                if (new DuplicateCheck(entryTypesManager).isDuplicate(first, second, databaseMode)) {
+        try {
+            // The pairs are found by several threads, but the property must only be updated by one at a time
+            new DuplicateFinder(entryTypesManager).findDuplicates(entries, databaseMode, (first, second) -> {
+                synchronized (duplicateCountObservable) {
                     duplicates.add(Arrays.asList(first, second));
                     duplicateCountObservable.set(String.valueOf(duplicateCount.incrementAndGet()));
                 }
-            }
+            });
+        } catch (InterruptedException e) {
+            return;
         }
         libraryAnalyzed.set(true);
     }
 
     private DuplicateSearchResult verifyDuplicates() {
         DuplicateSearchResult result = new DuplicateSearchResult();
+        DuplicateCheck duplicateCheck = new DuplicateCheck(entryTypesManager);
 
         while (!libraryAnalyzed.get() || !duplicates.isEmpty()) {
             duplicateProgress.set(duplicateProgress.getValue() + 1);
@@ -138,7 +136,7 @@ public class DuplicateSearch extends SimpleCommand {
             if (!result.isToRemove(first) && !result.isToRemove(second)) {
                 // Check if they are exact duplicates:
                 boolean askAboutExact = false;
-                if (DuplicateCheck.compareEntriesStrictly(first, second) > 1) {
+                if (duplicateCheck.compareEntriesStrictly(first, second) > 1) {
                     if (autoRemoveExactDuplicates.get()) {
                         result.remove(second);
                         continue;
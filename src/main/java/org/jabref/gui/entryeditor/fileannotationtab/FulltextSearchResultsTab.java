@@ -29,6 +29,7 @@ import org.jabref.gui.search.SearchType;
 import org.jabref.gui.util.OptionalObjectProperty;
 import org.jabref.gui.util.TooltipTextUtil;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
@@ -56,6 +57,8 @@ public class FulltextSearchResultsTab extends EntryEditorTab {
     private final OptionalObjectProperty<SearchQuery> searchQueryProperty;
     private BibEntry entry;
     private DocumentViewerView documentViewerView;
+    // Incremented on each binding, so that the results loaded for a previous binding are not shown
+    private int bindingGeneration;
 
     public FulltextSearchResultsTab(StateManager stateManager,
                                     GuiPreferences preferences,
@@ -95,6 +98,7 @@ public class FulltextSearchResultsTab extends EntryEditorTab {
         }
         this.entry = entry;
         content.getChildren().clear();
+        int generation = ++bindingGeneration;
 
         stateManager.activeSearchQuery(SearchType.NORMAL_SEARCH).get().ifPresent(searchQuery -> {
             SearchResults searchResults = searchQuery.getSearchResults();
@@ -103,34 +107,49 @@ public class FulltextSearchResultsTab extends EntryEditorTab {
                 if (searchResultsForEntry.isEmpty()) {
                     content.getChildren().add(new Text(Localization.lang("No search matches.")));
                 } else {
-                    // Iterate through files with search hits
-                    for (Map.Entry<String, List<SearchResult>> iterator : searchResultsForEntry.entrySet()) {
-                        entry.getFiles().stream().filter(file -> file.getLink().equals(iterator.getKey())).findFirst().ifPresent(linkedFile -> {
-                            content.getChildren().addAll(createFileLink(linkedFile), lineSeparator());
-                            // Iterate through pages (within file) with search hits
-                            for (SearchResult searchResult : iterator.getValue()) {
-                                for (String resultTextHtml : searchResult.getContentResultStringsHtml()) {
-                                    content.getChildren().addAll(TooltipTextUtil.createTextsFromHtml(resultTextHtml.replace("</b> <b>", " ")));
-                                    content.getChildren().addAll(new Text(System.lineSeparator()), lineSeparator(0.8), createPageLink(linkedFile, searchResult.getPageNumber()));
-                                }
-                                if (!searchResult.getAnnotationsResultStringsHtml().isEmpty()) {
-                                    Text annotationsText = new Text(System.lineSeparator() + Localization.lang("Found matches in annotations:") + System.lineSeparator() + System.lineSeparator());
-                                    annotationsText.setStyle("-fx-font-style: italic;");
-                                    content.getChildren().add(annotationsText);
-
-                                    for (String resultTextHtml : searchResult.getAnnotationsResultStringsHtml()) {
-                                        content.getChildren().addAll(TooltipTextUtil.createTextsFromHtml(resultTextHtml.replace("</b> <b>", " ")));
-                                        content.getChildren().addAll(new Text(System.lineSeparator()), lineSeparator(0.8), createPageLink(linkedFile, searchResult.getPageNumber()));
-                                    }
-                                }
-                            }
-                        });
-                    }
+                    // The text of the pages is read from the index, which must not happen on the JavaFX thread. The search results keep it.
+                    BackgroundTask.wrap(() -> searchResultsForEntry.values().stream().flatMap(List::stream).forEach(searchResult -> {
+                                      searchResult.getContentResultStringsHtml();
+                                      searchResult.getAnnotationsResultStringsHtml();
+                                  }))
+                                  .onSuccess(result -> {
+                                      if (generation == bindingGeneration) {
+                                          showSearchResults(entry, searchResultsForEntry);
+                                      }
+                                  })
+                                  .onFailure(exception -> LOGGER.error("Could not load the search results of the linked files", exception))
+                                  .executeWith(taskExecutor);
                 }
             }
         });
     }
 
+    private void showSearchResults(BibEntry entry, Map<String, List<SearchResult>> searchResultsForEntry) {
+        // Iterate through files with search hits
+        for (Map.Entry<String, List<SearchResult>> iterator : searchResultsForEntry.entrySet()) {
+            entry.getFiles().stream().filter(file -> file.getLink().equals(iterator.getKey())).findFirst().ifPresent(linkedFile -> {
+                content.getChildren().addAll(createFileLink(linkedFile), lineSeparator());
+                // Iterate through pages (within file) with search hits
+                for (SearchResult searchResult : iterator.getValue()) {
+                    for (String resultTextHtml : searchResult.getContentResultStringsHtml()) {
+                        content.getChildren().addAll(TooltipTextUtil.createTextsFromHtml(resultTextHtml.replace("</b> <b>", " ")));
+                        content.getChildren().addAll(new Text(System.lineSeparator()), lineSeparator(0.8), createPageLink(linkedFile, searchResult.getPageNumber()));
+                    }
+                    if (!searchResult.getAnnotationsResultStringsHtml().isEmpty()) {
+                        Text annotationsText = new Text(System.lineSeparator() + Localization.lang("Found matches in annotations:") + System.lineSeparator() + System.lineSeparator());
+                        annotationsText.setStyle("-fx-font-style: italic;");
+                        content.getChildren().add(annotationsText);
+
+                        for (String resultTextHtml : searchResult.getAnnotationsResultStringsHtml()) {
+                            content.getChildren().addAll(TooltipTextUtil.createTextsFromHtml(resultTextHtml.replace("</b> <b>", " ")));
+                            content.getChildren().addAll(new Text(System.lineSeparator()), lineSeparator(0.8), createPageLink(linkedFile, searchResult.getPageNumber()));
+                        }
+                    }
+                }
+            });
+        }
+    }
+
     private Text createFileLink(LinkedFile linkedFile) {
         Text fileLinkText = new Text(Localization.lang("Found match in %0", linkedFile.getLink()) + System.lineSeparator() + System.lineSeparator());
         fileLinkText.setStyle("-fx-font-weight: bold;");
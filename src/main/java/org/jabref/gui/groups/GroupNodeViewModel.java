@@ -556,9 +556,7 @@ public class GroupNodeViewModel {
             if (groupNode.getGroup() instanceof SearchGroup searchGroup) {
                 stateManager.getLuceneManager(databaseContext).ifPresent(luceneManager -> {
                     BackgroundTask.wrap(() -> {
-                        for (BibEntry entry : event.entries()) {
-                            searchGroup.updateMatches(entry, luceneManager.isEntryMatched(entry, searchGroup.getQuery()));
-                        }
+                        searchGroup.updateMatches(event.entries(), luceneManager.getMatchedEntries(event.entries(), searchGroup.getQuery()));
                     }).onFinished(() -> {
                         for (BibEntry entry : event.entries()) {
                             if (groupNode.matches(entry)) {
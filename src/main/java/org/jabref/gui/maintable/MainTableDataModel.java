@@ -1,8 +1,11 @@
 package org.jabref.gui.maintable;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Optional;
 
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.IntegerProperty;
 import javafx.beans.property.ListProperty;
@@ -20,6 +23,7 @@ import org.jabref.gui.search.MatchCategory;
 import org.jabref.gui.util.BindingsHelper;
 import org.jabref.gui.util.FilteredListProxy;
 import org.jabref.gui.util.OptionalObjectProperty;
+import org.jabref.logic.groups.GroupMembershipIndex;
 import org.jabref.logic.search.LuceneManager;
 import org.jabref.logic.search.SearchDisplayMode;
 import org.jabref.logic.search.SearchPreferences;
@@ -28,13 +32,10 @@ import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.groups.GroupTreeNode;
-import org.jabref.model.search.SearchFieldConstants;
 import org.jabref.model.search.SearchQuery;
 import org.jabref.model.search.SearchResults;
 import org.jabref.model.search.event.IndexAddedOrUpdatedEvent;
 import org.jabref.model.search.event.IndexStartedEvent;
-import org.jabref.model.search.matchers.MatcherSet;
-import org.jabref.model.search.matchers.MatcherSets;
 
 import com.google.common.eventbus.Subscribe;
 import com.tobiasdiez.easybind.EasyBind;
@@ -59,9 +60,13 @@ public class MainTableDataModel {
     private final Subscription groupViewModeSubscription;
     private final LuceneIndexListener indexUpdatedListener;
     private final OptionalObjectProperty<SearchQuery> searchQueryProperty;
+    private final ListProperty<GroupTreeNode> selectedGroupsProperty;
     @Nullable private final LuceneManager luceneManager;
 
-    private Optional<MatcherSet> groupsMatcher;
+    private final GroupMembershipIndex groupMembershipIndex;
+    private final InvalidationListener groupsInvalidationListener;
+    // Copy of the selected groups, which is read by background tasks. Set on the JavaFX thread only.
+    private volatile List<GroupTreeNode> selectedGroups;
 
     public MainTableDataModel(BibDatabaseContext context,
                               GuiPreferences preferences,
@@ -79,8 +84,17 @@ public class MainTableDataModel {
         this.luceneManager = luceneManager;
         this.bibDatabaseContext = context;
         this.searchQueryProperty = searchQueryProperty;
+        this.selectedGroupsProperty = selectedGroupsProperty;
         this.indexUpdatedListener = new LuceneIndexListener();
-        this.groupsMatcher = createGroupMatcher(selectedGroupsProperty.get(), groupsPreferences);
+        this.groupMembershipIndex = new GroupMembershipIndex(context.getDatabase());
+        this.groupsInvalidationListener = observable -> {
+            groupMembershipIndex.invalidate();
+            // Evaluate the binding again, otherwise further changes of the groups are not reported
+            context.getMetaData().groupsBinding().getValue();
+        };
+        context.getMetaData().groupsBinding().addListener(groupsInvalidationListener);
+        context.getMetaData().groupsBinding().getValue();
+        this.selectedGroups = copyOf(selectedGroupsProperty.get());
 
         this.bibDatabaseContext.getDatabase().registerListener(indexUpdatedListener);
         resetFieldFormatter();
@@ -150,17 +164,34 @@ public class MainTableDataModel {
     }
 
     private void updateGroupMatches(ObservableList<GroupTreeNode> groups) {
+        List<GroupTreeNode> groupsToMatch = copyOf(groups);
+        selectedGroups = groupsToMatch;
         BackgroundTask.wrap(() -> {
-            groupsMatcher = createGroupMatcher(groups, groupsPreferences);
-            boolean isInvertMode = groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT);
+            Optional<BitSet> groupMatches = computeGroupMatches(groupsToMatch);
             boolean isFloatingMode = !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER);
-            entriesViewModel.forEach(entry -> updateEntryGroupMatch(entry, groupsMatcher, isInvertMode, isFloatingMode));
+            entriesViewModel.forEach(entry -> updateEntryGroupMatch(entry,
+                    groupMatches.map(matches -> groupMembershipIndex.contains(matches, entry.getEntry())).orElse(true),
+                    isFloatingMode));
         }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
     }
 
-    private void updateEntryGroupMatch(BibEntryTableViewModel entry, Optional<MatcherSet> groupsMatcher, boolean isInvertMode, boolean isFloatingMode) {
-        boolean isMatched = groupsMatcher.map(matcher -> matcher.isMatch(entry.getEntry()) ^ isInvertMode)
-                                         .orElse(true);
+    /**
+     * Checks whether the selected groups match the entry. Evaluates the groups on the entry only, thus is cheaper than
+     * {@link #computeGroupMatches(List)} for a few entries.
+     */
+    private boolean isMatchedBySelectedGroups(BibEntry entry) {
+        List<GroupTreeNode> groups = selectedGroups;
+        if (groups.isEmpty()) {
+            return true;
+        }
+        return GroupMembershipIndex.matches(
+                groups,
+                groupsPreferences.getGroupViewMode().contains(GroupViewMode.INTERSECTION),
+                groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT),
+                entry);
+    }
+
+    private static void updateEntryGroupMatch(BibEntryTableViewModel entry, boolean isMatched, boolean isFloatingMode) {
         entry.isMatchedByGroup().set(isMatched);
         entry.updateMatchCategory();
         if (isMatched) {
@@ -170,21 +201,23 @@ public class MainTableDataModel {
         }
     }
 
-    private static Optional<MatcherSet> createGroupMatcher(List<GroupTreeNode> selectedGroups, GroupsPreferences groupsPreferences) {
+    /**
+     * @return the entries to show (already inverted if requested), empty if all entries are shown
+     */
+    private Optional<BitSet> computeGroupMatches(List<GroupTreeNode> selectedGroups) {
         if ((selectedGroups == null) || selectedGroups.isEmpty()) {
             // No selected group, show all entries
             return Optional.empty();
         }
 
-        final MatcherSet searchRules = MatcherSets.build(
-                groupsPreferences.getGroupViewMode().contains(GroupViewMode.INTERSECTION)
-                        ? MatcherSets.MatcherType.AND
-                        : MatcherSets.MatcherType.OR);
+        return Optional.of(groupMembershipIndex.getMatches(
+                selectedGroups,
+                groupsPreferences.getGroupViewMode().contains(GroupViewMode.INTERSECTION),
+                groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT)));
+    }
 
-        for (GroupTreeNode node : selectedGroups) {
-            searchRules.addRule(node.getSearchMatcher());
-        }
-        return Optional.of(searchRules);
+    private static List<GroupTreeNode> copyOf(@Nullable List<GroupTreeNode> groups) {
+        return groups == null ? List.of() : List.copyOf(groups);
     }
 
     public void unbind() {
@@ -194,6 +227,8 @@ public class MainTableDataModel {
         groupViewModeSubscription.unsubscribe();
 
         bibDatabaseContext.getDatabase().unregisterListener(indexUpdatedListener);
+        bibDatabaseContext.getMetaData().groupsBinding().removeListener(groupsInvalidationListener);
+        groupMembershipIndex.close();
     }
 
     public SortedList<BibEntryTableViewModel> getEntriesFilteredAndSorted() {
@@ -204,40 +239,51 @@ public class MainTableDataModel {
         this.fieldValueFormatter.setValue(new MainTableFieldValueFormatter(nameDisplayPreferences, bibDatabaseContext));
     }
 
+    private record EntryMatch(BibEntry entry, int index, float searchScore, boolean hasFullTextResults, boolean isMatchedBySearch, boolean isMatchedByGroup) {
+    }
+
     class LuceneIndexListener {
         @Subscribe
         public void listen(IndexAddedOrUpdatedEvent indexAddedOrUpdatedEvent) {
-            indexAddedOrUpdatedEvent.entries().forEach(entry -> {
-                BackgroundTask.wrap(() -> {
+            // One task for all entries of the event. The groups are evaluated on the changed entries only.
+            BackgroundTask.wrap(() -> {
+                List<EntryMatch> entryMatches = new ArrayList<>();
+                for (BibEntry entry : indexAddedOrUpdatedEvent.entries()) {
                     int index = bibDatabaseContext.getDatabase().indexOf(entry);
-                    if (index >= 0) {
-                        BibEntryTableViewModel viewModel = entriesViewModel.get(index);
-                        boolean isFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
-                        boolean isMatched = true;
-                        if (searchQueryProperty.get().isPresent()) {
-                            SearchQuery searchQuery = searchQueryProperty.get().get();
-                            String newSearchExpression = "+" + SearchFieldConstants.ENTRY_ID + ":" + entry.getId() + " +" + searchQuery.getSearchExpression();
-                            SearchQuery entryQuery = new SearchQuery(newSearchExpression, searchQuery.getSearchFlags());
-                            SearchResults results = luceneManager.search(entryQuery);
-
-                            viewModel.searchScoreProperty().set(results.getSearchScoreForEntry(entry));
-                            viewModel.hasFullTextResultsProperty().set(results.hasFulltextResults(entry));
-                            isMatched = viewModel.searchScoreProperty().get() > 0;
-                        } else {
-                            viewModel.searchScoreProperty().set(0);
-                            viewModel.hasFullTextResultsProperty().set(false);
-                        }
-
-                        updateEntrySearchMatch(viewModel, isMatched, isFloatingMode);
-                        updateEntryGroupMatch(viewModel, groupsMatcher, groupsPreferences.getGroupViewMode().contains(GroupViewMode.INVERT), !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER));
+                    if (index < 0) {
+                        continue;
+                    }
+                    float searchScore = 0;
+                    boolean hasFullTextResults = false;
+                    boolean isMatchedBySearch = true;
+                    if (searchQueryProperty.get().isPresent()) {
+                        SearchQuery searchQuery = searchQueryProperty.get().get();
+                        SearchResults results = luceneManager.searchForEntry(entry, searchQuery);
+
+                        searchScore = results.getSearchScoreForEntry(entry);
+                        hasFullTextResults = results.hasFulltextResults(entry);
+                        isMatchedBySearch = searchScore > 0;
                     }
-                    return index;
-                }).onSuccess(index -> {
-                    if (index >= 0) {
-                        FilteredListProxy.refilterListReflection(entriesFiltered, index, index + 1);
+                    entryMatches.add(new EntryMatch(entry, index, searchScore, hasFullTextResults, isMatchedBySearch, isMatchedBySelectedGroups(entry)));
+                }
+                return entryMatches;
+            }).onSuccess(entryMatches -> {
+                // The view models are updated on the JavaFX thread
+                boolean isSearchFloatingMode = searchPreferences.getSearchDisplayMode() == SearchDisplayMode.FLOAT;
+                boolean isGroupFloatingMode = !groupsPreferences.getGroupViewMode().contains(GroupViewMode.FILTER);
+                for (EntryMatch entryMatch : entryMatches) {
+                    if ((entryMatch.index() >= entriesViewModel.size()) || (entriesViewModel.get(entryMatch.index()).getEntry() != entryMatch.entry())) {
+                        // The entry was moved or removed in the meantime
+                        continue;
                     }
-                }).executeWith(taskExecutor);
-            });
+                    BibEntryTableViewModel viewModel = entriesViewModel.get(entryMatch.index());
+                    viewModel.searchScoreProperty().set(entryMatch.searchScore());
+                    viewModel.hasFullTextResultsProperty().set(entryMatch.hasFullTextResults());
+                    updateEntrySearchMatch(viewModel, entryMatch.isMatchedBySearch(), isSearchFloatingMode);
+                    updateEntryGroupMatch(viewModel, entryMatch.isMatchedByGroup(), isGroupFloatingMode);
+                    FilteredListProxy.refilterListReflection(entriesFiltered, entryMatch.index(), entryMatch.index() + 1);
+                }
+            }).executeWith(taskExecutor);
         }
 
         @Subscribe
@@ -1,6 +1,9 @@
 package org.jabref.gui.search;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ObjectProperty;
@@ -17,6 +20,8 @@ import org.jabref.gui.maintable.MainTableFieldValueFormatter;
 import org.jabref.gui.maintable.NameDisplayPreferences;
 import org.jabref.gui.preferences.GuiPreferences;
 import org.jabref.gui.util.FilteredListProxy;
+import org.jabref.gui.util.UiTaskExecutor;
+import org.jabref.logic.search.retrieval.LuceneSearcher;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
@@ -28,12 +33,18 @@ import com.tobiasdiez.easybind.EasyBind;
 
 public class SearchResultsTableDataModel {
 
+    // The best scoring hits of each library are shown first, the remaining hits as soon as they are found
+    private static final int FIRST_PAGE_SIZE = 100;
+    private static final int ALL_REMAINING_HITS = Integer.MAX_VALUE;
+
     private final ObservableList<BibEntryTableViewModel> entriesViewModel = FXCollections.observableArrayList();
     private final SortedList<BibEntryTableViewModel> entriesSorted;
     private final ObjectProperty<MainTableFieldValueFormatter> fieldValueFormatter;
     private final StateManager stateManager;
     private final FilteredList<BibEntryTableViewModel> entriesFiltered;
     private final TaskExecutor taskExecutor;
+    // Incremented for each query, so that the results of a previous query do not overwrite the ones of the current query
+    private final AtomicInteger searchGeneration = new AtomicInteger();
 
     public SearchResultsTableDataModel(BibDatabaseContext bibDatabaseContext, GuiPreferences preferences, StateManager stateManager, TaskExecutor taskExecutor) {
         NameDisplayPreferences nameDisplayPreferences = preferences.getNameDisplayPreferences();
@@ -62,27 +73,69 @@ public class SearchResultsTableDataModel {
     }
 
     private void updateSearchMatches(Optional<SearchQuery> query) {
-        BackgroundTask.wrap(() -> {
-            if (query.isPresent()) {
-                SearchResults searchResults = new SearchResults();
-                for (BibDatabaseContext context : stateManager.getOpenDatabases()) {
-                    stateManager.getLuceneManager(context).ifPresent(luceneManager -> {
-                        searchResults.mergeSearchResults(luceneManager.search(query.get()));
-                    });
-                }
-                for (BibEntryTableViewModel entry : entriesViewModel) {
-                    entry.searchScoreProperty().set(searchResults.getSearchScoreForEntry(entry.getEntry()));
-                    entry.hasFullTextResultsProperty().set(searchResults.hasFulltextResults(entry.getEntry()));
-                    entry.isVisibleBySearch().set(entry.searchScoreProperty().get() > 0);
-                }
-            } else {
+        int generation = searchGeneration.incrementAndGet();
+        if (query.isEmpty()) {
+            BackgroundTask.wrap(() -> {
                 for (BibEntryTableViewModel entry : entriesViewModel) {
                     entry.searchScoreProperty().set(0);
                     entry.hasFullTextResultsProperty().set(false);
                     entry.isVisibleBySearch().set(true);
                 }
+            }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
+            return;
+        }
+
+        BackgroundTask.wrap(() -> searchInPages(query.get(), generation)).executeWith(taskExecutor);
+    }
+
+    /**
+     * Shows the best scoring hits of each library, then all hits. The remaining hits are searched after the first ones, so that
+     * the first ones are not searched again.
+     */
+    private void searchInPages(SearchQuery query, int generation) {
+        List<LuceneSearcher.Pager> pagers = new ArrayList<>();
+        try {
+            for (BibDatabaseContext context : stateManager.getOpenDatabases()) {
+                stateManager.getLuceneManager(context).flatMap(luceneManager -> luceneManager.page(query)).ifPresent(pagers::add);
+            }
+
+            SearchResults searchResults = new SearchResults();
+            pagers.forEach(pager -> searchResults.mergeSearchResults(pager.nextPage(FIRST_PAGE_SIZE)));
+            if (!showSearchMatches(generation, searchResults) || pagers.stream().noneMatch(LuceneSearcher.Pager::hasNextPage)) {
+                return;
             }
-        }).onSuccess(result -> FilteredListProxy.refilterListReflection(entriesFiltered)).executeWith(taskExecutor);
+
+            pagers.forEach(pager -> searchResults.mergeSearchResults(pager.nextPage(ALL_REMAINING_HITS)));
+            showSearchMatches(generation, searchResults);
+        } finally {
+            pagers.forEach(LuceneSearcher.Pager::close);
+        }
+    }
+
+    /**
+     * @return false if a further query was started in the meantime, then the matches are not shown
+     */
+    private boolean showSearchMatches(int generation, SearchResults searchResults) {
+        if (!setSearchMatches(generation, searchResults)) {
+            return false;
+        }
+        UiTaskExecutor.runInJavaFXThread(() -> FilteredListProxy.refilterListReflection(entriesFiltered));
+        return true;
+    }
+
+    /**
+     * @return false if a further query was started in the meantime, then the matches are not set
+     */
+    private boolean setSearchMatches(int generation, SearchResults searchResults) {
+        if (generation != searchGeneration.get()) {
+            return false;
+        }
+        for (BibEntryTableViewModel entry : entriesViewModel) {
+            entry.searchScoreProperty().set(searchResults.getSearchScoreForEntry(entry.getEntry()));
+            entry.hasFullTextResultsProperty().set(searchResults.hasFulltextResults(entry.getEntry()));
+            entry.isVisibleBySearch().set(entry.searchScoreProperty().get() > 0);
+        }
+        return true;
     }
 
     public SortedList<BibEntryTableViewModel> getEntriesFilteredAndSorted() {
@@ -1,5 +1,6 @@
 package org.jabref.logic.ai;
 
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 
@@ -63,7 +64,8 @@ public class AiService implements AutoCloseable {
                      FilePreferences filePreferences,
                      CitationKeyPatternPreferences citationKeyPatternPreferences,
                      NotificationService notificationService,
-                     TaskExecutor taskExecutor
+                     TaskExecutor taskExecutor,
+                     Executor uiExecutor
     ) {
 
         this.mvStoreChatHistoryStorage = new MVStoreChatHistoryStorage(Directories.getAiFilesDirectory().resolve(CHAT_HISTORY_FILE_NAME), notificationService);
@@ -84,7 +86,8 @@ public class AiService implements AutoCloseable {
                 mvStoreEmbeddingStore,
                 mvStoreFullyIngestedDocumentsTracker,
                 filePreferences,
-                taskExecutor
+                taskExecutor,
+                uiExecutor
         );
 
         this.summariesService = new SummariesService(
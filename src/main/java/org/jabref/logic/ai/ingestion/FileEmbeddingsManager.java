@@ -1,5 +1,7 @@
 package org.jabref.logic.ai.ingestion;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,11 +11,14 @@ import javafx.beans.property.ReadOnlyBooleanProperty;
 import org.jabref.logic.ai.AiPreferences;
 import org.jabref.model.entry.LinkedFile;
 
+import com.google.common.hash.Hashing;
+import com.google.common.io.MoreFiles;
 import dev.langchain4j.data.document.Document;
 import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.store.embedding.EmbeddingStore;
 import dev.langchain4j.store.embedding.filter.MetadataFilterBuilder;
+import jakarta.annotation.Nullable;
 
 /**
  * This class is responsible for managing the embeddings cache. The cache is saved in a local user directory.
@@ -24,6 +29,8 @@ import dev.langchain4j.store.embedding.filter.MetadataFilterBuilder;
  * In case an error occurs while opening an MVStore, the class will notify the user of this error and continue
  * with in-memory store (meaning all embeddings will be thrown away on exit).
  * <p>
+ * The embeddings of a file are reused for other files with the same content, identified by {@link #getContentKey(Path)}.
+ * <p>
  * This class also listens for changes of embeddings parameters (in AI "Expert settings" section). In case any of them
  * changes, the embeddings should be invalidated (cleared).
  */
@@ -33,14 +40,14 @@ public class FileEmbeddingsManager {
     private final AiPreferences aiPreferences;
     private final ReadOnlyBooleanProperty shutdownSignal;
 
-    private final EmbeddingStore<TextSegment> embeddingStore;
+    private final MVStoreEmbeddingStore embeddingStore;
     private final FullyIngestedDocumentsTracker fullyIngestedDocumentsTracker;
     private final LowLevelIngestor lowLevelIngestor;
 
     public FileEmbeddingsManager(AiPreferences aiPreferences,
                                  ReadOnlyBooleanProperty shutdownSignal,
                                  EmbeddingModel embeddingModel,
-                                 EmbeddingStore<TextSegment> embeddingStore,
+                                 MVStoreEmbeddingStore embeddingStore,
                                  FullyIngestedDocumentsTracker fullyIngestedDocumentsTracker
     ) {
         this.aiPreferences = aiPreferences;
@@ -56,12 +63,52 @@ public class FileEmbeddingsManager {
         aiPreferences.addListenerToEmbeddingsParametersChange(embeddingStore::removeAll);
     }
 
-    public void addDocument(String link, Document document, long modificationTimeInSeconds, IntegerProperty workDone, IntegerProperty workMax) throws InterruptedException {
+    /**
+     * Identifies the content of the file together with the settings the embeddings depend on
+     */
+    public String getContentKey(Path path) throws IOException {
+        String hash = MoreFiles.asByteSource(path).hash(Hashing.sha256()).toString();
+        return String.join("|",
+                hash,
+                aiPreferences.getEmbeddingModel().name(),
+                String.valueOf(aiPreferences.getDocumentSplitterChunkSize()),
+                String.valueOf(aiPreferences.getDocumentSplitterOverlapSize()));
+    }
+
+    /**
+     * Copies the embeddings of another fully ingested document with the same content
+     *
+     * @return false if there is no such document
+     */
+    public boolean reuseEmbeddings(String link, String contentKey, long modificationTimeInSeconds) {
+        Optional<String> source = fullyIngestedDocumentsTracker.findFullyIngestedDocumentWithContent(contentKey)
+                                                               .filter(sourceLink -> !sourceLink.equals(link));
+        if (source.isEmpty()) {
+            return false;
+        }
+
+        embeddingStore.removeAll(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo(link));
+        embeddingStore.copyEmbeddings(source.get(), link);
+        fullyIngestedDocumentsTracker.markDocumentAsFullyIngested(link, modificationTimeInSeconds, contentKey);
+        return true;
+    }
+
+    /**
+     * @param contentKey the key returned by {@link #getContentKey(Path)}, null if it could not be determined
+     */
+    public void addDocument(String link, Document document, long modificationTimeInSeconds, @Nullable String contentKey, IntegerProperty workDone, IntegerProperty workMax) throws InterruptedException {
+        // Embeddings of a previous version of the document
+        embeddingStore.removeAll(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo(link));
+
         document.metadata().put(LINK_METADATA_KEY, link);
         lowLevelIngestor.ingestDocument(document, shutdownSignal, workDone, workMax);
 
         if (!shutdownSignal.get()) {
-            fullyIngestedDocumentsTracker.markDocumentAsFullyIngested(link, modificationTimeInSeconds);
+            if (contentKey == null) {
+                fullyIngestedDocumentsTracker.markDocumentAsFullyIngested(link, modificationTimeInSeconds);
+            } else {
+                fullyIngestedDocumentsTracker.markDocumentAsFullyIngested(link, modificationTimeInSeconds, contentKey);
+            }
         }
     }
 
@@ -6,10 +6,19 @@ import java.util.Optional;
  * This class is responsible for recording the information about which documents (or documents) have been fully ingested.
  * <p>
  * The class also records the document modification time.
+ * Optionally, a key identifying the content of the document can be recorded, so that the embeddings of a document can be reused
+ * for another document with the same content (e.g., a moved or copied file).
  */
 public interface FullyIngestedDocumentsTracker {
     void markDocumentAsFullyIngested(String link, long modificationTimeInSeconds);
 
+    void markDocumentAsFullyIngested(String link, long modificationTimeInSeconds, String contentKey);
+
+    /**
+     * @return the link of a fully ingested document recorded with the given content key
+     */
+    Optional<String> findFullyIngestedDocumentWithContent(String contentKey);
+
     Optional<Long> getIngestedDocumentModificationTimeInSeconds(String link);
 
     void unmarkDocumentAsFullyIngested(String link);
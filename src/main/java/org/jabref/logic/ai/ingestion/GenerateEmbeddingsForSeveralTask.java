@@ -1,20 +1,16 @@
 package org.jabref.logic.ai.ingestion;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.Future;
+import java.util.concurrent.Executor;
 
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.StringProperty;
-import javafx.util.Pair;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.ai.processingstatus.ProcessingInfo;
-import org.jabref.logic.ai.processingstatus.ProcessingState;
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.util.BackgroundTask;
 import org.jabref.logic.util.ProgressCounter;
-import org.jabref.logic.util.TaskExecutor;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.LinkedFile;
 
@@ -25,6 +21,8 @@ import org.slf4j.LoggerFactory;
  * This task generates embeddings for several {@link LinkedFile} (typically used for groups).
  * It will check if embeddings were already generated.
  * And it also will store the embeddings.
+ * <p>
+ * The files are processed by an {@link IngestionPipeline}, which uses its own workers instead of the {@link org.jabref.logic.util.TaskExecutor}.
  */
 public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
     private static final Logger LOGGER = LoggerFactory.getLogger(GenerateEmbeddingsForSeveralTask.class);
@@ -34,29 +32,28 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
     private final FileEmbeddingsManager fileEmbeddingsManager;
     private final BibDatabaseContext bibDatabaseContext;
     private final FilePreferences filePreferences;
-    private final TaskExecutor taskExecutor;
     private final ReadOnlyBooleanProperty shutdownSignal;
+    private final Executor stateExecutor;
+    private final IngestionPipeline ingestionPipeline = new IngestionPipeline(IngestionPipeline.DEFAULT_WORKERS, IngestionPipeline.DEFAULT_WORKERS);
 
     private final ProgressCounter progressCounter = new ProgressCounter();
 
-    private String currentFile = "";
-
     public GenerateEmbeddingsForSeveralTask(
             StringProperty groupName,
             List<ProcessingInfo<LinkedFile, Void>> linkedFiles,
             FileEmbeddingsManager fileEmbeddingsManager,
             BibDatabaseContext bibDatabaseContext,
             FilePreferences filePreferences,
-            TaskExecutor taskExecutor,
-            ReadOnlyBooleanProperty shutdownSignal
+            ReadOnlyBooleanProperty shutdownSignal,
+            Executor stateExecutor
     ) {
         this.groupName = groupName;
         this.linkedFiles = linkedFiles;
         this.fileEmbeddingsManager = fileEmbeddingsManager;
         this.bibDatabaseContext = bibDatabaseContext;
         this.filePreferences = filePreferences;
-        this.taskExecutor = taskExecutor;
         this.shutdownSignal = shutdownSignal;
+        this.stateExecutor = stateExecutor;
 
         configure(groupName);
     }
@@ -75,33 +72,12 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
     public Void call() throws Exception {
         LOGGER.debug("Starting embeddings generation of several files for {}", groupName.get());
 
-        List<Pair<? extends Future<?>, String>> futures = new ArrayList<>();
-
-        linkedFiles
-                .stream()
-                .map(processingInfo -> {
-                    processingInfo.setState(ProcessingState.PROCESSING);
-                    return new Pair<>(
-                            new GenerateEmbeddingsTask(
-                                    processingInfo.getObject(),
-                                    fileEmbeddingsManager,
-                                    bibDatabaseContext,
-                                    filePreferences,
-                                    shutdownSignal
-                            )
-                                    .showToUser(false)
-                                    .onSuccess(v -> processingInfo.setState(ProcessingState.SUCCESS))
-                                    .onFailure(processingInfo::setException)
-                                    .onFinished(() -> progressCounter.increaseWorkDone(1))
-                                    .executeWith(taskExecutor),
-                            processingInfo.getObject().getLink());
-                })
-                .forEach(futures::add);
-
-        for (Pair<? extends Future<?>, String> pair : futures) {
-            currentFile = pair.getValue();
-            pair.getKey().get();
-        }
+        ingestionPipeline.run(
+                linkedFiles,
+                linkedFile -> new GenerateEmbeddingsTask(linkedFile, fileEmbeddingsManager, bibDatabaseContext, filePreferences, shutdownSignal),
+                stateExecutor,
+                () -> progressCounter.increaseWorkDone(1),
+                shutdownSignal);
 
         LOGGER.debug("Finished embeddings generation task of several files for {}", groupName.get());
         progressCounter.stop();
@@ -110,6 +86,6 @@ public class GenerateEmbeddingsForSeveralTask extends BackgroundTask<Void> {
 
     private void updateProgress() {
         updateProgress(progressCounter.getWorkDone(), progressCounter.getWorkMax());
-        updateMessage(progressCounter.getMessage() + " - " + currentFile + ", ...");
+        updateMessage(progressCounter.getMessage());
     }
 }
@@ -17,6 +17,7 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.LinkedFile;
 
 import dev.langchain4j.data.document.Document;
+import jakarta.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,10 +25,15 @@ import org.slf4j.LoggerFactory;
  * This task generates embeddings for a {@link LinkedFile}.
  * It will check if embeddings were already generated.
  * And it also will store the embeddings.
+ * <p>
+ * The work is split into {@link #extractDocument()} and {@link #ingestDocument(ExtractedDocument)}, so that {@link IngestionPipeline}
+ * can run the steps for different files in parallel.
  */
 public class GenerateEmbeddingsTask extends BackgroundTask<Void> {
     private static final Logger LOGGER = LoggerFactory.getLogger(GenerateEmbeddingsTask.class);
 
+    record ExtractedDocument(Document document, long modificationTimeInSeconds, @Nullable String contentKey) { }
+
     private final LinkedFile linkedFile;
     private final FileEmbeddingsManager fileEmbeddingsManager;
     private final BibDatabaseContext bibDatabaseContext;
@@ -63,7 +69,10 @@ public class GenerateEmbeddingsTask extends BackgroundTask<Void> {
         LOGGER.debug("Starting embeddings generation task for file \"{}\"", linkedFile.getLink());
 
         try {
-            ingestLinkedFile(linkedFile);
+            Optional<ExtractedDocument> document = extractDocument();
+            if (document.isPresent()) {
+                ingestDocument(document.get());
+            }
         } catch (InterruptedException e) {
             LOGGER.debug("There is a embeddings generation task for file \"{}\". It will be cancelled, because user quits JabRef.", linkedFile.getLink());
         }
@@ -73,7 +82,14 @@ public class GenerateEmbeddingsTask extends BackgroundTask<Void> {
         return null;
     }
 
-    private void ingestLinkedFile(LinkedFile linkedFile) throws InterruptedException {
+    /**
+     * Reads the text of the linked file
+     *
+     * If another file with the same content was already ingested, its embeddings are copied instead.
+     *
+     * @return the text, empty if the embeddings of the file are up to date
+     */
+    Optional<ExtractedDocument> extractDocument() {
         // Rationale for RuntimeException here:
         // See org.jabref.logic.ai.summarization.GenerateSummaryTask.summarizeAll
 
@@ -113,17 +129,31 @@ public class GenerateEmbeddingsTask extends BackgroundTask<Void> {
         }
 
         if (!shouldIngest) {
-            return;
+            return Optional.empty();
+        }
+
+        String contentKey = null;
+        try {
+            contentKey = fileEmbeddingsManager.getContentKey(path.get());
+            if (fileEmbeddingsManager.reuseEmbeddings(linkedFile.getLink(), contentKey, modTime.orElse(0L))) {
+                LOGGER.debug("Reused the embeddings of a file with the same content for file \"{}\"", linkedFile.getLink());
+                return Optional.empty();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not compute the content hash of linked file \"{}\"", linkedFile.getLink(), e);
         }
 
         Optional<Document> document = new FileToDocument(shutdownSignal).fromFile(path.get());
-        if (document.isPresent()) {
-            fileEmbeddingsManager.addDocument(linkedFile.getLink(), document.get(), modTime.orElse(0L), progressCounter.workDoneProperty(), progressCounter.workMaxProperty());
-            LOGGER.debug("Embeddings for file \"{}\" were generated successfully", linkedFile.getLink());
-        } else {
+        if (document.isEmpty()) {
             LOGGER.error("Unable to generate embeddings for file \"{}\", because JabRef was unable to extract text from the file", linkedFile.getLink());
             throw new RuntimeException(Localization.lang("Unable to generate embeddings for file '%0', because JabRef was unable to extract text from the file", linkedFile.getLink()));
         }
+        return Optional.of(new ExtractedDocument(document.get(), modTime.orElse(0L), contentKey));
+    }
+
+    void ingestDocument(ExtractedDocument document) throws InterruptedException {
+        fileEmbeddingsManager.addDocument(linkedFile.getLink(), document.document(), document.modificationTimeInSeconds(), document.contentKey(), progressCounter.workDoneProperty(), progressCounter.workMaxProperty());
+        LOGGER.debug("Embeddings for file \"{}\" were generated successfully", linkedFile.getLink());
     }
 
     private void updateProgress() {
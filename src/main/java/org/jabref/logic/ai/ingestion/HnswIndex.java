@@ -0,0 +1,408 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.IntPredicate;
+import java.util.function.Predicate;
+
+import jakarta.annotation.Nullable;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+
+/**
+ * A hierarchical navigable small world (HNSW) graph over the embeddings of {@link MVStoreEmbeddingStore}, which finds the most similar
+ * embeddings without comparing the query with each of them.
+ * See Malkov and Yashunin, <a href="https://arxiv.org/abs/1603.09320">Efficient and robust approximate nearest neighbor search using Hierarchical Navigable Small World graphs</a>.
+ * <p>
+ * The graph is stored in the same {@link MVStore} as the embeddings, so it is committed together with them.
+ * The vectors are not part of the graph, they are read through the given function as {@link QuantizedVector}s.
+ * On removal of a node, its neighbours are linked with each other, so that the graph stays navigable.
+ * <p>
+ * Each node has an int ordinal, and each file a node was generated from as well. The nodes are stored as byte arrays holding these
+ * ordinals, so that a node on level zero takes about as much space as 32 ints instead of 32 serialized ids.
+ */
+class HnswIndex {
+
+    private static final String NODES_MAP_NAME = "embeddingsGraphNodes";
+    private static final String IDS_MAP_NAME = "embeddingsGraphIds";
+    private static final String ORDINALS_MAP_NAME = "embeddingsGraphOrdinals";
+    private static final String FILES_MAP_NAME = "embeddingsGraphFiles";
+    private static final String FILE_ORDINALS_MAP_NAME = "embeddingsGraphFileOrdinals";
+    private static final String META_MAP_NAME = "embeddingsGraphMeta";
+    private static final String ENTRY_POINT_KEY = "entryPoint";
+    private static final String NEXT_ORDINAL_KEY = "nextOrdinal";
+    private static final String NEXT_FILE_ORDINAL_KEY = "nextFileOrdinal";
+
+    // Maps of the first version of the graph, which stored the ids of the neighbours as Java-serialized strings
+    private static final List<String> FORMER_MAP_NAMES = List.of("embeddingsIndexNodes", "embeddingsIndexMeta");
+
+    // File ordinal of nodes not generated from a file
+    private static final int NO_FILE = -1;
+
+    private static final int MAX_NEIGHBOURS = 16;
+    private static final int MAX_NEIGHBOURS_LEVEL_ZERO = 2 * MAX_NEIGHBOURS;
+    private static final int EF_CONSTRUCTION = 100;
+    private static final int EF_SEARCH = 64;
+    // If only few nodes pass the filter, the search would visit the whole graph
+    private static final int MAX_VISITED_PER_RESULT = 64;
+    private static final double LEVEL_MULTIPLIER = 1 / Math.log(MAX_NEIGHBOURS);
+
+    private static final Comparator<Candidate> BY_SIMILARITY = Comparator.comparingDouble(Candidate::similarity);
+
+    // neighbours[level] holds the ordinals of the neighbours on that level
+    private record Node(int file, int[][] neighbours) {
+        int level() {
+            return neighbours.length - 1;
+        }
+
+        /**
+         * Layout: file ordinal, number of levels, then for each level the number of neighbours followed by their ordinals
+         */
+        byte[] encode() {
+            int size = Integer.BYTES + Byte.BYTES;
+            for (int[] levelNeighbours : neighbours) {
+                size += Byte.BYTES + (levelNeighbours.length * Integer.BYTES);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(size);
+            buffer.putInt(file);
+            buffer.put((byte) neighbours.length);
+            for (int[] levelNeighbours : neighbours) {
+                buffer.put((byte) levelNeighbours.length);
+                for (int neighbour : levelNeighbours) {
+                    buffer.putInt(neighbour);
+                }
+            }
+            return buffer.array();
+        }
+
+        static Node decode(byte[] bytes) {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            int file = buffer.getInt();
+            int[][] neighbours = new int[buffer.get()][];
+            for (int level = 0; level < neighbours.length; level++) {
+                neighbours[level] = new int[buffer.get()];
+                for (int i = 0; i < neighbours[level].length; i++) {
+                    neighbours[level][i] = buffer.getInt();
+                }
+            }
+            return new Node(file, neighbours);
+        }
+    }
+
+    private record Candidate(int ordinal, Node node, double similarity) { }
+
+    private record Neighbour(int ordinal, double similarity) { }
+
+    record Match(String id, double cosineSimilarity) { }
+
+    private final MVMap<Integer, byte[]> nodes;
+    private final MVMap<Integer, String> ids;
+    private final MVMap<String, Integer> ordinals;
+    private final MVMap<Integer, String> files;
+    private final MVMap<String, Integer> fileOrdinals;
+    private final MVMap<String, Integer> meta;
+    private final Function<String, byte[]> vectors;
+    private final Random random = new Random();
+
+    /**
+     * @param vectors returns the quantized vector of the embedding with the given id, null if there is none
+     */
+    HnswIndex(MVStore mvStore, Function<String, byte[]> vectors) {
+        // The former graph is rebuilt in the background by the store, as all embeddings are missing in the new one
+        FORMER_MAP_NAMES.stream().filter(mvStore::hasMap).forEach(mvStore::removeMap);
+
+        this.nodes = mvStore.openMap(NODES_MAP_NAME);
+        this.ids = mvStore.openMap(IDS_MAP_NAME);
+        this.ordinals = mvStore.openMap(ORDINALS_MAP_NAME);
+        this.files = mvStore.openMap(FILES_MAP_NAME);
+        this.fileOrdinals = mvStore.openMap(FILE_ORDINALS_MAP_NAME);
+        this.meta = mvStore.openMap(META_MAP_NAME);
+        this.vectors = vectors;
+    }
+
+    synchronized int size() {
+        return nodes.size();
+    }
+
+    synchronized boolean contains(String id) {
+        return ordinals.containsKey(id);
+    }
+
+    synchronized void add(String id, @Nullable String file, float[] vector) {
+        if (ordinals.containsKey(id)) {
+            remove(id);
+        }
+
+        int ordinal = nextOrdinal(NEXT_ORDINAL_KEY);
+        ids.put(ordinal, id);
+        ordinals.put(id, ordinal);
+
+        int level = (int) (-Math.log(1 - random.nextDouble()) * LEVEL_MULTIPLIER);
+        int[][] neighbours = new int[level + 1][];
+        Arrays.fill(neighbours, new int[0]);
+
+        Integer entryPointOrdinal = meta.get(ENTRY_POINT_KEY);
+        Node entryPoint = entryPointOrdinal == null ? null : node(entryPointOrdinal);
+        if (entryPoint == null) {
+            nodes.put(ordinal, new Node(fileOrdinal(file), neighbours).encode());
+            meta.put(ENTRY_POINT_KEY, ordinal);
+            return;
+        }
+
+        List<Candidate> closest = descend(vector, new Candidate(entryPointOrdinal, entryPoint, similarity(vector, entryPointOrdinal)), level);
+        for (int currentLevel = Math.min(level, entryPoint.level()); currentLevel >= 0; currentLevel--) {
+            closest = searchLevel(vector, closest, EF_CONSTRUCTION, currentLevel, null, Integer.MAX_VALUE);
+            neighbours[currentLevel] = closest.stream()
+                                              .limit(maxNeighbours(currentLevel))
+                                              .mapToInt(Candidate::ordinal)
+                                              .toArray();
+        }
+
+        nodes.put(ordinal, new Node(fileOrdinal(file), neighbours).encode());
+        for (int currentLevel = 0; currentLevel <= level; currentLevel++) {
+            for (int neighbour : neighbours[currentLevel]) {
+                link(neighbour, ordinal, currentLevel);
+            }
+        }
+        if (level > entryPoint.level()) {
+            meta.put(ENTRY_POINT_KEY, ordinal);
+        }
+    }
+
+    synchronized void remove(String id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        ids.remove(ordinal);
+        byte[] encoded = nodes.remove(ordinal);
+        if (encoded == null) {
+            return;
+        }
+        Node removed = Node.decode(encoded);
+
+        for (int level = 0; level <= removed.level(); level++) {
+            for (int neighbourOrdinal : removed.neighbours()[level]) {
+                Node neighbour = node(neighbourOrdinal);
+                if ((neighbour == null) || (neighbour.level() < level)) {
+                    continue;
+                }
+                Set<Integer> candidates = new LinkedHashSet<>();
+                Arrays.stream(neighbour.neighbours()[level]).forEach(candidates::add);
+                Arrays.stream(removed.neighbours()[level]).forEach(candidates::add);
+                candidates.remove(ordinal);
+                candidates.remove(neighbourOrdinal);
+                setNeighbours(neighbourOrdinal, neighbour, level, closestTo(neighbourOrdinal, candidates, maxNeighbours(level)));
+            }
+        }
+
+        if (ordinal.equals(meta.get(ENTRY_POINT_KEY))) {
+            // The neighbour on the highest level is not necessarily on the highest level of the graph, but keeps the graph reachable
+            Integer newEntryPoint = null;
+            for (int level = removed.level(); (level >= 0) && (newEntryPoint == null); level--) {
+                newEntryPoint = Arrays.stream(removed.neighbours()[level]).filter(nodes::containsKey).boxed().findFirst().orElse(null);
+            }
+            if (newEntryPoint == null) {
+                newEntryPoint = nodes.firstKey();
+            }
+            if (newEntryPoint == null) {
+                meta.remove(ENTRY_POINT_KEY);
+            } else {
+                meta.put(ENTRY_POINT_KEY, newEntryPoint);
+            }
+        }
+    }
+
+    synchronized void clear() {
+        nodes.clear();
+        ids.clear();
+        ordinals.clear();
+        files.clear();
+        fileOrdinals.clear();
+        meta.clear();
+    }
+
+    /**
+     * Finds the embeddings most similar to the query.
+     *
+     * @param fileFilter decides which files the returned embeddings may be generated from
+     * @return at most maxResults matches, the most similar first. If only few embeddings pass the filter, fewer matches may be returned
+     *         although there are more.
+     */
+    synchronized List<Match> search(float[] query, int maxResults, Predicate<String> fileFilter) {
+        Integer entryPointOrdinal = meta.get(ENTRY_POINT_KEY);
+        Node entryPoint = entryPointOrdinal == null ? null : node(entryPointOrdinal);
+        if (entryPoint == null) {
+            return List.of();
+        }
+
+        // Each file is looked up and tested once per search
+        Map<Integer, Boolean> acceptedFiles = new HashMap<>();
+        IntPredicate fileOrdinalFilter = fileOrdinal -> acceptedFiles.computeIfAbsent(fileOrdinal,
+                key -> fileFilter.test(key == NO_FILE ? null : files.get(key)));
+
+        List<Candidate> closest = descend(query, new Candidate(entryPointOrdinal, entryPoint, similarity(query, entryPointOrdinal)), 0);
+        int ef = Math.max(EF_SEARCH, maxResults);
+        return searchLevel(query, closest, ef, 0, fileOrdinalFilter, ef * MAX_VISITED_PER_RESULT)
+                .stream()
+                .limit(maxResults)
+                .map(candidate -> new Match(ids.get(candidate.ordinal()), candidate.similarity()))
+                .toList();
+    }
+
+    /**
+     * Greedily walks from the entry point down to the given level, taking the most similar node on each level
+     */
+    private List<Candidate> descend(float[] query, Candidate entryPoint, int targetLevel) {
+        List<Candidate> closest = List.of(entryPoint);
+        for (int level = entryPoint.node().level(); level > targetLevel; level--) {
+            closest = searchLevel(query, closest, 1, level, null, Integer.MAX_VALUE);
+        }
+        return closest;
+    }
+
+    /**
+     * Searches the nodes on one level, starting from the given nodes.
+     *
+     * @param fileFilter restricts the nodes returned, but not the nodes visited. Null to return any node.
+     * @return at most ef nodes, the most similar first
+     */
+    private List<Candidate> searchLevel(float[] query, List<Candidate> start, int ef, int level, @Nullable IntPredicate fileFilter, int maxVisited) {
+        Set<Integer> visited = new HashSet<>();
+        PriorityQueue<Candidate> candidates = new PriorityQueue<>(BY_SIMILARITY.reversed());
+        PriorityQueue<Candidate> results = new PriorityQueue<>(BY_SIMILARITY);
+        for (Candidate candidate : start) {
+            visited.add(candidate.ordinal());
+            candidates.add(candidate);
+            if ((fileFilter == null) || fileFilter.test(candidate.node().file())) {
+                results.add(candidate);
+            }
+        }
+
+        while (!candidates.isEmpty() && (visited.size() < maxVisited)) {
+            Candidate current = candidates.poll();
+            if ((results.size() >= ef) && (current.similarity() < results.peek().similarity())) {
+                break;
+            }
+            if (current.node().level() < level) {
+                continue;
+            }
+            for (int neighbourOrdinal : current.node().neighbours()[level]) {
+                if (!visited.add(neighbourOrdinal)) {
+                    continue;
+                }
+                Node neighbour = node(neighbourOrdinal);
+                byte[] vector = vector(neighbourOrdinal);
+                if ((neighbour == null) || (vector == null)) {
+                    // Link to a removed node
+                    continue;
+                }
+                double similarity = QuantizedVector.cosineSimilarity(query, vector);
+                if ((results.size() < ef) || (similarity > results.peek().similarity())) {
+                    Candidate candidate = new Candidate(neighbourOrdinal, neighbour, similarity);
+                    candidates.add(candidate);
+                    if ((fileFilter == null) || fileFilter.test(neighbour.file())) {
+                        results.add(candidate);
+                        if (results.size() > ef) {
+                            results.poll();
+                        }
+                    }
+                }
+            }
+        }
+
+        List<Candidate> sorted = new ArrayList<>(results);
+        sorted.sort(BY_SIMILARITY.reversed());
+        return sorted;
+    }
+
+    /**
+     * Adds a link from the node to the new neighbour, dropping the least similar neighbour if there are too many
+     */
+    private void link(int ordinal, int newNeighbour, int level) {
+        Node node = node(ordinal);
+        if ((node == null) || (node.level() < level)) {
+            return;
+        }
+        Set<Integer> candidates = new LinkedHashSet<>();
+        Arrays.stream(node.neighbours()[level]).forEach(candidates::add);
+        candidates.add(newNeighbour);
+        if (candidates.size() > maxNeighbours(level)) {
+            setNeighbours(ordinal, node, level, closestTo(ordinal, candidates, maxNeighbours(level)));
+        } else {
+            setNeighbours(ordinal, node, level, candidates.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+
+    private void setNeighbours(int ordinal, Node node, int level, int[] neighbours) {
+        int[][] allNeighbours = node.neighbours().clone();
+        allNeighbours[level] = neighbours;
+        nodes.put(ordinal, new Node(node.file(), allNeighbours).encode());
+    }
+
+    private int[] closestTo(int ordinal, Set<Integer> candidates, int limit) {
+        byte[] quantized = vector(ordinal);
+        if (quantized == null) {
+            return candidates.stream().limit(limit).mapToInt(Integer::intValue).toArray();
+        }
+        float[] vector = QuantizedVector.dequantize(quantized);
+        return candidates.stream()
+                         .filter(candidate -> vector(candidate) != null)
+                         .map(candidate -> new Neighbour(candidate, similarity(vector, candidate)))
+                         .sorted(Comparator.comparingDouble(Neighbour::similarity).reversed())
+                         .limit(limit)
+                         .mapToInt(Neighbour::ordinal)
+                         .toArray();
+    }
+
+    private double similarity(float[] query, int ordinal) {
+        byte[] vector = vector(ordinal);
+        return vector == null ? -1 : QuantizedVector.cosineSimilarity(query, vector);
+    }
+
+    @Nullable
+    private Node node(int ordinal) {
+        byte[] encoded = nodes.get(ordinal);
+        return encoded == null ? null : Node.decode(encoded);
+    }
+
+    @Nullable
+    private byte[] vector(int ordinal) {
+        String id = ids.get(ordinal);
+        return id == null ? null : vectors.apply(id);
+    }
+
+    private int fileOrdinal(@Nullable String file) {
+        if (file == null) {
+            return NO_FILE;
+        }
+        Integer fileOrdinal = fileOrdinals.get(file);
+        if (fileOrdinal == null) {
+            fileOrdinal = nextOrdinal(NEXT_FILE_ORDINAL_KEY);
+            fileOrdinals.put(file, fileOrdinal);
+            files.put(fileOrdinal, file);
+        }
+        return fileOrdinal;
+    }
+
+    private int nextOrdinal(String key) {
+        int next = meta.getOrDefault(key, 0);
+        meta.put(key, next + 1);
+        return next;
+    }
+
+    private static int maxNeighbours(int level) {
+        return level == 0 ? MAX_NEIGHBOURS_LEVEL_ZERO : MAX_NEIGHBOURS;
+    }
+}
@@ -0,0 +1,142 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javafx.beans.property.ReadOnlyBooleanProperty;
+
+import org.jabref.logic.ai.processingstatus.ProcessingInfo;
+import org.jabref.logic.ai.processingstatus.ProcessingState;
+import org.jabref.model.entry.LinkedFile;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Generates the embeddings of several files in two stages: extracting the text of the files and embedding it.
+ * Each stage has its own workers, so that the text of the next files is extracted while the previous ones are embedded.
+ * <p>
+ * Extracted documents are kept in memory until they are embedded. To bound the memory used, only a limited number of files is
+ * extracted ahead of the embedding stage (backpressure).
+ * <p>
+ * The states of the files are set through the given state executor (e.g., on the JavaFX thread, as the UI listens to them).
+ */
+class IngestionPipeline {
+    static final int DEFAULT_WORKERS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(IngestionPipeline.class);
+
+    private static final int FILES_AHEAD_PER_EMBEDDING_WORKER = 2;
+
+    private final int extractionWorkers;
+    private final int embeddingWorkers;
+
+    IngestionPipeline(int extractionWorkers, int embeddingWorkers) {
+        this.extractionWorkers = extractionWorkers;
+        this.embeddingWorkers = embeddingWorkers;
+    }
+
+    /**
+     * Processes the files and sets their states. Returns after all files were processed and their final states were set.
+     *
+     * @param taskFactory    creates the task generating the embeddings of one file. The task is not executed, only its steps are called.
+     * @param stateExecutor  runs the changes of the states of the files, in the order they were submitted
+     * @param onFileFinished called through the state executor after each file, with or without success
+     */
+    void run(List<ProcessingInfo<LinkedFile, Void>> linkedFiles,
+             Function<LinkedFile, GenerateEmbeddingsTask> taskFactory,
+             Executor stateExecutor,
+             Runnable onFileFinished,
+             ReadOnlyBooleanProperty shutdownSignal) throws InterruptedException {
+        ExecutorService extractors = Executors.newFixedThreadPool(extractionWorkers,
+                new ThreadFactoryBuilder().setNameFormat("ai-ingestion-extraction-%d").setDaemon(true).build());
+        ExecutorService embedders = Executors.newFixedThreadPool(embeddingWorkers,
+                new ThreadFactoryBuilder().setNameFormat("ai-ingestion-embedding-%d").setDaemon(true).build());
+        Semaphore filesInProgress = new Semaphore(embeddingWorkers * FILES_AHEAD_PER_EMBEDDING_WORKER + extractionWorkers);
+
+        AtomicInteger ingestedFiles = new AtomicInteger();
+        AtomicLong ingestedCharacters = new AtomicLong();
+        long start = System.nanoTime();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        try {
+            for (ProcessingInfo<LinkedFile, Void> processingInfo : linkedFiles) {
+                filesInProgress.acquire();
+                // Checked after waiting for a free place, as JabRef may have been shut down in the meantime
+                if (shutdownSignal.get()) {
+                    filesInProgress.release();
+                    break;
+                }
+
+                stateExecutor.execute(() -> processingInfo.setState(ProcessingState.PROCESSING));
+                GenerateEmbeddingsTask task = taskFactory.apply(processingInfo.getObject());
+                futures.add(CompletableFuture
+                        .supplyAsync(task::extractDocument, extractors)
+                        .thenAcceptAsync(document -> ingest(task, document, ingestedFiles, ingestedCharacters), embedders)
+                        .handle((result, throwable) -> {
+                            filesInProgress.release();
+                            return Optional.ofNullable(throwable);
+                        })
+                        // Joining this stage waits until the final state is set
+                        .thenAcceptAsync(throwable -> {
+                            throwable.ifPresentOrElse(
+                                    exception -> processingInfo.setException(unwrap(exception)),
+                                    () -> processingInfo.setState(ProcessingState.SUCCESS));
+                            onFileFinished.run();
+                        }, stateExecutor));
+            }
+
+            for (CompletableFuture<Void> future : futures) {
+                try {
+                    future.join();
+                } catch (CompletionException e) {
+                    LOGGER.warn("Could not set the state of an ingested file", e);
+                }
+            }
+        } finally {
+            extractors.shutdownNow();
+            embedders.shutdownNow();
+        }
+
+        Duration duration = Duration.ofNanos(System.nanoTime() - start);
+        double seconds = Math.max(duration.toMillis(), 1) / 1000.0;
+        LOGGER.info("Generated embeddings for {} of {} files ({} characters) in {} s: {} files/s, {} characters/s",
+                ingestedFiles.get(),
+                linkedFiles.size(),
+                ingestedCharacters.get(),
+                String.format("%.1f", seconds),
+                String.format("%.2f", ingestedFiles.get() / seconds),
+                String.format("%.0f", ingestedCharacters.get() / seconds));
+    }
+
+    private static void ingest(GenerateEmbeddingsTask task, Optional<GenerateEmbeddingsTask.ExtractedDocument> document, AtomicInteger ingestedFiles, AtomicLong ingestedCharacters) {
+        if (document.isEmpty()) {
+            return;
+        }
+        try {
+            task.ingestDocument(document.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        ingestedFiles.incrementAndGet();
+        ingestedCharacters.addAndGet(document.get().document().text().length());
+    }
+
+    private static Exception unwrap(Throwable throwable) {
+        Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+        return cause instanceof Exception exception ? exception : new RuntimeException(cause);
+    }
+}
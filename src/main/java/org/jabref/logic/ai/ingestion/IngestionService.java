@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
 
 import javafx.beans.property.ReadOnlyBooleanProperty;
 import javafx.beans.property.StringProperty;
@@ -20,9 +21,7 @@ import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 
 import com.google.common.eventbus.Subscribe;
-import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
-import dev.langchain4j.store.embedding.EmbeddingStore;
 
 /**
  * Main class for generating embedding for files.
@@ -37,6 +36,8 @@ public class IngestionService {
     private final AiPreferences aiPreferences;
     private final FilePreferences filePreferences;
     private final TaskExecutor taskExecutor;
+    // Runs the changes of the processing states, which are observed by the UI
+    private final Executor stateExecutor;
 
     private final FileEmbeddingsManager fileEmbeddingsManager;
 
@@ -45,14 +46,16 @@ public class IngestionService {
     public IngestionService(AiPreferences aiPreferences,
                             ReadOnlyBooleanProperty shutdownSignal,
                             EmbeddingModel embeddingModel,
-                            EmbeddingStore<TextSegment> embeddingStore,
+                            MVStoreEmbeddingStore embeddingStore,
                             FullyIngestedDocumentsTracker fullyIngestedDocumentsTracker,
                             FilePreferences filePreferences,
-                            TaskExecutor taskExecutor
+                            TaskExecutor taskExecutor,
+                            Executor stateExecutor
     ) {
         this.aiPreferences = aiPreferences;
         this.filePreferences = filePreferences;
         this.taskExecutor = taskExecutor;
+        this.stateExecutor = stateExecutor;
 
         this.fileEmbeddingsManager = new FileEmbeddingsManager(
                 aiPreferences,
@@ -152,7 +155,7 @@ public class IngestionService {
     private void startEmbeddingsGenerationTask(StringProperty groupName, List<ProcessingInfo<LinkedFile, Void>> linkedFiles, BibDatabaseContext bibDatabaseContext) {
         linkedFiles.forEach(processingInfo -> processingInfo.setState(ProcessingState.PROCESSING));
 
-        new GenerateEmbeddingsForSeveralTask(groupName, linkedFiles, fileEmbeddingsManager, bibDatabaseContext, filePreferences, taskExecutor, shutdownSignal)
+        new GenerateEmbeddingsForSeveralTask(groupName, linkedFiles, fileEmbeddingsManager, bibDatabaseContext, filePreferences, shutdownSignal, stateExecutor)
                 .executeWith(taskExecutor);
     }
 
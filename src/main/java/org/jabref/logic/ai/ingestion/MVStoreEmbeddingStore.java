@@ -8,20 +8,24 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.PriorityQueue;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.function.Predicate;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jabref.logic.ai.util.MVStoreBase;
 import org.jabref.logic.l10n.Localization;
+import org.jabref.logic.util.HeadlessExecutorService;
 import org.jabref.logic.util.NotificationService;
 
+import com.google.common.collect.Streams;
 import dev.langchain4j.data.document.Metadata;
 import dev.langchain4j.data.embedding.Embedding;
 import dev.langchain4j.data.segment.TextSegment;
-import dev.langchain4j.store.embedding.CosineSimilarity;
 import dev.langchain4j.store.embedding.EmbeddingMatch;
 import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
 import dev.langchain4j.store.embedding.EmbeddingSearchResult;
@@ -31,7 +35,10 @@ import dev.langchain4j.store.embedding.filter.Filter;
 import dev.langchain4j.store.embedding.filter.comparison.IsEqualTo;
 import dev.langchain4j.store.embedding.filter.comparison.IsIn;
 import jakarta.annotation.Nullable;
+import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static java.util.Comparator.comparingDouble;
 import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
@@ -41,20 +48,165 @@ import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_
  * <p>
  * Every embedding has 3 fields: float array (the embedding itself), file where it was generated from, and the embedded
  * string (the content).
+ * The vectors are stored as {@link QuantizedVector}s in their own map, so that comparing them needs neither the content nor
+ * Java deserialization.
  * <p>
+ * To find the embeddings of a file without reading all segments, the map of postings has a key for each embedding consisting of
+ * the file and the id of the embedding.
+ * <p>
+ * The embeddings are indexed by a {@link HnswIndex}, so that searching does not need to compare the query with each embedding.
+ * Embeddings stored by versions without the index are indexed in the background after opening the store. Until then, searching
+ * compares the query with each embedding.
+ * <p>
+ * Embeddings stored by versions keeping the vector together with the segment are converted in the background as well. Until then,
+ * reading or changing the embeddings waits for the conversion, opening the store does not.
  */
 public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore<TextSegment> {
     // `file` field is nullable, because {@link Optional} can't be serialized.
+    private record SegmentRecord(@Nullable String file, String content) implements Serializable { }
+
+    // Format of versions storing the vector together with the segment, only read for migration
     private record EmbeddingRecord(@Nullable String file, String content, float[] embeddingVector) implements Serializable { }
 
-    private static final String EMBEDDINGS_MAP_NAME = "embeddings";
+    private static final Logger LOGGER = LoggerFactory.getLogger(MVStoreEmbeddingStore.class);
+
+    private static final String LEGACY_EMBEDDINGS_MAP_NAME = "embeddings";
+    private static final String SEGMENTS_MAP_NAME = "embeddingSegments";
+    private static final String VECTORS_MAP_NAME = "embeddingVectors";
+    private static final String POSTINGS_MAP_NAME = "embeddingPostings";
+
+    // Separates the file from the id in the keys of the postings map. Cannot be part of a file name.
+    private static final char POSTING_SEPARATOR = '\u0000';
 
-    private final Map<String, EmbeddingRecord> embeddingsMap;
+    // Up to this number of embeddings passing the filter, they are compared with the query one by one instead of using the index
+    private static final int DEFAULT_EXHAUSTIVE_SEARCH_LIMIT = 10_000;
+
+    private final Map<String, SegmentRecord> segmentsMap;
+    private final Map<String, byte[]> vectorsMap;
+    private final MVMap<String, Boolean> postingsMap;
+    private final HnswIndex index;
+    private final int exhaustiveSearchLimit;
+    // Counted down when the embeddings of former versions are converted and have postings
+    private final CountDownLatch converted = new CountDownLatch(1);
+    // False while embeddings stored by versions without the index are being indexed in the background
+    private volatile boolean indexComplete;
+    // Guarded by the lock of the index, stops converting and indexing in the background
+    private boolean closed;
 
     public MVStoreEmbeddingStore(Path path, NotificationService dialogService) {
+        this(path, dialogService, DEFAULT_EXHAUSTIVE_SEARCH_LIMIT,
+                command -> HeadlessExecutorService.INSTANCE.executeInterruptableTask(command, "PrepareEmbeddings"));
+    }
+
+    /**
+     * @param backgroundExecutor runs the conversion and indexing of embeddings stored by former versions
+     */
+    MVStoreEmbeddingStore(Path path, NotificationService dialogService, int exhaustiveSearchLimit, Executor backgroundExecutor) {
         super(path, dialogService);
 
-        this.embeddingsMap = this.mvStore.openMap(EMBEDDINGS_MAP_NAME);
+        this.segmentsMap = this.mvStore.openMap(SEGMENTS_MAP_NAME);
+        this.vectorsMap = this.mvStore.openMap(VECTORS_MAP_NAME);
+        this.postingsMap = this.mvStore.openMap(POSTINGS_MAP_NAME);
+        this.index = new HnswIndex(this.mvStore, vectorsMap::get);
+        this.exhaustiveSearchLimit = exhaustiveSearchLimit;
+
+        boolean conversionNeeded = mvStore.hasMap(LEGACY_EMBEDDINGS_MAP_NAME) || (postingsMap.isEmpty() && !segmentsMap.isEmpty());
+        this.indexComplete = !conversionNeeded && (index.size() >= vectorsMap.size());
+        if (!conversionNeeded) {
+            converted.countDown();
+        }
+        if (!indexComplete) {
+            backgroundExecutor.execute(this::prepareEmbeddings);
+        }
+    }
+
+    private void prepareEmbeddings() {
+        try {
+            if (isClosed()) {
+                return;
+            }
+            migrateLegacyEmbeddings();
+            createMissingPostings();
+        } finally {
+            converted.countDown();
+        }
+        if (!isClosed()) {
+            indexMissingEmbeddings();
+        }
+    }
+
+    private boolean isClosed() {
+        synchronized (index) {
+            return closed;
+        }
+    }
+
+    private void awaitConversion() {
+        try {
+            converted.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Stores written before postings were introduced get them on opening
+     */
+    private void createMissingPostings() {
+        if (!postingsMap.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, SegmentRecord> segment : segmentsMap.entrySet()) {
+            synchronized (index) {
+                if (closed) {
+                    return;
+                }
+                if (segment.getValue().file != null) {
+                    postingsMap.put(postingKey(segment.getValue().file, segment.getKey()), Boolean.TRUE);
+                }
+            }
+        }
+    }
+
+    private static String postingKey(String file, String id) {
+        return file + POSTING_SEPARATOR + id;
+    }
+
+    private Stream<String> getIdsOfFile(String file) {
+        String prefix = file + POSTING_SEPARATOR;
+        return Streams.stream(postingsMap.keyIterator(prefix))
+                      .takeWhile(key -> key.startsWith(prefix))
+                      .map(key -> key.substring(prefix.length()));
+    }
+
+    /**
+     * Converts the embeddings of versions storing the vector together with the segment. If the store is closed before the conversion
+     * finished, it starts over on the next opening, as the former map is removed only at the end.
+     */
+    private void migrateLegacyEmbeddings() {
+        if (!mvStore.hasMap(LEGACY_EMBEDDINGS_MAP_NAME)) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        Map<String, EmbeddingRecord> legacyEmbeddingsMap = mvStore.openMap(LEGACY_EMBEDDINGS_MAP_NAME);
+        for (Map.Entry<String, EmbeddingRecord> legacyEmbedding : legacyEmbeddingsMap.entrySet()) {
+            synchronized (index) {
+                if (closed) {
+                    return;
+                }
+                EmbeddingRecord eRecord = legacyEmbedding.getValue();
+                segmentsMap.put(legacyEmbedding.getKey(), new SegmentRecord(eRecord.file, eRecord.content));
+                vectorsMap.put(legacyEmbedding.getKey(), QuantizedVector.quantize(eRecord.embeddingVector));
+            }
+        }
+        synchronized (index) {
+            if (closed) {
+                return;
+            }
+            mvStore.removeMap(LEGACY_EMBEDDINGS_MAP_NAME);
+            mvStore.commit();
+        }
+        LOGGER.debug("Converted stored embeddings in {} ms", System.currentTimeMillis() - startTime);
     }
 
     @Override
@@ -76,17 +228,42 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
     public void add(String id, Embedding embedding) {
         // It does not make much sense to store single embedding vector, but this is a requirement from langchain4j's
         // {@link EmbeddingStore}.
-        embeddingsMap.put(id, new EmbeddingRecord(null, "", embedding.vector()));
+        put(id, null, "", embedding.vector());
     }
 
     @Override
     public String add(Embedding embedding, TextSegment textSegment) {
         String id = String.valueOf(UUID.randomUUID());
         String linkedFile = textSegment.metadata().getString(LINK_METADATA_KEY);
-        embeddingsMap.put(id, new EmbeddingRecord(linkedFile, textSegment.text(), embedding.vector()));
+        put(id, linkedFile, textSegment.text(), embedding.vector());
         return id;
     }
 
+    /**
+     * Adds copies of the embeddings generated from a file as embeddings of another file with the same content
+     */
+    public void copyEmbeddings(String fromFile, String toFile) {
+        awaitConversion();
+        for (String id : getIdsOfFile(fromFile).toList()) {
+            SegmentRecord segment = segmentsMap.get(id);
+            byte[] vector = vectorsMap.get(id);
+            if ((segment != null) && (vector != null)) {
+                put(String.valueOf(UUID.randomUUID()), toFile, segment.content, QuantizedVector.dequantize(vector));
+            }
+        }
+    }
+
+    private void put(String id, @Nullable String file, String content, float[] vector) {
+        awaitConversion();
+        remove(id);
+        segmentsMap.put(id, new SegmentRecord(file, content));
+        vectorsMap.put(id, QuantizedVector.quantize(vector));
+        if (file != null) {
+            postingsMap.put(postingKey(file, id), Boolean.TRUE);
+        }
+        index.add(id, file, vector);
+    }
+
     @Override
     public List<String> addAll(List<Embedding> embeddings, List<TextSegment> embedded) {
         return IntStream.range(0, embeddings.size()).mapToObj(i -> add(embeddings.get(i), embedded.get(i))).toList();
@@ -94,18 +271,29 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
 
     @Override
     public void remove(String id) {
-        embeddingsMap.remove(id);
+        awaitConversion();
+        SegmentRecord segment = segmentsMap.remove(id);
+        if ((segment != null) && (segment.file != null)) {
+            postingsMap.remove(postingKey(segment.file, id));
+        }
+        vectorsMap.remove(id);
+        index.remove(id);
     }
 
     @Override
     public void removeAll(Filter filter) {
+        awaitConversion();
         List<String> idsToRemove = applyFilter(filter).toList();
         idsToRemove.forEach(this::remove);
     }
 
     @Override
     public void removeAll() {
-        embeddingsMap.clear();
+        awaitConversion();
+        segmentsMap.clear();
+        vectorsMap.clear();
+        postingsMap.clear();
+        index.clear();
     }
 
     /**
@@ -120,61 +308,147 @@ public class MVStoreEmbeddingStore extends MVStoreBase implements EmbeddingStore
      */
     @Override
     public EmbeddingSearchResult<TextSegment> search(EmbeddingSearchRequest request) {
-        // Source: {@link InMemoryEmbeddingStore}.
+        awaitConversion();
+        float[] query = request.queryEmbedding().vector();
+        Filter filter = request.filter();
+        List<HnswIndex.Match> matches;
+        List<String> filteredIds = filter == null ? List.of() : applyFilter(filter).limit(exhaustiveSearchLimit + 1L).toList();
+        if ((filter != null) && (filteredIds.size() <= exhaustiveSearchLimit)) {
+            matches = findMostSimilar(query, filteredIds.stream(), request.maxResults());
+        } else if (!indexComplete) {
+            matches = findMostSimilar(query, applyFilter(filter), request.maxResults());
+        } else {
+            matches = index.search(query, request.maxResults(), filePredicate(filter));
+            if (matches.size() < request.maxResults()) {
+                // Only few embeddings pass the filter, the index may have missed some of them
+                matches = findMostSimilar(query, applyFilter(filter), request.maxResults());
+            }
+        }
+
+        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>();
+        for (HnswIndex.Match match : matches) {
+            double score = RelevanceScore.fromCosineSimilarity(match.cosineSimilarity());
+            if (score >= request.minScore()) {
+                toEmbeddingMatch(match.id(), score).ifPresent(result::add);
+            }
+        }
+        return new EmbeddingSearchResult<>(result);
+    }
 
-        Comparator<EmbeddingMatch<TextSegment>> comparator = comparingDouble(EmbeddingMatch::score);
-        PriorityQueue<EmbeddingMatch<TextSegment>> matches = new PriorityQueue<>(comparator);
+    /**
+     * Compares the query with each of the given embeddings
+     *
+     * @return the most similar embeddings, the most similar first
+     */
+    private List<HnswIndex.Match> findMostSimilar(float[] query, Stream<String> ids, int maxResults) {
+        // Source: {@link InMemoryEmbeddingStore}.
 
-        applyFilter(request.filter()).forEach(id -> {
-            EmbeddingRecord eRecord = embeddingsMap.get(id);
+        Comparator<HnswIndex.Match> comparator = comparingDouble(HnswIndex.Match::cosineSimilarity);
+        PriorityQueue<HnswIndex.Match> matches = new PriorityQueue<>(comparator);
 
-            double cosineSimilarity = CosineSimilarity.between(Embedding.from(eRecord.embeddingVector), request.queryEmbedding());
-            double score = RelevanceScore.fromCosineSimilarity(cosineSimilarity);
+        ids.forEach(id -> {
+            byte[] vector = vectorsMap.get(id);
+            if (vector == null) {
+                return;
+            }
 
-            if (score >= request.minScore()) {
-                matches.add(
-                        new EmbeddingMatch<>(
-                                score,
-                                id,
-                                Embedding.from(eRecord.embeddingVector),
-                                new TextSegment(
-                                        eRecord.content,
-                                        new Metadata(
-                                                eRecord.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, eRecord.file)))));
-
-                if (matches.size() > request.maxResults()) {
-                    matches.poll();
-                }
+            matches.add(new HnswIndex.Match(id, QuantizedVector.cosineSimilarity(query, vector)));
+            if (matches.size() > maxResults) {
+                matches.poll();
             }
         });
 
-        List<EmbeddingMatch<TextSegment>> result = new ArrayList<>(matches);
+        List<HnswIndex.Match> result = new ArrayList<>(matches);
         result.sort(comparator.reversed());
+        return result;
+    }
 
-        return new EmbeddingSearchResult<>(result);
+    /**
+     * Note that the embedding of the match is restored from the quantized vector, thus it differs slightly from the one added
+     */
+    private Optional<EmbeddingMatch<TextSegment>> toEmbeddingMatch(String id, double score) {
+        SegmentRecord segment = segmentsMap.get(id);
+        byte[] vector = vectorsMap.get(id);
+        if ((segment == null) || (vector == null)) {
+            return Optional.empty();
+        }
+        return Optional.of(new EmbeddingMatch<>(
+                score,
+                id,
+                Embedding.from(QuantizedVector.dequantize(vector)),
+                new TextSegment(
+                        segment.content,
+                        new Metadata(
+                                segment.file == null ? Map.of() : Map.of(LINK_METADATA_KEY, segment.file)))));
+    }
+
+    /**
+     * Indexes the embeddings stored by versions without the index. Runs in the background, concurrently to adding and removing embeddings.
+     */
+    private void indexMissingEmbeddings() {
+        long startTime = System.currentTimeMillis();
+        for (String id : vectorsMap.keySet()) {
+            // Checking and adding under the lock of the index does not re-add an embedding removed in the meantime
+            synchronized (index) {
+                if (closed) {
+                    return;
+                }
+                byte[] vector = vectorsMap.get(id);
+                if ((vector != null) && !index.contains(id)) {
+                    index.add(id, Optional.ofNullable(segmentsMap.get(id)).map(SegmentRecord::file).orElse(null), QuantizedVector.dequantize(vector));
+                }
+            }
+        }
+        indexComplete = true;
+        LOGGER.debug("Indexed stored embeddings in {} ms", System.currentTimeMillis() - startTime);
     }
 
     @Override
     public void removeAll(Collection ids) {
-        embeddingsMap.entrySet().removeIf(entry -> ids.contains(entry.getKey()));
+        ids.forEach(id -> remove((String) id));
     }
 
     private Stream<String> applyFilter(@Nullable Filter filter) {
         return switch (filter) {
-            case null -> embeddingsMap.keySet().stream();
+            case null -> segmentsMap.keySet().stream();
+
+            case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
+                    isInFilter.comparisonValues().stream()
+                              .filter(String.class::isInstance)
+                              .map(String.class::cast)
+                              .distinct()
+                              .flatMap(this::getIdsOfFile);
+
+            case IsEqualTo isEqualToFilter when Objects.equals(isEqualToFilter.key(), LINK_METADATA_KEY) ->
+                    isEqualToFilter.comparisonValue() instanceof String file ? getIdsOfFile(file) : Stream.empty();
+
+            default -> throw new IllegalArgumentException("Wrong filter passed to MVStoreEmbeddingStore");
+        };
+    }
+
+    /**
+     * Converts the filter to a predicate on the file an embedding was generated from
+     */
+    private static Predicate<String> filePredicate(@Nullable Filter filter) {
+        return switch (filter) {
+            case null -> file -> true;
 
             case IsIn isInFilter when Objects.equals(isInFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isInFilter.comparisonValues().contains(entry.getValue().file));
+                    file -> isInFilter.comparisonValues().contains(file);
 
             case IsEqualTo isEqualToFilter when Objects.equals(isEqualToFilter.key(), LINK_METADATA_KEY) ->
-                    filterEntries(entry -> isEqualToFilter.comparisonValue().equals(entry.getValue().file));
+                    file -> isEqualToFilter.comparisonValue().equals(file);
 
             default -> throw new IllegalArgumentException("Wrong filter passed to MVStoreEmbeddingStore");
         };
     }
 
-    private Stream<String> filterEntries(Predicate<Map.Entry<String, EmbeddingRecord>> predicate) {
-        return embeddingsMap.entrySet().stream().filter(predicate).map(Map.Entry::getKey);
+    @Override
+    public void close() {
+        synchronized (index) {
+            closed = true;
+            super.close();
+        }
     }
 
     @Override
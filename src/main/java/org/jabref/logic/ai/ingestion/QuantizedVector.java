@@ -0,0 +1,60 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Stores embedding vectors with one byte per component instead of a float.
+ * <p>
+ * A quantized vector consists of the scale (a float, 4 bytes) followed by one signed byte per component.
+ * Component i of the original vector is approximately {@code scale * bytes[4 + i]}.
+ * As the cosine similarity does not depend on the length of the vectors, it is computed on the bytes directly.
+ */
+final class QuantizedVector {
+
+    private static final int SCALE_BYTES = Float.BYTES;
+    private static final int MAX_COMPONENT = Byte.MAX_VALUE;
+
+    private QuantizedVector() {
+    }
+
+    static byte[] quantize(float[] vector) {
+        float maxAbsolute = 0;
+        for (float component : vector) {
+            maxAbsolute = Math.max(maxAbsolute, Math.abs(component));
+        }
+        float scale = maxAbsolute == 0 ? 1 : maxAbsolute / MAX_COMPONENT;
+
+        ByteBuffer buffer = ByteBuffer.allocate(SCALE_BYTES + vector.length);
+        buffer.putFloat(scale);
+        for (float component : vector) {
+            buffer.put((byte) Math.round(component / scale));
+        }
+        return buffer.array();
+    }
+
+    static float[] dequantize(byte[] quantized) {
+        float scale = ByteBuffer.wrap(quantized).getFloat();
+        float[] vector = new float[quantized.length - SCALE_BYTES];
+        for (int i = 0; i < vector.length; i++) {
+            vector[i] = scale * quantized[SCALE_BYTES + i];
+        }
+        return vector;
+    }
+
+    static double cosineSimilarity(float[] query, byte[] quantized) {
+        double dotProduct = 0;
+        double queryNorm = 0;
+        long quantizedNorm = 0;
+        int dimension = Math.min(query.length, quantized.length - SCALE_BYTES);
+        for (int i = 0; i < dimension; i++) {
+            byte component = quantized[SCALE_BYTES + i];
+            dotProduct += query[i] * component;
+            queryNorm += query[i] * query[i];
+            quantizedNorm += component * component;
+        }
+        if ((queryNorm == 0) || (quantizedNorm == 0)) {
+            return 0;
+        }
+        return dotProduct / (Math.sqrt(queryNorm) * Math.sqrt(quantizedNorm));
+    }
+}
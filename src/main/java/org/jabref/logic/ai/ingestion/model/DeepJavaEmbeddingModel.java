@@ -3,6 +3,9 @@ package org.jabref.logic.ai.ingestion.model;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import ai.djl.MalformedModelException;
 import ai.djl.inference.Predictor;
@@ -15,22 +18,35 @@ import dev.langchain4j.data.segment.TextSegment;
 import dev.langchain4j.model.embedding.EmbeddingModel;
 import dev.langchain4j.model.output.Response;
 
+/**
+ * A {@link Predictor} must not be used by several threads at once. Thus, each thread embedding segments takes an idle
+ * predictor or creates a new one, so that several documents can be embedded in parallel.
+ */
 public class DeepJavaEmbeddingModel implements EmbeddingModel, AutoCloseable {
     private final ZooModel<String, float[]> model;
-    private final Predictor<String, float[]> predictor;
+    private final Queue<Predictor<String, float[]>> idlePredictors = new ConcurrentLinkedQueue<>();
+    private final List<Predictor<String, float[]>> predictors = new CopyOnWriteArrayList<>();
 
     public DeepJavaEmbeddingModel(Criteria<String, float[]> criteria) throws ModelNotFoundException, MalformedModelException, IOException {
         this.model = criteria.loadModel();
-        this.predictor = model.newPredictor();
+    }
+
+    private Predictor<String, float[]> takePredictor() {
+        Predictor<String, float[]> predictor = idlePredictors.poll();
+        if (predictor == null) {
+            predictor = model.newPredictor();
+            predictors.add(predictor);
+        }
+        return predictor;
     }
 
     @Override
     public Response<List<Embedding>> embedAll(List<TextSegment> list) {
+        Predictor<String, float[]> predictor = takePredictor();
         try {
             List<Embedding> result = new ArrayList<>();
 
-            for (TextSegment textSegment : list) {
-                float[] embedding = predictor.predict(textSegment.text());
+            for (float[] embedding : predictor.batchPredict(list.stream().map(TextSegment::text).toList())) {
                 result.add(new Embedding(embedding));
             }
 
@@ -45,11 +61,14 @@ public class DeepJavaEmbeddingModel implements EmbeddingModel, AutoCloseable {
             //    it's possible, but langchain4j doesn't do it.
 
             throw new RuntimeException(e);
+        } finally {
+            idlePredictors.add(predictor);
         }
     }
 
     @Override
     public void close() {
+        predictors.forEach(Predictor::close);
         this.model.close();
     }
 }
@@ -16,6 +16,8 @@ import org.jabref.logic.util.NotificationService;
  */
 public class MVStoreFullyIngestedDocumentsTracker extends MVStoreBase implements FullyIngestedDocumentsTracker {
     private static final String INGESTED_MAP_NAME = "ingested";
+    private static final String CONTENT_KEYS_MAP_NAME = "ingestedContentKeys";
+    private static final String DOCUMENTS_BY_CONTENT_KEY_MAP_NAME = "ingestedDocumentsByContentKey";
 
     // This map stores the ingested documents. The key is LinkedDocument.getLink(), and the value is the modification time in seconds.
     // If an entry is present, then it means the document was ingested. Otherwise, document was not ingested.
@@ -24,14 +26,33 @@ public class MVStoreFullyIngestedDocumentsTracker extends MVStoreBase implements
     // it doesn't mean the document is fully ingested.
     private final Map<String, Long> ingestedMap;
 
+    // Maps the link to the content key, and the content key to one of the links having this content
+    private final Map<String, String> contentKeysMap;
+    private final Map<String, String> documentsByContentKeyMap;
+
     public MVStoreFullyIngestedDocumentsTracker(Path path, NotificationService dialogService) {
         super(path, dialogService);
 
         this.ingestedMap = this.mvStore.openMap(INGESTED_MAP_NAME);
+        this.contentKeysMap = this.mvStore.openMap(CONTENT_KEYS_MAP_NAME);
+        this.documentsByContentKeyMap = this.mvStore.openMap(DOCUMENTS_BY_CONTENT_KEY_MAP_NAME);
     }
 
     public void markDocumentAsFullyIngested(String link, long modificationTimeInSeconds) {
+        removeContentKey(link);
+        ingestedMap.put(link, modificationTimeInSeconds);
+    }
+
+    public void markDocumentAsFullyIngested(String link, long modificationTimeInSeconds, String contentKey) {
+        removeContentKey(link);
         ingestedMap.put(link, modificationTimeInSeconds);
+        contentKeysMap.put(link, contentKey);
+        documentsByContentKeyMap.put(contentKey, link);
+    }
+
+    public Optional<String> findFullyIngestedDocumentWithContent(String contentKey) {
+        return Optional.ofNullable(documentsByContentKeyMap.get(contentKey))
+                       .filter(link -> ingestedMap.containsKey(link) && contentKey.equals(contentKeysMap.get(link)));
     }
 
     public Optional<Long> getIngestedDocumentModificationTimeInSeconds(String link) {
@@ -40,6 +61,14 @@ public class MVStoreFullyIngestedDocumentsTracker extends MVStoreBase implements
 
     public void unmarkDocumentAsFullyIngested(String link) {
         ingestedMap.remove(link);
+        removeContentKey(link);
+    }
+
+    private void removeContentKey(String link) {
+        String contentKey = contentKeysMap.remove(link);
+        if ((contentKey != null) && link.equals(documentsByContentKeyMap.get(contentKey))) {
+            documentsByContentKeyMap.remove(contentKey);
+        }
     }
 
     @Override
@@ -1,17 +1,28 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
 
 import org.jabref.logic.database.DuplicateCheck;
+import org.jabref.logic.os.OS;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.strings.StringUtil;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,6 +32,9 @@ public class BibDatabaseDiff {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibDatabaseDiff.class);
 
     private static final double MATCH_THRESHOLD = 0.4;
+    // Maximal number of remaining entries an entry without any candidate is compared with
+    private static final int MAX_UNBLOCKED_COMPARISONS = 200;
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]");
     private final Optional<MetaDataDiff> metaDataDiff;
     private final Optional<PreambleDiff> preambleDiff;
     private final List<BibStringDiff> bibStringDiffs;
@@ -66,6 +80,11 @@ public class BibDatabaseDiff {
         return comparator;
     }
 
+    /**
+     * Matches the entries of both databases. To keep this near-linear for large libraries, exact matches are found by hashing the
+     * content of the entries. The remaining entries are only compared with the entries sharing a citation key, a DOI, a title or
+     * the authors and year (see {@link #getBlockingKeys(BibEntry)}).
+     */
     private static List<BibEntryDiff> compareEntries(List<BibEntry> originalEntries, List<BibEntry> newEntries, BibDatabaseMode mode) {
         List<BibEntryDiff> differences = new ArrayList<>();
 
@@ -74,51 +93,73 @@ public class BibDatabaseDiff {
             return differences;
         }
 
-        // Create a HashSet where we can put references to entries in the new
-        // database that we have matched. This is to avoid matching them twice.
-        Set<Integer> matchedEntries = new HashSet<>(newEntries.size());
-        Set<BibEntry> notMatched = new HashSet<>(originalEntries.size());
+        // Keeps track of the entries in the new database that we have matched. This is to avoid matching them twice.
+        boolean[] matchedEntries = new boolean[newEntries.size()];
+        List<BibEntry> notMatched = new ArrayList<>();
+
+        // Entries with equal content are exact matches (see DuplicateCheck#compareEntriesStrictly)
+        Map<Map<Field, String>, Deque<Integer>> newEntriesByContent = new HashMap<>(newEntries.size());
+        for (int i = 0; i < newEntries.size(); i++) {
+            newEntriesByContent.computeIfAbsent(getContent(newEntries.get(i)), content -> new ArrayDeque<>()).add(i);
+        }
 
         // Loop through the entries of the original database, looking for exact matches in the new one.
         // We must finish scanning for exact matches before looking for near matches, to avoid an exact
         // match being "stolen" from another entry.
-        mainLoop:
         for (BibEntry originalEntry : originalEntries) {
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > 1) {
-                        matchedEntries.add(i);
-                        continue mainLoop;
-                    }
-                }
+            Deque<Integer> sameContent = newEntriesByContent.get(getContent(originalEntry));
+            if ((sameContent != null) && !sameContent.isEmpty()) {
+                matchedEntries[sameContent.poll()] = true;
+            } else {
+                notMatched.add(originalEntry);
             }
-
-            // No? Add this entry to the list of non-matched entries.
-            notMatched.add(originalEntry);
         }
 
         // Now we've found all exact matches, look through the remaining entries, looking for close matches.
+        List<Integer> unmatchedEntries = new ArrayList<>();
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i < newEntries.size(); i++) {
+            if (!matchedEntries[i]) {
+                unmatchedEntries.add(i);
+                for (String blockingKey : getBlockingKeys(newEntries.get(i))) {
+                    blocks.computeIfAbsent(blockingKey, key -> new ArrayList<>()).add(i);
+                }
+            }
+        }
+
         DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
         for (BibEntry originalEntry : notMatched) {
+            SortedSet<Integer> candidates = new TreeSet<>();
+            for (String blockingKey : getBlockingKeys(originalEntry)) {
+                candidates.addAll(blocks.getOrDefault(blockingKey, List.of()));
+            }
+            // Entries sharing no blocking key are compared with all remaining ones as long as there are only few of them
+            if (candidates.isEmpty() && (unmatchedEntries.size() <= MAX_UNBLOCKED_COMPARISONS)) {
+                candidates.addAll(unmatchedEntries);
+            }
+
             // These two variables will keep track of which entry most closely matches the one we're looking at.
             double bestMatch = 0;
-            int bestMatchIndex = 0;
-            for (int i = 0; i < newEntries.size(); i++) {
-                if (!matchedEntries.contains(i)) {
-                    double score = DuplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
-                    if (score > bestMatch) {
+            int bestMatchIndex = -1;
+            for (int i : candidates) {
+                if (!matchedEntries[i]) {
+                    double score = duplicateCheck.compareEntriesStrictly(originalEntry, newEntries.get(i));
+                    if ((bestMatchIndex == -1) || (score > bestMatch)) {
                         bestMatch = score;
                         bestMatchIndex = i;
                     }
                 }
             }
+            if (bestMatchIndex == -1) {
+                differences.add(new BibEntryDiff(originalEntry, null));
+                continue;
+            }
             BibEntry bestEntry = newEntries.get(bestMatchIndex);
             if (bestMatch > MATCH_THRESHOLD
                     || hasEqualCitationKey(originalEntry, bestEntry)
                     || duplicateCheck.isDuplicate(originalEntry, bestEntry, mode)) {
-                matchedEntries.add(bestMatchIndex);
-                differences.add(new BibEntryDiff(originalEntry, newEntries.get(bestMatchIndex)));
+                matchedEntries[bestMatchIndex] = true;
+                differences.add(new BibEntryDiff(originalEntry, bestEntry));
             } else {
                 differences.add(new BibEntryDiff(originalEntry, null));
             }
@@ -126,7 +167,7 @@ public class BibDatabaseDiff {
 
         // Finally, look if there are still untouched entries in the new database. These may have been added.
         for (int i = 0; i < newEntries.size(); i++) {
-            if (!matchedEntries.contains(i)) {
+            if (!matchedEntries[i]) {
                 differences.add(new BibEntryDiff(null, newEntries.get(i)));
             }
         }
@@ -134,6 +175,37 @@ public class BibDatabaseDiff {
         return differences;
     }
 
+    /**
+     * Two entries have the same content if and only if {@link DuplicateCheck#compareEntriesStrictly(BibEntry, BibEntry)} considers them equal.
+     */
+    private static Map<Field, String> getContent(BibEntry entry) {
+        Map<Field, String> content = new HashMap<>();
+        for (Field field : entry.getFields()) {
+            entry.getField(field).ifPresent(value -> content.put(field, StringUtil.unifyLineBreaks(value, OS.NEWLINE)));
+        }
+        return content;
+    }
+
+    /**
+     * Entries are only compared in detail if they share at least one of these keys
+     */
+    private static Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+        entry.getCitationKey().filter(key -> !key.isBlank()).ifPresent(key -> keys.add("key:" + key));
+        entry.getField(StandardField.DOI).map(BibDatabaseDiff::normalize).filter(doi -> !doi.isEmpty()).ifPresent(doi -> keys.add("doi:" + doi));
+        entry.getField(StandardField.TITLE).map(BibDatabaseDiff::normalize).filter(title -> !title.isEmpty()).ifPresent(title -> keys.add("title:" + title));
+        Optional<String> author = entry.getField(StandardField.AUTHOR).map(BibDatabaseDiff::normalize).filter(value -> !value.isEmpty());
+        Optional<String> year = entry.getField(StandardField.YEAR).map(BibDatabaseDiff::normalize).filter(value -> !value.isEmpty());
+        if (author.isPresent() && year.isPresent()) {
+            keys.add("author:" + author.get() + "|" + year.get());
+        }
+        return keys;
+    }
+
+    private static String normalize(String value) {
+        return NON_ALPHANUMERIC.matcher(value.toLowerCase(Locale.ROOT)).replaceAll("");
+    }
+
     private static boolean hasEqualCitationKey(BibEntry oneEntry, BibEntry twoEntry) {
         return oneEntry.hasCitationKey() && twoEntry.hasCitationKey() && oneEntry.getCitationKey().equals(twoEntry.getCitationKey());
     }
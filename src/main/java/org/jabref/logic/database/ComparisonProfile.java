@@ -0,0 +1,79 @@
+package org.jabref.logic.database;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.regex.Pattern;
+
+import org.jabref.logic.os.OS;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.strings.StringUtil;
+
+/**
+ * Holds the field values of an entry normalized the way {@link DuplicateCheck} compares them.
+ * The values are computed on first use and computed again as soon as the field value differs from the one they were computed from,
+ * so an entry taking part in many comparisons is normalized only once.
+ * <p>
+ * A profile does not reference its entry, which has to be passed to each call.
+ */
+class ComparisonProfile {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s");
+    private static final Pattern PAGES_DELIMITER = Pattern.compile("[- ]+");
+    private static final Pattern CHAPTER = Pattern.compile("(?i)chapter");
+
+    private final Map<Field, Normalized<String[]>> words = new ConcurrentHashMap<>();
+    private final Map<Field, Normalized<String>> strictValues = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the words of the LaTeX free field value to be compared by {@link DuplicateCheck#correlateByWords(String, String)}.
+     * Pages are returned as a single normalized word, as they are compared for equality.
+     */
+    Optional<String[]> getWords(BibEntry entry, Field field) {
+        return entry.getFieldLatexFree(field).map(value -> getNormalized(words, field, value, ComparisonProfile::normalize));
+    }
+
+    /**
+     * Returns the field value with unified line breaks as compared by {@link DuplicateCheck#compareEntriesStrictly(BibEntry, BibEntry)}.
+     */
+    Optional<String> getStrictValue(BibEntry entry, Field field) {
+        return entry.getField(field).map(value -> getNormalized(strictValues, field, value, (key, fieldValue) -> StringUtil.unifyLineBreaks(fieldValue, OS.NEWLINE)));
+    }
+
+    private static <T> T getNormalized(Map<Field, Normalized<T>> cache, Field field, String value, BiFunction<Field, String, T> normalizer) {
+        Normalized<T> normalized = cache.get(field);
+        if ((normalized == null) || !normalized.value().equals(value)) {
+            normalized = new Normalized<>(value, normalizer.apply(field, value));
+            cache.put(field, normalized);
+        }
+        return normalized.normalized();
+    }
+
+    private static String[] normalize(Field field, String value) {
+        if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
+            return WHITESPACE.split(AuthorList.fixAuthorLastNameOnlyCommas(value, false).replace(" and ", " ").toLowerCase(Locale.ROOT));
+        } else if (StandardField.PAGES == field) {
+            // Pages can be given with a variety of delimiters, "-", "--", " - ", " -- "
+            return new String[] {PAGES_DELIMITER.matcher(value).replaceAll("-")};
+        } else if (StandardField.JOURNAL == field) {
+            // Journals may be abbreviated with and without dots
+            return WHITESPACE.split(value.replace(".", "").toLowerCase(Locale.ROOT));
+        } else if (StandardField.CHAPTER == field) {
+            return normalizeText(CHAPTER.matcher(value).replaceAll("").trim());
+        }
+        return normalizeText(value);
+    }
+
+    private static String[] normalizeText(String value) {
+        return WHITESPACE.split(StringUtil.unifyLineBreaks(value.toLowerCase(Locale.ROOT).trim(), OS.NEWLINE));
+    }
+
+    private record Normalized<T>(String value, T normalized) {
+    }
+}
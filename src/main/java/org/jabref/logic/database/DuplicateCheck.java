@@ -1,20 +1,18 @@
 package org.jabref.logic.database;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-import org.jabref.logic.os.OS;
 import org.jabref.logic.util.strings.StringSimilarity;
 import org.jabref.model.database.BibDatabase;
 import org.jabref.model.database.BibDatabaseMode;
-import org.jabref.model.entry.AuthorList;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibEntryType;
 import org.jabref.model.entry.BibEntryTypesManager;
@@ -25,8 +23,10 @@ import org.jabref.model.entry.field.OrFields;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.identifier.ISBN;
 import org.jabref.model.entry.types.StandardEntryType;
-import org.jabref.model.strings.StringUtil;
 
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
 import com.google.common.collect.Sets;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,6 +68,12 @@ public class DuplicateCheck {
 
     private final BibEntryTypesManager entryTypesManager;
 
+    // Weak keys are compared by identity, thus equal entries get their own profiles.
+    // The cache holds the profiles strongly, thus a profile must not reference its entry. Otherwise, the entry would never be collected.
+    private final LoadingCache<BibEntry, ComparisonProfile> profiles = CacheBuilder.newBuilder()
+                                                                                   .weakKeys()
+                                                                                   .build(CacheLoader.from(ComparisonProfile::new));
+
     public DuplicateCheck(BibEntryTypesManager entryTypesManager) {
         this.entryTypesManager = entryTypesManager;
     }
@@ -90,18 +96,18 @@ public class DuplicateCheck {
                 !editionOne.get().equals(editionTwo.get());
     }
 
-    private static boolean haveDifferentChaptersOrPagesOfTheSameBook(final BibEntry one, final BibEntry two) {
+    private boolean haveDifferentChaptersOrPagesOfTheSameBook(final BibEntry one, final BibEntry two) {
         return (compareSingleField(StandardField.AUTHOR, one, two) == EQUAL) &&
                 (compareSingleField(StandardField.TITLE, one, two) == EQUAL) &&
                 ((compareSingleField(StandardField.CHAPTER, one, two) == NOT_EQUAL) ||
                         (compareSingleField(StandardField.PAGES, one, two) == NOT_EQUAL));
     }
 
-    private static double[] compareRequiredFields(final BibEntryType type, final BibEntry one, final BibEntry two) {
+    private double[] compareRequiredFields(final BibEntryType type, final BibEntry one, final BibEntry two) {
         final Set<OrFields> requiredFields = type.getRequiredFields();
         return requiredFields.isEmpty()
                 ? new double[] {0., 0.}
-                : DuplicateCheck.compareFieldSet(requiredFields.stream().map(OrFields::getPrimary).collect(Collectors.toSet()), one, two);
+                : compareFieldSet(requiredFields.stream().map(OrFields::getPrimary).collect(Collectors.toSet()), one, two);
     }
 
     private static boolean isFarFromThreshold(double value) {
@@ -111,22 +117,22 @@ public class DuplicateCheck {
         return value - DuplicateCheck.DUPLICATE_THRESHOLD > DuplicateCheck.DOUBT_RANGE;
     }
 
-    private static boolean compareOptionalFields(final BibEntryType type,
-                                                 final BibEntry one,
-                                                 final BibEntry two,
-                                                 final double[] req) {
+    private boolean compareOptionalFields(final BibEntryType type,
+                                          final BibEntry one,
+                                          final BibEntry two,
+                                          final double[] req) {
         final Set<BibField> optionalFields = type.getOptionalFields();
         if (optionalFields.isEmpty()) {
             return req[0] >= DuplicateCheck.DUPLICATE_THRESHOLD;
         }
-        final double[] opt = DuplicateCheck.compareFieldSet(optionalFields.stream().map(BibField::field).collect(Collectors.toSet()), one, two);
+        final double[] opt = compareFieldSet(optionalFields.stream().map(BibField::field).collect(Collectors.toSet()), one, two);
         final double numerator = (DuplicateCheck.REQUIRED_WEIGHT * req[0] * req[1]) + (opt[0] * opt[1]);
         final double denominator = (req[1] * DuplicateCheck.REQUIRED_WEIGHT) + opt[1];
         final double totValue = numerator / denominator;
         return totValue >= DuplicateCheck.DUPLICATE_THRESHOLD;
     }
 
-    private static double[] compareFieldSet(final Collection<Field> fields, final BibEntry one, final BibEntry two) {
+    private double[] compareFieldSet(final Collection<Field> fields, final BibEntry one, final BibEntry two) {
         if (fields.isEmpty()) {
             return new double[] {0.0, 0.0};
         }
@@ -135,7 +141,7 @@ public class DuplicateCheck {
         for (final Field field : fields) {
             final double currentWeight = DuplicateCheck.FIELD_WEIGHTS.getOrDefault(field, 1.0);
             totalWeights += currentWeight;
-            int result = DuplicateCheck.compareSingleField(field, one, two);
+            int result = compareSingleField(field, one, two);
             if (result == EQUAL) {
                 equalWeights += currentWeight;
             } else if (result == EMPTY_IN_BOTH) {
@@ -149,92 +155,33 @@ public class DuplicateCheck {
         return new double[] {0.0, 0.0};
     }
 
-    private static int compareSingleField(final Field field, final BibEntry one, final BibEntry two) {
-        final Optional<String> optionalStringOne = one.getFieldLatexFree(field);
-        final Optional<String> optionalStringTwo = two.getFieldLatexFree(field);
-        if (optionalStringOne.isEmpty()) {
-            if (optionalStringTwo.isEmpty()) {
+    private int compareSingleField(final Field field, final BibEntry one, final BibEntry two) {
+        final Optional<String[]> optionalWordsOne = profiles.getUnchecked(one).getWords(one, field);
+        final Optional<String[]> optionalWordsTwo = profiles.getUnchecked(two).getWords(two, field);
+        if (optionalWordsOne.isEmpty()) {
+            if (optionalWordsTwo.isEmpty()) {
                 return EMPTY_IN_BOTH;
             }
             return EMPTY_IN_ONE;
-        } else if (optionalStringTwo.isEmpty()) {
+        } else if (optionalWordsTwo.isEmpty()) {
             return EMPTY_IN_TWO;
         }
 
-        // Both strings present
-        final String stringOne = optionalStringOne.get();
-        final String stringTwo = optionalStringTwo.get();
-
-        if (field.getProperties().contains(FieldProperty.PERSON_NAMES)) {
-            return compareAuthorField(stringOne, stringTwo);
-        } else if (StandardField.PAGES == field) {
-            return comparePagesField(stringOne, stringTwo);
-        } else if (StandardField.JOURNAL == field) {
-            return compareJournalField(stringOne, stringTwo);
-        } else if (StandardField.CHAPTER == field) {
-            return compareChapterField(stringOne, stringTwo);
-        }
-
-        return compareField(stringOne, stringTwo);
-    }
-
-    private static int compareAuthorField(final String stringOne, final String stringTwo) {
-        // Specific for name fields.
-        // Harmonise case:
-        final String authorOne = AuthorList.fixAuthorLastNameOnlyCommas(stringOne, false).replace(" and ", " ").toLowerCase(Locale.ROOT);
-        final String authorTwo = AuthorList.fixAuthorLastNameOnlyCommas(stringTwo, false).replace(" and ", " ").toLowerCase(Locale.ROOT);
-        final double similarity = DuplicateCheck.correlateByWords(authorOne, authorTwo);
-        if (similarity > 0.8) {
-            return EQUAL;
-        }
-        return NOT_EQUAL;
-    }
-
-    /**
-     * Pages can be given with a variety of delimiters, "-", "--", " - ", " -- ".
-     * We do a replace to harmonize these to a simple "-"
-     * After this, a simple test for equality should be enough
-     */
-    private static int comparePagesField(final String stringOne, final String stringTwo) {
-        final String processedStringOne = stringOne.replaceAll("[- ]+", "-");
-        final String processedStringTwo = stringTwo.replaceAll("[- ]+", "-");
-        if (processedStringOne.equals(processedStringTwo)) {
-            return EQUAL;
-        }
-        return NOT_EQUAL;
-    }
+        // Both strings present, normalized by the profile according to the field
+        final String[] wordsOne = optionalWordsOne.get();
+        final String[] wordsTwo = optionalWordsTwo.get();
 
-    /**
-     * We do not attempt to harmonize abbreviation state of the journal names,
-     * but we remove periods from the names in case they are abbreviated with and without dots:
-     */
-    private static int compareJournalField(final String stringOne, final String stringTwo) {
-        final String processedStringOne = stringOne.replace(".", "").toLowerCase(Locale.ROOT);
-        final String processedStringTwo = stringTwo.replace(".", "").toLowerCase(Locale.ROOT);
-        final double similarity = DuplicateCheck.correlateByWords(processedStringOne, processedStringTwo);
-        if (similarity > 0.8) {
-            return EQUAL;
+        if (StandardField.PAGES == field) {
+            // After harmonizing the delimiters, a simple test for equality is enough
+            return Arrays.equals(wordsOne, wordsTwo) ? EQUAL : NOT_EQUAL;
         }
-        return NOT_EQUAL;
-    }
-
-    private static int compareChapterField(final String stringOne, final String stringTwo) {
-        final String processedStringOne = stringOne.replaceAll("(?i)chapter", "").trim();
-        final String processedStringTwo = stringTwo.replaceAll("(?i)chapter", "").trim();
-        return compareField(processedStringOne, processedStringTwo);
-    }
-
-    private static int compareField(final String stringOne, final String stringTwo) {
-        final String processedStringOne = StringUtil.unifyLineBreaks(stringOne.toLowerCase(Locale.ROOT).trim(), OS.NEWLINE);
-        final String processedStringTwo = StringUtil.unifyLineBreaks(stringTwo.toLowerCase(Locale.ROOT).trim(), OS.NEWLINE);
-        final double similarity = DuplicateCheck.correlateByWords(processedStringOne, processedStringTwo);
-        if (similarity > 0.8) {
+        if (DuplicateCheck.correlateByWords(wordsOne, wordsTwo) > 0.8) {
             return EQUAL;
         }
         return NOT_EQUAL;
     }
 
-    public static double compareEntriesStrictly(BibEntry one, BibEntry two) {
+    public double compareEntriesStrictly(BibEntry one, BibEntry two) {
         final Set<Field> allFields = new HashSet<>();
         allFields.addAll(one.getFields());
         allFields.addAll(two.getFields());
@@ -251,17 +198,8 @@ public class DuplicateCheck {
         return (double) score / allFields.size();
     }
 
-    private static boolean isSingleFieldEqual(BibEntry one, BibEntry two, Field field) {
-        final Optional<String> stringOne = one.getField(field);
-        final Optional<String> stringTwo = two.getField(field);
-        if (stringOne.isEmpty() && stringTwo.isEmpty()) {
-            return true;
-        }
-        if (stringOne.isEmpty() || stringTwo.isEmpty()) {
-            return false;
-        }
-        return StringUtil.unifyLineBreaks(stringOne.get(), OS.NEWLINE).equals(
-                StringUtil.unifyLineBreaks(stringTwo.get(), OS.NEWLINE));
+    private boolean isSingleFieldEqual(BibEntry one, BibEntry two, Field field) {
+        return profiles.getUnchecked(one).getStrictValue(one, field).equals(profiles.getUnchecked(two).getStrictValue(two, field));
     }
 
     /**
@@ -272,8 +210,10 @@ public class DuplicateCheck {
      * @return a value in the interval [0, 1] indicating the degree of match.
      */
     public static double correlateByWords(final String s1, final String s2) {
-        final String[] w1 = s1.split("\\s");
-        final String[] w2 = s2.split("\\s");
+        return correlateByWords(s1.split("\\s"), s2.split("\\s"));
+    }
+
+    private static double correlateByWords(final String[] w1, final String[] w2) {
         final int n = Math.min(w1.length, w2.length);
         int misses = 0;
         for (int i = 0; i < n; i++) {
@@ -291,6 +231,9 @@ public class DuplicateCheck {
      * http://stackoverflow.com/questions/955110/similarity-string-comparison-in-java
      */
     private static double similarity(final String first, final String second) {
+        if (first.equals(second)) {
+            return 1.0;
+        }
         final String longer;
         final String shorter;
 
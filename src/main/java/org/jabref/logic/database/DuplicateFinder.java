@@ -0,0 +1,194 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.AuthorList;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.Field;
+import org.jabref.model.entry.field.FieldProperty;
+import org.jabref.model.entry.field.StandardField;
+
+/**
+ * Finds all pairs of duplicates in a list of entries.
+ * <p>
+ * Instead of checking all pairs with {@link DuplicateCheck#isDuplicate(BibEntry, BibEntry, BibDatabaseMode)}, the entries are put into blocks
+ * by their identifiers, the word bigrams of their title and their first author together with the year.
+ * Only entries sharing a block are checked, which is done in parallel.
+ * Entries without any of these keys are only checked against each other.
+ */
+public class DuplicateFinder {
+
+    // Blocks of title bigrams larger than this consist of common phrases, which do not indicate a duplicate
+    private static final int MAX_TITLE_BLOCK_SIZE = 1000;
+    // Number of entries a single fork-join task checks without splitting further
+    private static final int ENTRIES_PER_TASK = 64;
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final String TITLE_PREFIX = "title:";
+    private static final String NO_KEY = "none";
+
+    private final DuplicateCheck duplicateCheck;
+
+    public DuplicateFinder(BibEntryTypesManager entryTypesManager) {
+        this.duplicateCheck = new DuplicateCheck(entryTypesManager);
+    }
+
+    /**
+     * Searches the given entries for duplicates. Each pair found is passed to the consumer as soon as it is found.
+     * The consumer is called from several threads concurrently and the pairs are passed in no particular order.
+     * The first entry of a pair is always the one occurring earlier in the given list.
+     *
+     * @throws InterruptedException if the current thread was interrupted while searching. The search is stopped then.
+     */
+    public void findDuplicates(List<BibEntry> entries, BibDatabaseMode mode, BiConsumer<BibEntry, BibEntry> duplicateConsumer) throws InterruptedException {
+        List<Set<String>> blockingKeys = IntStream.range(0, entries.size())
+                                                  .parallel()
+                                                  .mapToObj(i -> getBlockingKeys(entries.get(i)))
+                                                  .toList();
+        Map<String, List<Integer>> blocks = new HashMap<>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (String key : blockingKeys.get(i)) {
+                blocks.computeIfAbsent(key, k -> new ArrayList<>()).add(i);
+            }
+        }
+        blocks.entrySet().removeIf(block -> block.getKey().startsWith(TITLE_PREFIX) && (block.getValue().size() > MAX_TITLE_BLOCK_SIZE));
+
+        AtomicBoolean cancelled = new AtomicBoolean();
+        ForkJoinTask<Void> task = ForkJoinPool.commonPool().submit(
+                new CheckCandidatesTask(entries, mode, blockingKeys, blocks, duplicateConsumer, cancelled, 0, entries.size()));
+        try {
+            task.get();
+        } catch (InterruptedException e) {
+            cancelled.set(true);
+            task.cancel(true);
+            throw e;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Could not search for duplicates", e.getCause());
+        }
+    }
+
+    /**
+     * Two entries are only checked if they share at least one of these keys.
+     */
+    static Set<String> getBlockingKeys(BibEntry entry) {
+        Set<String> keys = new HashSet<>();
+
+        // DuplicateCheck considers entries with an equal identifier or an equal ISBN as duplicates
+        for (Field field : entry.getFields()) {
+            if (field.getProperties().contains(FieldProperty.IDENTIFIER)) {
+                entry.getField(field).ifPresent(value -> keys.add("id:" + field.getName() + ":" + value));
+            }
+        }
+        entry.getISBN().ifPresent(isbn -> keys.add("isbn:" + isbn.getNormalized().toLowerCase(Locale.ROOT)));
+
+        entry.getFieldLatexFree(StandardField.TITLE).ifPresent(title -> {
+            List<String> words = getWords(title);
+            if (words.size() == 1) {
+                keys.add(TITLE_PREFIX + words.getFirst());
+            }
+            for (int i = 1; i < words.size(); i++) {
+                keys.add(TITLE_PREFIX + words.get(i - 1) + " " + words.get(i));
+            }
+        });
+
+        entry.getFieldLatexFree(StandardField.AUTHOR)
+             .map(authors -> AuthorList.parse(authors).getAuthors())
+             .filter(authors -> !authors.isEmpty())
+             .flatMap(authors -> authors.getFirst().getFamilyName())
+             .map(DuplicateFinder::getWords)
+             .filter(words -> !words.isEmpty())
+             .ifPresent(familyName -> entry.getFieldOrAlias(StandardField.YEAR)
+                                           .ifPresent(year -> keys.add("author:" + String.join(" ", familyName) + ":" + year.trim())));
+
+        if (keys.isEmpty()) {
+            keys.add(NO_KEY);
+        }
+        return keys;
+    }
+
+    private static List<String> getWords(String value) {
+        return NON_ALPHANUMERIC.splitAsStream(value.toLowerCase(Locale.ROOT))
+                               .filter(word -> !word.isEmpty())
+                               .toList();
+    }
+
+    /**
+     * Checks the entries in the range [start, end) against all entries after them sharing a block.
+     */
+    private class CheckCandidatesTask extends RecursiveAction {
+
+        private final List<BibEntry> entries;
+        private final BibDatabaseMode mode;
+        private final List<Set<String>> blockingKeys;
+        private final Map<String, List<Integer>> blocks;
+        private final BiConsumer<BibEntry, BibEntry> duplicateConsumer;
+        private final AtomicBoolean cancelled;
+        private final int start;
+        private final int end;
+
+        CheckCandidatesTask(List<BibEntry> entries,
+                            BibDatabaseMode mode,
+                            List<Set<String>> blockingKeys,
+                            Map<String, List<Integer>> blocks,
+                            BiConsumer<BibEntry, BibEntry> duplicateConsumer,
+                            AtomicBoolean cancelled,
+                            int start,
+                            int end) {
+            this.entries = entries;
+            this.mode = mode;
+            this.blockingKeys = blockingKeys;
+            this.blocks = blocks;
+            this.duplicateConsumer = duplicateConsumer;
+            this.cancelled = cancelled;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if ((end - start) > ENTRIES_PER_TASK) {
+                int middle = (start + end) >>> 1;
+                invokeAll(new CheckCandidatesTask(entries, mode, blockingKeys, blocks, duplicateConsumer, cancelled, start, middle),
+                        new CheckCandidatesTask(entries, mode, blockingKeys, blocks, duplicateConsumer, cancelled, middle, end));
+                return;
+            }
+
+            for (int i = start; i < end; i++) {
+                if (cancelled.get()) {
+                    return;
+                }
+                BibEntry first = entries.get(i);
+                Set<Integer> checked = new HashSet<>();
+                for (String key : blockingKeys.get(i)) {
+                    for (int j : blocks.getOrDefault(key, List.of())) {
+                        if ((j > i) && checked.add(j)) {
+                            BibEntry second = entries.get(j);
+                            if (duplicateCheck.isDuplicate(first, second, mode)) {
+                                duplicateConsumer.accept(first, second);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package org.jabref.logic.groups;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.InternalField;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.SearchGroup;
+import org.jabref.model.search.matchers.SearchMatcher;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.eventbus.Subscribe;
+import io.github.adr.linked.ADR;
+
+/**
+ * Keeps the entries matched by groups as bit sets over entry ordinals.
+ * <p>
+ * Every entry of the database gets an ordinal, which stays the same as long as the entry is part of the database.
+ * The matches of a group (taking the hierarchy into account, see {@link GroupTreeNode#matches(BibEntry)}) are computed once
+ * and then kept up to date by listening to the changes of the entries, so that combining groups only needs bit set operations.
+ * <p>
+ * The matches of search groups depend on the search index, which is updated asynchronously. Thus, these are not kept and computed on each request.
+ * Changes of the groups themselves are not detected, {@link #invalidate()} has to be called then.
+ */
+public class GroupMembershipIndex {
+
+    private final BibDatabase database;
+
+    @ADR(38)
+    private final Map<String, Integer> ordinals = new HashMap<>();
+    private final BitSet usedOrdinals = new BitSet();
+
+    // Weak keys are compared by identity, thus equal groups at different positions in the tree are kept apart
+    private final Cache<GroupTreeNode, BitSet> matchesByGroup = CacheBuilder.newBuilder().weakKeys().build();
+    // The matches computed outside the lock at the moment, which need to know the entries changed meanwhile
+    private final Set<MatchComputation> computations = new HashSet<>();
+    private int invalidations;
+
+    public GroupMembershipIndex(BibDatabase database) {
+        this.database = database;
+        synchronized (this) {
+            database.registerListener(this);
+            database.getEntries().forEach(this::addOrdinal);
+        }
+    }
+
+    /**
+     * Computes the entries matched by the given groups.
+     * The groups are evaluated without holding the lock of this index, so that changes of the database are not blocked meanwhile.
+     *
+     * @param intersection whether an entry has to be matched by all groups instead of one of them
+     * @param invert       whether to return the entries which are not matched
+     */
+    public BitSet getMatches(List<GroupTreeNode> groups, boolean intersection, boolean invert) {
+        List<BitSet> matchesOfGroups = new ArrayList<>(groups.size());
+        for (GroupTreeNode group : groups) {
+            matchesOfGroups.add(getMatches(group));
+        }
+
+        synchronized (this) {
+            BitSet result = null;
+            for (BitSet groupMatches : matchesOfGroups) {
+                if (result == null) {
+                    result = (BitSet) groupMatches.clone();
+                } else if (intersection) {
+                    result.and(groupMatches);
+                } else {
+                    result.or(groupMatches);
+                }
+            }
+            if (result == null) {
+                // Same as an empty set of rules
+                result = intersection ? (BitSet) usedOrdinals.clone() : new BitSet();
+            }
+            if (invert) {
+                BitSet inverted = (BitSet) usedOrdinals.clone();
+                inverted.andNot(result);
+                return inverted;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Checks whether the entry is contained in the result of {@link #getMatches(List, boolean, boolean)}.
+     */
+    public synchronized boolean contains(BitSet matches, BibEntry entry) {
+        Integer ordinal = ordinals.get(entry.getId());
+        return (ordinal != null) && matches.get(ordinal);
+    }
+
+    /**
+     * Checks whether the single entry is matched by the given groups, without evaluating the groups on all entries.
+     * The result is the same as checking whether the entry is contained in {@link #getMatches(List, boolean, boolean)}.
+     */
+    public static boolean matches(List<GroupTreeNode> groups, boolean intersection, boolean invert, BibEntry entry) {
+        boolean isMatched = intersection
+                            ? groups.stream().allMatch(group -> group.matches(entry))
+                            : groups.stream().anyMatch(group -> group.matches(entry));
+        return isMatched != invert;
+    }
+
+    /**
+     * Drops all computed matches. Has to be called if groups are changed.
+     */
+    public synchronized void invalidate() {
+        invalidations++;
+        matchesByGroup.invalidateAll();
+    }
+
+    public void close() {
+        database.unregisterListener(this);
+    }
+
+    /**
+     * Returns the matches of the group. A cached result is updated by the listeners and thus may only be read while holding the lock.
+     */
+    private BitSet getMatches(GroupTreeNode group) {
+        List<BibEntry> entries;
+        int[] entryOrdinals;
+        MatchComputation computation = new MatchComputation();
+        synchronized (this) {
+            BitSet matches = matchesByGroup.getIfPresent(group);
+            if (matches != null) {
+                return matches;
+            }
+
+            entries = new ArrayList<>(database.getEntries());
+            entryOrdinals = new int[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                entryOrdinals[i] = ordinals.getOrDefault(entries.get(i).getId(), -1);
+            }
+            computation.invalidations = invalidations;
+            computations.add(computation);
+        }
+
+        BitSet matches = new BitSet();
+        SearchMatcher matcher = group.getSearchMatcher();
+        for (int i = 0; i < entries.size(); i++) {
+            if ((entryOrdinals[i] >= 0) && matcher.isMatch(entries.get(i))) {
+                matches.set(entryOrdinals[i]);
+            }
+        }
+
+        synchronized (this) {
+            computations.remove(computation);
+            // Apply the changes of the database which happened during the computation
+            matches.and(usedOrdinals);
+            for (BibEntry entry : computation.changedEntries) {
+                Integer ordinal = ordinals.get(entry.getId());
+                if (ordinal != null) {
+                    matches.set(ordinal, matcher.isMatch(entry));
+                }
+            }
+            if ((computation.invalidations == invalidations) && !dependsOnSearchGroup(group)) {
+                BitSet computedConcurrently = matchesByGroup.asMap().putIfAbsent(group, matches);
+                if (computedConcurrently != null) {
+                    return computedConcurrently;
+                }
+            }
+            return matches;
+        }
+    }
+
+    private static boolean dependsOnSearchGroup(GroupTreeNode group) {
+        // The matcher of a group may include its ancestors or descendants, depending on the hierarchical context
+        return group.getPathFromRoot().stream().anyMatch(node -> node.getGroup() instanceof SearchGroup)
+                || !group.findChildrenSatisfying(node -> node.getGroup() instanceof SearchGroup).isEmpty();
+    }
+
+    private void addOrdinal(BibEntry entry) {
+        int ordinal = usedOrdinals.nextClearBit(0);
+        usedOrdinals.set(ordinal);
+        ordinals.put(entry.getId(), ordinal);
+    }
+
+    private void updateMatches(BibEntry entry) {
+        Integer ordinal = ordinals.get(entry.getId());
+        if (ordinal == null) {
+            return;
+        }
+        computations.forEach(computation -> computation.changedEntries.add(entry));
+        matchesByGroup.asMap().forEach((group, matches) -> matches.set(ordinal, group.matches(entry)));
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            addOrdinal(entry);
+            updateMatches(entry);
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            Integer ordinal = ordinals.remove(entry.getId());
+            if (ordinal != null) {
+                usedOrdinals.clear(ordinal);
+                matchesByGroup.asMap().values().forEach(matches -> matches.clear(ordinal));
+            }
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        if (InternalField.INTERNAL_ID_FIELD.equals(event.getField())) {
+            // The entry keeps its ordinal
+            Optional.ofNullable(event.getOldValue())
+                    .map(ordinals::remove)
+                    .ifPresent(ordinal -> ordinals.put(event.getNewValue(), ordinal));
+            return;
+        }
+        updateMatches(event.getBibEntry());
+    }
+
+    private static class MatchComputation {
+        private final List<BibEntry> changedEntries = new ArrayList<>();
+        private int invalidations;
+    }
+}
@@ -3,16 +3,16 @@ package org.jabref.logic.importer.fileformat;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.PushbackReader;
 import java.io.Reader;
-import java.io.StringWriter;
+import java.io.UncheckedIOException;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -90,16 +90,31 @@ import static org.jabref.logic.util.MetadataSerializationConfiguration.GROUP_TYP
 public class BibtexParser implements Parser {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibtexParser.class);
     private static final Integer LOOKAHEAD = 1024;
+    // Inputs are only split for parallel parsing into chunks of at least this number of characters
+    private static final int MIN_CHUNK_LENGTH = 1 << 20;
+    private static final int READ_BLOCK_SIZE = 1 << 16;
     private static final String BIB_DESK_ROOT_GROUP_NAME = "BibDeskGroups";
     private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = DocumentBuilderFactory.newInstance();
-    private final Deque<Character> pureTextFromFile = new LinkedList<>();
     private final ImportFormatPreferences importFormatPreferences;
-    private PushbackReader pushbackReader;
+
+    // The complete input. The text read so far (used for the parsed serialization) is the range [recordStart, position).
+    private char[] buffer;
+    private int bufferLength;
+    private int position;
+    private int recordStart;
+
+    // Only used if characters are pushed back which were not read just before (e.g., when restoring a corrupted citation key).
+    // Then, the text read so far is no longer a range of the buffer and is recorded in divergedRecord until the next dump.
+    private final Deque<Character> pushedBack = new ArrayDeque<>();
+    private StringBuilder divergedRecord;
+
     private BibDatabase database;
     private Set<BibEntryType> entryTypes;
     private boolean eof;
     private int line = 1;
     private ParserResult parserResult;
+    private List<BibEntry> parsedEntries;
+    private Map<String, String> meta;
     private final MetaDataParser metaDataParser;
     private final Map<String, String> parsedBibdeskGroups;
 
@@ -159,11 +174,30 @@ public class BibtexParser implements Parser {
      * Handling of encoding is done at {@link BibtexImporter}
      */
     public ParserResult parse(Reader in) throws IOException {
+        return parse(in, MIN_CHUNK_LENGTH);
+    }
+
+    /**
+     * Large inputs are split into chunks at the end of entries, which are parsed in parallel.
+     * If a chunk cannot be parsed exactly as the sequential parser would do (e.g., because of a warning), the complete input is parsed sequentially.
+     *
+     * @param minChunkLength the minimal number of characters of a chunk
+     */
+    ParserResult parse(Reader in, int minChunkLength) throws IOException {
         Objects.requireNonNull(in);
-        pushbackReader = new PushbackReader(in, BibtexParser.LOOKAHEAD);
+        readInput(in);
 
         String newLineSeparator = determineNewLineSeparator();
 
+        List<Chunk> chunks = splitIntoChunks(minChunkLength);
+        if (chunks.size() > 1) {
+            Optional<ParserResult> result = parseChunksInParallel(chunks, newLineSeparator);
+            if (result.isPresent()) {
+                return result.get();
+            }
+            LOGGER.debug("Could not parse the chunks independently, parsing sequentially");
+        }
+
         // BibTeX related contents
         initializeParserResult(newLineSeparator);
 
@@ -174,26 +208,46 @@ public class BibtexParser implements Parser {
         return parseFileContent();
     }
 
-    private String determineNewLineSeparator() throws IOException {
-        String newLineSeparator = OS.NEWLINE;
-        StringWriter stringWriter = new StringWriter(BibtexParser.LOOKAHEAD);
-        int i = 0;
-        int currentChar;
-        do {
-            currentChar = pushbackReader.read();
-            stringWriter.append((char) currentChar);
-            i++;
-        } while ((i < BibtexParser.LOOKAHEAD) && (currentChar != '\r') && (currentChar != '\n'));
-        if (currentChar == '\r') {
-            newLineSeparator = "\r\n";
-        } else if (currentChar == '\n') {
-            newLineSeparator = "\n";
+    /**
+     * Reads the complete input into the buffer. Parsing then works on offsets of the buffer,
+     * so that the text of an entry can be taken as one range instead of collecting it character by character.
+     */
+    private void readInput(Reader in) throws IOException {
+        // The input is read in blocks and copied once into a buffer of the exact size. A growing buffer would keep up to twice the input in memory.
+        List<char[]> blocks = new ArrayList<>();
+        int lastBlockLength = 0;
+        char[] block = new char[READ_BLOCK_SIZE];
+        int charsRead;
+        while ((charsRead = in.read(block, lastBlockLength, block.length - lastBlockLength)) != -1) {
+            lastBlockLength += charsRead;
+            if (lastBlockLength == block.length) {
+                blocks.add(block);
+                block = new char[READ_BLOCK_SIZE];
+                lastBlockLength = 0;
+            }
         }
+        bufferLength = Math.addExact(Math.multiplyExact(blocks.size(), READ_BLOCK_SIZE), lastBlockLength);
+        buffer = new char[bufferLength];
+        for (int i = 0; i < blocks.size(); i++) {
+            System.arraycopy(blocks.get(i), 0, buffer, i * READ_BLOCK_SIZE, READ_BLOCK_SIZE);
+        }
+        System.arraycopy(block, 0, buffer, blocks.size() * READ_BLOCK_SIZE, lastBlockLength);
+        position = 0;
+        recordStart = 0;
+        pushedBack.clear();
+        divergedRecord = null;
+    }
 
-        // unread all sneaked characters
-        pushbackReader.unread(stringWriter.toString().toCharArray());
-
-        return newLineSeparator;
+    private String determineNewLineSeparator() {
+        int lookaheadEnd = Math.min(bufferLength, BibtexParser.LOOKAHEAD);
+        for (int i = 0; i < lookaheadEnd; i++) {
+            if (buffer[i] == '\r') {
+                return "\r\n";
+            } else if (buffer[i] == '\n') {
+                return "\n";
+            }
+        }
+        return OS.NEWLINE;
     }
 
     private void initializeParserResult(String newLineSeparator) {
@@ -201,12 +255,146 @@ public class BibtexParser implements Parser {
         database.setNewLineSeparator(newLineSeparator);
         entryTypes = new HashSet<>(); // To store custom entry types parsed.
         parserResult = new ParserResult(database, new MetaData(), entryTypes);
+        parsedEntries = new ArrayList<>();
+        meta = new HashMap<>();
+    }
+
+    /**
+     * Splits the input at the end of entries, i.e., after a closing brace on the top level which is followed by a line break.
+     * The split is only a guess based on counting braces. {@link #parseChunksInParallel(List, String)} checks whether it was correct.
+     */
+    private List<Chunk> splitIntoChunks(int minChunkLength) {
+        int chunkLength = Math.max(minChunkLength, bufferLength / (4 * Runtime.getRuntime().availableProcessors()));
+        List<Chunk> chunks = new ArrayList<>();
+        int chunkStart = 0;
+        int chunkStartLine = 1;
+        int currentLine = 1;
+        int brackets = 0;
+        boolean isEntryOrString = false;
+
+        for (int i = 0; i < bufferLength; i++) {
+            char character = buffer[i];
+            if (character == '\n') {
+                currentLine++;
+            } else if ((character == '@') && (brackets == 0)) {
+                isEntryOrString = !isItemTypeAt(i + 1, "comment") && !isItemTypeAt(i + 1, "preamble");
+            } else if ((i > 0) && isEscapeSymbol(buffer[i - 1])) {
+                // escaped brackets are not counted, as in parseBracketedFieldContent
+                continue;
+            } else if (character == '{') {
+                brackets++;
+            } else if ((character == '}') && (brackets > 0)) {
+                brackets--;
+                // Only after entries and strings, the parser dumps the text read so far exactly after the line break
+                if ((brackets == 0) && isEntryOrString && ((i + 1 - chunkStart) >= chunkLength)) {
+                    int chunkEnd = getEndOfLine(i + 1);
+                    if ((chunkEnd > 0) && (chunkEnd < bufferLength)) {
+                        currentLine++;
+                        chunks.add(new Chunk(chunkStart, chunkEnd, chunkStartLine));
+                        chunkStart = chunkEnd;
+                        chunkStartLine = currentLine;
+                        i = chunkEnd - 1;
+                    }
+                }
+            }
+        }
+        chunks.add(new Chunk(chunkStart, bufferLength, chunkStartLine));
+        return chunks;
+    }
+
+    private boolean isItemTypeAt(int start, String type) {
+        int i = start;
+        while ((i < bufferLength) && Character.isWhitespace(buffer[i])) {
+            i++;
+        }
+        return ((i + type.length()) <= bufferLength)
+                && new String(buffer, i, type.length()).equalsIgnoreCase(type);
+    }
+
+    /**
+     * @return the position after the line break (which is consumed by {@link #skipOneNewline()}) following the given position, -1 if there is none
+     */
+    private int getEndOfLine(int start) {
+        int i = start;
+        while ((i < bufferLength) && (buffer[i] == ' ')) {
+            i++;
+        }
+        if ((i < bufferLength) && (buffer[i] == '\r')) {
+            i++;
+        }
+        if ((i < bufferLength) && (buffer[i] == '\n')) {
+            return i + 1;
+        }
+        return -1;
+    }
+
+    private Optional<ParserResult> parseChunksInParallel(List<Chunk> chunks, String newLineSeparator) {
+        List<BibtexParser> chunkParsers;
+        try {
+            chunkParsers = chunks.parallelStream()
+                                 .map(chunk -> parseChunk(chunk, newLineSeparator))
+                                 .toList();
+        } catch (UncheckedIOException e) {
+            LOGGER.debug("Could not parse chunk", e);
+            return Optional.empty();
+        }
+
+        initializeParserResult(newLineSeparator);
+        for (int i = 0; i < chunkParsers.size(); i++) {
+            BibtexParser chunkParser = chunkParsers.get(i);
+            boolean isLastChunk = i == (chunkParsers.size() - 1);
+            // Each chunk has to end exactly where the sequential parser would be between two entries
+            if (chunkParser.parserResult.hasWarnings()
+                    || (chunkParser.bibDeskGroupTreeNode != null)
+                    || (!isLastChunk && !chunkParser.isAtEndOfChunk())) {
+                return Optional.empty();
+            }
+
+            BibDatabase chunkDatabase = chunkParser.database;
+            for (BibtexString string : chunkDatabase.getStringValues()) {
+                if (database.hasStringByName(string.getName())) {
+                    // the sequential parser reports a warning
+                    return Optional.empty();
+                }
+                database.addString(string);
+            }
+            chunkDatabase.getSharedDatabaseID().ifPresent(database::setSharedDatabaseID);
+            chunkDatabase.getPreamble().ifPresent(database::setPreamble);
+            entryTypes.addAll(chunkParser.entryTypes);
+            meta.putAll(chunkParser.meta);
+            parsedEntries.addAll(chunkParser.parsedEntries);
+        }
+        return Optional.of(finishParsing(chunkParsers.getLast().dumpTextReadSoFarToString()));
+    }
+
+    private BibtexParser parseChunk(Chunk chunk, String newLineSeparator) {
+        BibtexParser chunkParser = new BibtexParser(importFormatPreferences);
+        chunkParser.buffer = buffer;
+        chunkParser.bufferLength = chunk.end();
+        chunkParser.position = chunk.start();
+        chunkParser.recordStart = chunk.start();
+        chunkParser.line = chunk.line();
+        chunkParser.initializeParserResult(newLineSeparator);
+        try {
+            if (chunk.start() == 0) {
+                chunkParser.parseDatabaseID();
+            }
+            chunkParser.skipWhitespace();
+            chunkParser.parseItems();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return chunkParser;
+    }
+
+    private boolean isAtEndOfChunk() {
+        return (position == bufferLength) && (recordStart == bufferLength) && (divergedRecord == null) && pushedBack.isEmpty();
     }
 
     private void parseDatabaseID() throws IOException {
         while (!eof) {
             skipWhitespace();
-            char c = (char) read();
+            int c = read();
 
             if (c == '%') {
                 skipWhitespace();
@@ -224,8 +412,11 @@ public class BibtexParser implements Parser {
     }
 
     private ParserResult parseFileContent() throws IOException {
-        Map<String, String> meta = new HashMap<>();
+        parseItems();
+        return finishParsing(dumpTextReadSoFarToString());
+    }
 
+    private void parseItems() throws IOException {
         while (!eof) {
             boolean found = consumeUncritically('@');
             if (!found) {
@@ -248,7 +439,7 @@ public class BibtexParser implements Parser {
                 case "string" ->
                         parseBibtexString();
                 case "comment" ->
-                        parseJabRefComment(meta);
+                        parseJabRefComment();
                 default ->
                     // Not a comment, preamble, or string. Thus, it is an entry
                         parseAndAddEntry(entryType);
@@ -256,6 +447,13 @@ public class BibtexParser implements Parser {
 
             skipWhitespace();
         }
+    }
+
+    /**
+     * @param remainingContent the text after the last entry
+     */
+    private ParserResult finishParsing(String remainingContent) {
+        database.insertEntries(parsedEntries);
 
         addBibDeskGroupEntriesToJabRefGroups();
 
@@ -286,7 +484,7 @@ public class BibtexParser implements Parser {
             parserResult.addException(exception);
         }
 
-        parseRemainingContent();
+        database.setEpilog(remainingContent.trim());
 
         checkEpilog();
 
@@ -301,10 +499,6 @@ public class BibtexParser implements Parser {
         }
     }
 
-    private void parseRemainingContent() {
-        database.setEpilog(dumpTextReadSoFarToString().trim());
-    }
-
     private void parseAndAddEntry(String type) {
         try {
             // collect all comments and the entry type definition in front of the actual entry
@@ -329,7 +523,7 @@ public class BibtexParser implements Parser {
             String parsedSerialization = commentsAndEntryTypeDefinition + dumpTextReadSoFarToString();
             entry.setParsedSerialization(parsedSerialization);
 
-            database.insertEntry(entry);
+            parsedEntries.add(entry);
         } catch (IOException ex) {
             // This makes the parser more robust:
             // If an exception is thrown when parsing an entry, drop the entry and try to resume parsing.
@@ -339,7 +533,7 @@ public class BibtexParser implements Parser {
         }
     }
 
-    private void parseJabRefComment(Map<String, String> meta) {
+    private void parseJabRefComment() {
         StringBuilder buffer;
         try {
             buffer = parseBracketedFieldContent();
@@ -510,12 +704,15 @@ public class BibtexParser implements Parser {
     }
 
     private String getPureTextFromFile() {
-        StringBuilder entry = new StringBuilder();
-        while (!pureTextFromFile.isEmpty()) {
-            entry.append(pureTextFromFile.pollFirst());
+        String text;
+        if (divergedRecord == null) {
+            text = new String(buffer, recordStart, position - recordStart);
+        } else {
+            text = divergedRecord.toString();
+            divergedRecord = pushedBack.isEmpty() ? null : new StringBuilder();
         }
-
-        return entry.toString();
+        recordStart = position;
+        return text;
     }
 
     /**
@@ -581,7 +778,7 @@ public class BibtexParser implements Parser {
     }
 
     private boolean isEOFCharacter(int character) {
-        return (character == -1) || (character == 65535);
+        return character == -1;
     }
 
     private String skipAndRecordWhitespace(int character) throws IOException {
@@ -616,21 +813,29 @@ public class BibtexParser implements Parser {
         return character;
     }
 
-    private char[] peekTwoCharacters() throws IOException {
-        char character1 = (char) read();
-        char character2 = (char) read();
+    private int[] peekTwoCharacters() throws IOException {
+        int character1 = read();
+        int character2 = read();
         unread(character2);
         unread(character1);
-        return new char[] {
+        return new int[] {
                 character1, character2
         };
     }
 
-    private int read() throws IOException {
-        int character = pushbackReader.read();
+    private int read() {
+        int character;
+        if (!pushedBack.isEmpty()) {
+            character = pushedBack.pop();
+        } else if (position < bufferLength) {
+            character = buffer[position++];
+        } else {
+            // the end of the input is not consumed, thus reading it again returns -1 again
+            character = -1;
+        }
 
-        if (!isEOFCharacter(character)) {
-            pureTextFromFile.offerLast((char) character);
+        if ((divergedRecord != null) && !isEOFCharacter(character)) {
+            divergedRecord.append((char) character);
         }
         if (character == '\n') {
             line++;
@@ -638,14 +843,32 @@ public class BibtexParser implements Parser {
         return character;
     }
 
-    private void unread(int character) throws IOException {
+    private void unread(int character) {
+        if (isEOFCharacter(character)) {
+            // reading the end of the input did not consume anything
+            return;
+        }
         if (character == '\n') {
             line--;
         }
-        pushbackReader.unread(character);
-        if (pureTextFromFile.getLast() == character) {
-            pureTextFromFile.pollLast();
+        if ((divergedRecord == null) && (position > recordStart) && (buffer[position - 1] == character)) {
+            // common case: the character read last is put back
+            position--;
+            return;
+        }
+
+        if (divergedRecord == null) {
+            divergeRecord(position);
         }
+        pushedBack.push((char) character);
+        int last = divergedRecord.length() - 1;
+        if ((last >= 0) && (divergedRecord.charAt(last) == character)) {
+            divergedRecord.deleteCharAt(last);
+        }
+    }
+
+    private void divergeRecord(int recordEnd) {
+        divergedRecord = new StringBuilder(Math.max(16, recordEnd - recordStart)).append(buffer, recordStart, recordEnd - recordStart);
     }
 
     private BibtexString parseString() throws IOException {
@@ -834,22 +1057,23 @@ public class BibtexParser implements Parser {
     private String fixKey() throws IOException {
         StringBuilder key = new StringBuilder();
         int lookaheadUsed = 0;
+        int endCharacter;
         char currentChar;
 
         // Find a char which ends key (','&&'\n') or entryfield ('='):
         do {
-            currentChar = (char) read();
-            key.append(currentChar);
+            endCharacter = read();
+            key.append((char) endCharacter);
             lookaheadUsed++;
-        } while ((currentChar != ',') && (currentChar != '\n') && (currentChar != '=')
+        } while ((endCharacter != ',') && (endCharacter != '\n') && (endCharacter != '=') && !isEOFCharacter(endCharacter)
                 && (lookaheadUsed < BibtexParser.LOOKAHEAD));
 
         // Consumed a char too much, back into reader and remove from key:
-        unread(currentChar);
+        unread(endCharacter);
         key.deleteCharAt(key.length() - 1);
 
         // Restore if possible:
-        switch (currentChar) {
+        switch (endCharacter) {
             case '=':
                 // Get entryfieldname, push it back and take rest as key
                 key = key.reverse();
@@ -1040,7 +1264,11 @@ public class BibtexParser implements Parser {
         char lastCharacter = '\0';
 
         while (true) {
-            character = (char) read();
+            int readCharacter = read();
+            if (isEOFCharacter(readCharacter)) {
+                throw new IOException("Error in line " + line + ": EOF in mid-string");
+            }
+            character = (char) readCharacter;
 
             boolean isClosingBracket = false;
             if (character == '}') {
@@ -1049,7 +1277,7 @@ public class BibtexParser implements Parser {
                     // It could be that a user has a backslash at the end of the entry, but intended to put a file path
                     // We want to be relaxed at that case
                     // First described at https://github.com/JabRef/jabref/issues/9668
-                    char[] nextTwoCharacters = peekTwoCharacters();
+                    int[] nextTwoCharacters = peekTwoCharacters();
                     // Check for "\},\n" - Example context: `  path = {c:\temp\},\n`
                     // On Windows, it could be "\},\r\n", thus we rely in OS.NEWLINE.charAt(0) (which returns '\r' or '\n').
                     //   In all cases, we should check for '\n' as the file could be encoded with Linux line endings on Windows.
@@ -1070,8 +1298,6 @@ public class BibtexParser implements Parser {
 
             if (isClosingBracket && (brackets == 0)) {
                 return value;
-            } else if (isEOFCharacter(character)) {
-                throw new IOException("Error in line " + line + ": EOF in mid-string");
             } else if ((character == '{') && (!isEscapeSymbol(lastCharacter))) {
                 brackets++;
             } else if (isClosingBracket) {
@@ -1125,7 +1351,7 @@ public class BibtexParser implements Parser {
         int character;
         do {
             character = read();
-        } while ((character != expected) && (character != -1) && (character != 65535));
+        } while ((character != expected) && !isEOFCharacter(character));
 
         if (isEOFCharacter(character)) {
             eof = true;
@@ -1145,4 +1371,7 @@ public class BibtexParser implements Parser {
                     + " but received " + (char) character);
         }
     }
+
+    private record Chunk(int start, int end, int line) {
+    }
 }
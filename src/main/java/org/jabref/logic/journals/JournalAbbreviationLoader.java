@@ -7,7 +7,10 @@ import java.nio.file.Path;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
+import org.h2.mvstore.MVStore;
+import org.jspecify.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,6 +27,10 @@ public class JournalAbbreviationLoader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(JournalAbbreviationLoader.class);
 
+    // MVStore cannot read from a resource, thus the built-in list is copied to a temporary file. This is done once per run, and all
+    // repositories share the opened file.
+    @Nullable private static MVStore builtInList;
+
     public static Collection<Abbreviation> readAbbreviationsFromCsvFile(Path file) throws IOException {
         LOGGER.debug("Reading journal list from file {}", file);
         AbbreviationParser parser = new AbbreviationParser();
@@ -35,17 +42,15 @@ public class JournalAbbreviationLoader {
         JournalAbbreviationRepository repository;
 
         // Initialize with built-in list
-        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
-            if (resourceAsStream == null) {
+        try {
+            Optional<MVStore> builtInStore = openBuiltInList();
+            if (builtInStore.isEmpty()) {
                 LOGGER.warn("There is no journal-list.mv. We use a default journal list");
                 repository = new JournalAbbreviationRepository();
             } else {
-                Path tempDir = Files.createTempDirectory("jabref-journal");
-                Path tempJournalList = tempDir.resolve("journal-list.mv");
-                Files.copy(resourceAsStream, tempJournalList);
-                repository = new JournalAbbreviationRepository(tempJournalList);
-                tempDir.toFile().deleteOnExit();
-                tempJournalList.toFile().deleteOnExit();
+                // Built-in lists of older versions lack the maps required for looking up abbreviations on demand
+                repository = JournalAbbreviationRepository.openLazily(builtInStore.get())
+                                                          .orElseGet(() -> new JournalAbbreviationRepository(builtInStore.get()));
             }
         } catch (IOException e) {
             LOGGER.error("Error while copying journal list", e);
@@ -69,6 +74,34 @@ public class JournalAbbreviationLoader {
         return repository;
     }
 
+    private static synchronized Optional<MVStore> openBuiltInList() throws IOException {
+        if (builtInList != null) {
+            return Optional.of(builtInList);
+        }
+        try (InputStream resourceAsStream = JournalAbbreviationRepository.class.getResourceAsStream("/journals/journal-list.mv")) {
+            if (resourceAsStream == null) {
+                return Optional.empty();
+            }
+            Path tempDir = Files.createTempDirectory("jabref-journal");
+            Path tempJournalList = tempDir.resolve("journal-list.mv");
+            Files.copy(resourceAsStream, tempJournalList);
+            builtInList = new MVStore.Builder().readOnly().fileName(tempJournalList.toAbsolutePath().toString()).open();
+            // Deleting on exit fails on Windows while the file is open, and JabRef may exit through System.exit at several places
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> closeBuiltInList(tempDir, tempJournalList), "CloseJournalList"));
+            return Optional.of(builtInList);
+        }
+    }
+
+    private static synchronized void closeBuiltInList(Path tempDir, Path tempJournalList) {
+        builtInList.close();
+        try {
+            Files.deleteIfExists(tempJournalList);
+            Files.deleteIfExists(tempDir);
+        } catch (IOException e) {
+            LOGGER.warn("Could not delete the temporary journal list {}", tempJournalList, e);
+        }
+    }
+
     public static JournalAbbreviationRepository loadBuiltInRepository() {
         return loadRepository(new JournalAbbreviationPreferences(Collections.emptyList(), true));
     }
@@ -2,14 +2,18 @@ package org.jabref.logic.journals;
 
 import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import org.h2.mvstore.MVMap;
 import org.h2.mvstore.MVStore;
@@ -20,39 +24,59 @@ import org.h2.mvstore.MVStore;
 public class JournalAbbreviationRepository {
     static final Pattern QUESTION_MARK = Pattern.compile("\\?");
 
-    private final Map<String, Abbreviation> fullToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> abbreviationToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> dotlessToAbbreviationObject = new HashMap<>();
-    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject = new HashMap<>();
+    private static final String FULL_TO_ABBREVIATION = "FullToAbbreviation";
+    private static final String ABBREVIATION_TO_FULL = "AbbreviationToFull";
+    private static final String DOTLESS_TO_FULL = "DotlessToFull";
+    private static final String SHORTEST_UNIQUE_TO_FULL = "ShortestUniqueToFull";
+
+    private final Map<String, Abbreviation> fullToAbbreviationObject;
+    private final Map<String, Abbreviation> abbreviationToAbbreviationObject;
+    private final Map<String, Abbreviation> dotlessToAbbreviationObject;
+    private final Map<String, Abbreviation> shortestUniqueToAbbreviationObject;
     private final TreeSet<Abbreviation> customAbbreviations = new TreeSet<>();
+    // Maps the lower-cased full name and abbreviated forms to the custom abbreviations, sorted in the same order as customAbbreviations
+    private final Map<String, SortedSet<Abbreviation>> customAbbreviationsByName = new HashMap<>();
 
     /**
      * Initializes the internal data based on the abbreviations found in the given MV file
      */
     public JournalAbbreviationRepository(Path journalList) {
-        MVMap<String, Abbreviation> mvFullToAbbreviationObject;
+        this(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
         try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toAbsolutePath().toString()).open()) {
-            mvFullToAbbreviationObject = store.openMap("FullToAbbreviation");
-            mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
-                String abbrevationString = abbreviation.getAbbreviation();
-                String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
-                Abbreviation newAbbreviation = new Abbreviation(
-                        name,
-                        abbrevationString,
-                        shortestUniqueAbbreviation
-                );
-                fullToAbbreviationObject.put(name, newAbbreviation);
-                abbreviationToAbbreviationObject.put(abbrevationString, newAbbreviation);
-                dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
-                shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
-            });
+            loadAll(store);
         }
     }
 
+    /**
+     * Initializes the internal data based on the abbreviations found in the given store, which is left open
+     */
+    JournalAbbreviationRepository(MVStore store) {
+        this(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
+        loadAll(store);
+    }
+
+    private void loadAll(MVStore store) {
+        MVMap<String, Abbreviation> mvFullToAbbreviationObject = store.openMap(FULL_TO_ABBREVIATION);
+        mvFullToAbbreviationObject.forEach((name, abbreviation) -> {
+            String abbrevationString = abbreviation.getAbbreviation();
+            String shortestUniqueAbbreviation = abbreviation.getShortestUniqueAbbreviation();
+            Abbreviation newAbbreviation = new Abbreviation(
+                    name,
+                    abbrevationString,
+                    shortestUniqueAbbreviation
+            );
+            fullToAbbreviationObject.put(name, newAbbreviation);
+            abbreviationToAbbreviationObject.put(abbrevationString, newAbbreviation);
+            dotlessToAbbreviationObject.put(newAbbreviation.getDotlessAbbreviation(), newAbbreviation);
+            shortestUniqueToAbbreviationObject.put(shortestUniqueAbbreviation, newAbbreviation);
+        });
+    }
+
     /**
      * Initializes the repository with demonstration data. Used if no abbreviation file is found.
      */
     public JournalAbbreviationRepository() {
+        this(new HashMap<>(), new HashMap<>(), new HashMap<>(), new HashMap<>());
         Abbreviation newAbbreviation = new Abbreviation(
                 "Demonstration",
                 "Demo",
@@ -64,11 +88,32 @@ public class JournalAbbreviationRepository {
         shortestUniqueToAbbreviationObject.put("Dem", newAbbreviation);
     }
 
-    private static boolean isMatched(String name, Abbreviation abbreviation) {
-        return name.equalsIgnoreCase(abbreviation.getName())
-                || name.equalsIgnoreCase(abbreviation.getAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getDotlessAbbreviation())
-                || name.equalsIgnoreCase(abbreviation.getShortestUniqueAbbreviation());
+    private JournalAbbreviationRepository(Map<String, Abbreviation> fullToAbbreviationObject,
+                                          Map<String, Abbreviation> abbreviationToAbbreviationObject,
+                                          Map<String, Abbreviation> dotlessToAbbreviationObject,
+                                          Map<String, Abbreviation> shortestUniqueToAbbreviationObject) {
+        this.fullToAbbreviationObject = fullToAbbreviationObject;
+        this.abbreviationToAbbreviationObject = abbreviationToAbbreviationObject;
+        this.dotlessToAbbreviationObject = dotlessToAbbreviationObject;
+        this.shortestUniqueToAbbreviationObject = shortestUniqueToAbbreviationObject;
+    }
+
+    /**
+     * Creates a repository which looks up the abbreviations in the given store on demand instead of loading all of them into memory.
+     * The store must stay open as long as the repository is used.
+     *
+     * @return the repository, empty if the store does not contain the lookup maps for abbreviated names (i.e., it was created by an older version)
+     */
+    static Optional<JournalAbbreviationRepository> openLazily(MVStore store) {
+        if (!store.hasMap(ABBREVIATION_TO_FULL) || !store.hasMap(DOTLESS_TO_FULL) || !store.hasMap(SHORTEST_UNIQUE_TO_FULL)) {
+            return Optional.empty();
+        }
+        MVMap<String, Abbreviation> fullToAbbreviation = store.openMap(FULL_TO_ABBREVIATION);
+        return Optional.of(new JournalAbbreviationRepository(
+                new MVStoreAbbreviationMap(fullToAbbreviation, null),
+                new MVStoreAbbreviationMap(fullToAbbreviation, store.openMap(ABBREVIATION_TO_FULL)),
+                new MVStoreAbbreviationMap(fullToAbbreviation, store.openMap(DOTLESS_TO_FULL)),
+                new MVStoreAbbreviationMap(fullToAbbreviation, store.openMap(SHORTEST_UNIQUE_TO_FULL))));
     }
 
     private static boolean isMatchedAbbreviated(String name, Abbreviation abbreviation) {
@@ -90,7 +135,7 @@ public class JournalAbbreviationRepository {
             return false;
         }
         String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatched(journal, abbreviation))
+        return customAbbreviationsByName.containsKey(toKey(journal))
                 || fullToAbbreviationObject.containsKey(journal)
                 || abbreviationToAbbreviationObject.containsKey(journal)
                 || dotlessToAbbreviationObject.containsKey(journal)
@@ -106,7 +151,7 @@ public class JournalAbbreviationRepository {
             return false;
         }
         String journal = journalName.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
-        return customAbbreviations.stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
+        return getCustomAbbreviations(journal).stream().anyMatch(abbreviation -> isMatchedAbbreviated(journal, abbreviation))
                 || abbreviationToAbbreviationObject.containsKey(journal)
                 || dotlessToAbbreviationObject.containsKey(journal)
                 || shortestUniqueToAbbreviationObject.containsKey(journal);
@@ -121,11 +166,9 @@ public class JournalAbbreviationRepository {
         // Clean up input: trim and unescape ampersand
         String journal = input.trim().replaceAll(Matcher.quoteReplacement("\\&"), "&");
 
-        Optional<Abbreviation> customAbbreviation = customAbbreviations.stream()
-                                                                       .filter(abbreviation -> isMatched(journal, abbreviation))
-                                                                       .findFirst();
-        if (customAbbreviation.isPresent()) {
-            return customAbbreviation;
+        SortedSet<Abbreviation> matchingCustomAbbreviations = getCustomAbbreviations(journal);
+        if (!matchingCustomAbbreviations.isEmpty()) {
+            return Optional.of(matchingCustomAbbreviations.first());
         }
 
         return Optional.ofNullable(fullToAbbreviationObject.get(journal))
@@ -140,11 +183,27 @@ public class JournalAbbreviationRepository {
         // We do NOT want to keep duplicates
         // The set automatically "removes" duplicates
         // What is a duplicate? An abbreviation is NOT the same if any field is NOT equal (e.g., if the shortest unique differs, the abbreviation is NOT the same)
-        customAbbreviations.add(abbreviation);
+        if (customAbbreviations.add(abbreviation)) {
+            Stream.of(abbreviation.getName(), abbreviation.getAbbreviation(), abbreviation.getDotlessAbbreviation(), abbreviation.getShortestUniqueAbbreviation())
+                  .map(JournalAbbreviationRepository::toKey)
+                  .distinct()
+                  .forEach(key -> customAbbreviationsByName.computeIfAbsent(key, k -> new TreeSet<>()).add(abbreviation));
+        }
     }
 
     public Collection<Abbreviation> getCustomAbbreviations() {
-        return customAbbreviations;
+        return Collections.unmodifiableSet(customAbbreviations);
+    }
+
+    /**
+     * Returns the custom abbreviations having the given name as full name or in one of its abbreviated forms, ignoring case
+     */
+    private SortedSet<Abbreviation> getCustomAbbreviations(String journal) {
+        return customAbbreviationsByName.getOrDefault(toKey(journal), Collections.emptySortedSet());
+    }
+
+    private static String toKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
     }
 
     public void addCustomAbbreviations(Collection<Abbreviation> abbreviationsToAdd) {
@@ -167,10 +226,18 @@ public class JournalAbbreviationRepository {
         return get(text).map(Abbreviation::getShortestUniqueAbbreviation);
     }
 
+    /**
+     * For the built-in list, the names are not kept in memory. Iterating them walks the pages of the file, which are cached by
+     * {@link MVStore} after the first iteration.
+     */
     public Set<String> getFullNames() {
         return fullToAbbreviationObject.keySet();
     }
 
+    /**
+     * For the built-in list, each call reads all abbreviations from the file and creates them anew. Callers should keep the result
+     * instead of calling this method again.
+     */
     public Collection<Abbreviation> getAllLoaded() {
         return fullToAbbreviationObject.values();
     }
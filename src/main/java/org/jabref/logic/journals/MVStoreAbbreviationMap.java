@@ -0,0 +1,124 @@
+package org.jabref.logic.journals;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Optional;
+import java.util.Set;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.h2.mvstore.MVMap;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A read-only view on the abbreviations stored in the MV file created by {@code JournalListMvGenerator}.
+ * The abbreviations are looked up in the file on demand, only the most recently requested ones are kept in memory.
+ */
+class MVStoreAbbreviationMap extends AbstractMap<String, Abbreviation> {
+
+    private static final int CACHE_SIZE = 1024;
+
+    private final MVMap<String, Abbreviation> fullToAbbreviation;
+    // Maps the keys of this map to the full names, null if the keys are the full names
+    @Nullable private final MVMap<String, String> keyToFullName;
+    private final LoadingCache<String, Optional<Abbreviation>> cache;
+
+    MVStoreAbbreviationMap(MVMap<String, Abbreviation> fullToAbbreviation, @Nullable MVMap<String, String> keyToFullName) {
+        this.fullToAbbreviation = fullToAbbreviation;
+        this.keyToFullName = keyToFullName;
+        this.cache = CacheBuilder.newBuilder().maximumSize(CACHE_SIZE).build(CacheLoader.from(this::load));
+    }
+
+    private Optional<Abbreviation> load(String key) {
+        String name = keyToFullName == null ? key : keyToFullName.get(key);
+        if (name == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(fullToAbbreviation.get(name))
+                       .map(abbreviation -> copy(name, abbreviation));
+    }
+
+    /**
+     * The abbreviations read from the file lack the fields computed on construction, thus they are created anew
+     */
+    private static Abbreviation copy(String name, Abbreviation abbreviation) {
+        return new Abbreviation(name, abbreviation.getAbbreviation(), abbreviation.getShortestUniqueAbbreviation());
+    }
+
+    private MVMap<String, ?> getKeys() {
+        return keyToFullName == null ? fullToAbbreviation : keyToFullName;
+    }
+
+    @Override
+    public Abbreviation get(Object key) {
+        if (!(key instanceof String journal)) {
+            return null;
+        }
+        return cache.getUnchecked(journal).orElse(null);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return getKeys().size();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return Collections.unmodifiableSet(getKeys().keySet());
+    }
+
+    /**
+     * Iterating reads all abbreviations from the file and creates them anew on each iteration, they are not kept in memory.
+     * Thus, {@link #values()} should be called once and the result kept.
+     */
+    @Override
+    public Set<Entry<String, Abbreviation>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Abbreviation>> iterator() {
+                if (keyToFullName == null) {
+                    // Reads the abbreviations in the order of the file instead of looking up each of them
+                    Iterator<Entry<String, Abbreviation>> entries = fullToAbbreviation.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return entries.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, Abbreviation> next() {
+                            Entry<String, Abbreviation> entry = entries.next();
+                            return new SimpleImmutableEntry<>(entry.getKey(), copy(entry.getKey(), entry.getValue()));
+                        }
+                    };
+                }
+                Iterator<String> keys = getKeys().keySet().iterator();
+                return new Iterator<>() {
+                    @Override
+                    public boolean hasNext() {
+                        return keys.hasNext();
+                    }
+
+                    @Override
+                    public Entry<String, Abbreviation> next() {
+                        String key = keys.next();
+                        return new SimpleImmutableEntry<>(key, load(key).orElse(null));
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return MVStoreAbbreviationMap.this.size();
+            }
+        };
+    }
+}
@@ -1,7 +1,10 @@
 package org.jabref.logic.search;
 
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.beans.property.SimpleBooleanProperty;
@@ -23,6 +26,7 @@ import org.jabref.model.search.event.IndexClosedEvent;
 import org.jabref.model.search.event.IndexRemovedEvent;
 import org.jabref.model.search.event.IndexStartedEvent;
 
+import org.apache.lucene.store.AlreadyClosedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -34,7 +38,7 @@ public class LuceneManager {
     private final BooleanProperty shouldIndexLinkedFiles;
     private final BooleanProperty isLinkedFilesIndexerBlocked = new SimpleBooleanProperty(false);
     private final ChangeListener<Boolean> preferencesListener;
-    private final LuceneIndexer bibFieldsIndexer;
+    private final BibFieldsIndexer bibFieldsIndexer;
     private final LuceneIndexer linkedFilesIndexer;
     private final LuceneSearcher luceneSearcher;
 
@@ -202,6 +206,7 @@ public class LuceneManager {
     }
 
     public void close() {
+        luceneSearcher.close();
         bibFieldsIndexer.close();
         shouldIndexLinkedFiles.removeListener(preferencesListener);
         linkedFilesIndexer.close();
@@ -209,6 +214,7 @@ public class LuceneManager {
     }
 
     public void closeAndWait() {
+        luceneSearcher.close();
         bibFieldsIndexer.closeAndWait();
         shouldIndexLinkedFiles.removeListener(preferencesListener);
         linkedFilesIndexer.closeAndWait();
@@ -230,7 +236,45 @@ public class LuceneManager {
         return query.getSearchResults();
     }
 
+    /**
+     * Pages through the hits of the query, the best scoring hits first. The pager must be closed.
+     * In contrast to {@link #search(SearchQuery)}, the results are not stored in the query.
+     *
+     * @return empty if the query is invalid or the index cannot be read
+     */
+    public Optional<LuceneSearcher.Pager> page(SearchQuery query) {
+        if (!query.isValid()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(luceneSearcher.page(query.getParsedQuery(), query.getSearchFlags()));
+        } catch (IOException | AlreadyClosedException e) {
+            LOGGER.error("Error during search execution", e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Executes the query restricted to the given entry. Results of linked files are not included.
+     */
+    public SearchResults searchForEntry(BibEntry entry, SearchQuery query) {
+        if (query.isValid()) {
+            return luceneSearcher.searchForEntry(entry, query);
+        }
+        return new SearchResults();
+    }
+
     public boolean isEntryMatched(BibEntry entry, SearchQuery query) {
         return luceneSearcher.isEntryMatched(entry, query);
     }
+
+    /**
+     * @return the ids of the given entries which match the query
+     */
+    public Set<String> getMatchedEntries(Collection<BibEntry> entries, SearchQuery query) {
+        if (query.isValid()) {
+            return luceneSearcher.getMatchedEntries(entries, query);
+        }
+        return Set.of();
+    }
 }
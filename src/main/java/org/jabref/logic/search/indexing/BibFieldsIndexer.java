@@ -1,8 +1,23 @@
 package org.jabref.logic.search.indexing;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
 
 import org.jabref.logic.l10n.Localization;
 import org.jabref.logic.search.LuceneIndexer;
@@ -14,23 +29,52 @@ import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.search.SearchFieldConstants;
 
+import com.google.common.collect.Lists;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.StringField;
 import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.index.IndexWriter;
 import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.MultiTerms;
 import org.apache.lucene.index.Term;
+import org.apache.lucene.index.Terms;
+import org.apache.lucene.index.TermsEnum;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.SearcherManager;
 import org.apache.lucene.store.ByteBuffersDirectory;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.BytesRef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Indexes the fields of the entries of a library.
+ * <p>
+ * The index is content-addressed: each Lucene document is identified by a hash of the entry type and the fields of the entry
+ * ({@link SearchFieldConstants#ENTRY_HASH}), not by the entry id, which is only valid during one session.
+ * The mapping from hashes to the ids of the entries having that content is kept in memory.
+ * <p>
+ * For saved libraries, the index is stored on disk at {@link BibDatabaseContext#getBibFieldsIndexPath()}.
+ * On start, only the entries which were added, changed or removed since the last session are (re)indexed.
+ */
 public class BibFieldsIndexer implements LuceneIndexer {
     private static final Logger LOGGER = LoggerFactory.getLogger(BibFieldsIndexer.class);
+    private static final int BATCH_SIZE = 1000;
+    // Within a single batch, progress is reported every this many entries, as localizing the message costs more than indexing an entry
+    private static final int PROGRESS_INTERVAL = 100;
+    private static final int NUMBER_OF_WORKERS = Runtime.getRuntime().availableProcessors();
     private final BibDatabaseContext databaseContext;
     private final String libraryName;
     private final Directory indexDirectory;
+    private final boolean isPersistent;
+    // hash of the entry content -> ids of the entries having that content
+    private final Map<String, Set<String>> entryIdsByHash = new ConcurrentHashMap<>();
+    // entry id -> hash of the entry content at the time it was indexed
+    private final Map<String, String> hashByEntryId = new ConcurrentHashMap<>();
     private IndexWriter indexWriter;
     private SearcherManager searcherManager;
 
@@ -38,68 +82,227 @@ public class BibFieldsIndexer implements LuceneIndexer {
         this.databaseContext = databaseContext;
         this.libraryName = databaseContext.getDatabasePath().map(path -> path.getFileName().toString()).orElse("unsaved");
 
-        IndexWriterConfig config = new IndexWriterConfig(SearchFieldConstants.LATEX_AWARE_NGRAM_ANALYZER);
+        Directory directory = null;
+        if (databaseContext.getDatabasePath().isPresent()) {
+            directory = openPersistentIndex(databaseContext.getBibFieldsIndexPath());
+        }
+        this.isPersistent = directory != null;
+        if (directory == null) {
+            directory = new ByteBuffersDirectory();
+            try {
+                this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(SearchFieldConstants.LATEX_AWARE_NGRAM_ANALYZER));
+                this.searcherManager = new SearcherManager(indexWriter, null);
+            } catch (IOException e) {
+                LOGGER.error("Error initializing bib fields index", e);
+            }
+        }
+        this.indexDirectory = directory;
+    }
 
-        this.indexDirectory = new ByteBuffersDirectory();
+    /**
+     * Opens the on-disk index. In case the index is locked by another instance (e.g., the same library is opened twice),
+     * <code>null</code> is returned and the caller falls back to an in-memory index.
+     */
+    private Directory openPersistentIndex(Path indexPath) {
+        Directory directory = null;
         try {
-            this.indexWriter = new IndexWriter(indexDirectory, config);
+            directory = FSDirectory.open(indexPath);
+            this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(SearchFieldConstants.LATEX_AWARE_NGRAM_ANALYZER));
             this.searcherManager = new SearcherManager(indexWriter, null);
+            LOGGER.debug("Using on-disk bib fields index at {}", indexPath);
+            return directory;
         } catch (IOException e) {
-            LOGGER.error("Error initializing bib fields index", e);
+            LOGGER.debug("Could not open on-disk bib fields index at {} - using in-memory index", indexPath, e);
+            try {
+                if (indexWriter != null) {
+                    indexWriter.rollback();
+                }
+                if (directory != null) {
+                    directory.close();
+                }
+            } catch (IOException ex) {
+                LOGGER.warn("Could not close on-disk bib fields index", ex);
+            }
+            indexWriter = null;
+            return null;
         }
     }
 
     @Override
     public void updateOnStart(BackgroundTask<?> task) {
-        addToIndex(databaseContext.getDatabase().getEntries(), task);
+        if (!isPersistent) {
+            addToIndex(databaseContext.getDatabase().getEntries(), task);
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        Set<String> indexedHashes = getHashesFromIndex();
+        Map<String, BibEntry> entriesToAdd = new HashMap<>();
+        synchronized (this) {
+            for (BibEntry entry : databaseContext.getDatabase().getEntries()) {
+                String hash = getEntryHash(entry);
+                if (registerEntry(entry.getId(), hash) && !indexedHashes.contains(hash)) {
+                    entriesToAdd.put(hash, entry);
+                }
+            }
+
+            Set<String> hashesToRemove = new HashSet<>(indexedHashes);
+            hashesToRemove.removeAll(entryIdsByHash.keySet());
+            LOGGER.debug("{} entries were changed or removed since the last session. Will be removed from the index.", hashesToRemove.size());
+            try {
+                indexWriter.deleteDocuments(hashesToRemove.stream().map(BibFieldsIndexer::getHashTerm).toArray(Term[]::new));
+                // Make the persisted index searchable before the new entries are indexed
+                searcherManager.maybeRefresh();
+            } catch (IOException e) {
+                LOGGER.error("Error deleting stale entries from the index", e);
+            }
+        }
+
+        LOGGER.debug("{} entries were added or changed since the last session. Will be added to the index.", entriesToAdd.size());
+        indexDocuments(entriesToAdd.values(), task);
+        commit();
+        LOGGER.debug("Reconciled bib fields index in {} ms", System.currentTimeMillis() - startTime);
     }
 
     @Override
     public void addToIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        List<BibEntry> entriesToAdd;
+        synchronized (this) {
+            entriesToAdd = entries.stream()
+                                  .filter(entry -> registerEntry(entry.getId(), getEntryHash(entry)))
+                                  .toList();
+        }
+        indexDocuments(entriesToAdd, task);
+    }
+
+    /**
+     * Indexes the given entries in batches of {@link #BATCH_SIZE} entries.
+     * In case there is more than one batch, at most {@link #NUMBER_OF_WORKERS} batches are indexed concurrently on the {@link HeadlessExecutorService}.
+     * {@link IndexWriter} is thread-safe and analyzes the documents of each thread separately, so indexing scales with the number of cores.
+     */
+    private void indexDocuments(Collection<BibEntry> entries, BackgroundTask<?> task) {
+        if (entries.isEmpty()) {
+            return;
+        }
         if (entries.size() > 1) {
             task.showToUser(true);
             task.setTitle(Localization.lang("Indexing bib fields for %0", libraryName));
         }
-        int i = 1;
         long startTime = System.currentTimeMillis();
         LOGGER.debug("Adding {} entries to index", entries.size());
-        for (BibEntry entry : entries) {
-            if (task.isCancelled()) {
-                LOGGER.debug("Indexing canceled");
-                return;
+
+        List<List<BibEntry>> batches = Lists.partition(List.copyOf(entries), BATCH_SIZE);
+        if (batches.size() == 1) {
+            int added = 0;
+            for (BibEntry entry : entries) {
+                if (task.isCancelled()) {
+                    break;
+                }
+                addToIndex(entry);
+                added++;
+                if (((added % PROGRESS_INTERVAL) == 0) || (added == entries.size())) {
+                    reportProgress(task, added, entries.size());
+                }
+            }
+        } else {
+            CompletionService<Integer> completionService = new ExecutorCompletionService<>(HeadlessExecutorService.INSTANCE);
+            Iterator<List<BibEntry>> pendingBatches = batches.iterator();
+            int runningBatches = 0;
+            while ((runningBatches < NUMBER_OF_WORKERS) && pendingBatches.hasNext()) {
+                List<BibEntry> batch = pendingBatches.next();
+                completionService.submit(() -> addBatchToIndex(batch, task));
+                runningBatches++;
+            }
+            // Progress is reported once per batch instead of once per entry
+            int added = 0;
+            try {
+                while (runningBatches > 0) {
+                    Future<Integer> finishedBatch = completionService.take();
+                    runningBatches--;
+                    try {
+                        added += finishedBatch.get();
+                    } catch (ExecutionException e) {
+                        LOGGER.warn("Could not add entries to the index.", e);
+                    }
+                    reportProgress(task, added, entries.size());
+                    if (pendingBatches.hasNext() && !task.isCancelled()) {
+                        List<BibEntry> batch = pendingBatches.next();
+                        completionService.submit(() -> addBatchToIndex(batch, task));
+                        runningBatches++;
+                    }
+                }
+            } catch (InterruptedException e) {
+                // Running batches are not interrupted, IndexWriter does not cope well with interrupts
+                LOGGER.debug("Indexing interrupted", e);
+                Thread.currentThread().interrupt();
             }
-            addToIndex(entry);
-            task.updateProgress(i, entries.size());
-            task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", i, entries.size()));
-            i++;
         }
-        LOGGER.debug("Added {} entries to index in {} ms", entries.size(), System.currentTimeMillis() - startTime);
+        if (task.isCancelled()) {
+            LOGGER.debug("Indexing canceled");
+            return;
+        }
+        LOGGER.debug("Added {} entries to index in {} ms using {} batches", entries.size(), System.currentTimeMillis() - startTime, batches.size());
     }
 
-    private void addToIndex(BibEntry bibEntry) {
+    private static void reportProgress(BackgroundTask<?> task, int added, int total) {
+        task.updateProgress(added, total);
+        task.updateMessage(Localization.lang("%0 of %1 entries added to the index.", added, total));
+    }
+
+    /**
+     * Each document replaces the document with the same hash, so that the index keeps one document per content,
+     * even if the entry was changed (and indexed by {@link #updateEntry}) after it was registered.
+     *
+     * @return the number of added entries
+     */
+    private int addBatchToIndex(List<BibEntry> batch, BackgroundTask<?> task) {
+        if (task.isCancelled()) {
+            return 0;
+        }
+        Map<String, Document> documentsByHash = new LinkedHashMap<>();
+        for (BibEntry entry : batch) {
+            Document document = createDocument(entry);
+            documentsByHash.put(document.get(SearchFieldConstants.ENTRY_HASH.toString()), document);
+        }
         try {
-            Document document = new Document();
-            org.apache.lucene.document.Field.Store storeEnabled = org.apache.lucene.document.Field.Store.YES;
-            org.apache.lucene.document.Field.Store storeDisabled = org.apache.lucene.document.Field.Store.NO;
-            document.add(new StringField(SearchFieldConstants.ENTRY_ID.toString(), bibEntry.getId(), storeEnabled));
-            document.add(new TextField(SearchFieldConstants.ENTRY_TYPE.toString(), bibEntry.getType().getName(), storeDisabled));
-
-            StringBuilder allFields = new StringBuilder(bibEntry.getType().getName());
-            for (Map.Entry<Field, String> mapEntry : bibEntry.getFieldMap().entrySet()) {
-                document.add(new TextField(mapEntry.getKey().getName(), mapEntry.getValue(), storeDisabled));
-                if (mapEntry.getKey().equals(StandardField.GROUPS)) {
-                    // Do not add groups to the allFields field: https://github.com/JabRef/jabref/issues/7996
-                    continue;
-                }
-                allFields.append('\n').append(mapEntry.getValue());
+            for (Map.Entry<String, Document> documentByHash : documentsByHash.entrySet()) {
+                indexWriter.updateDocument(getHashTerm(documentByHash.getKey()), documentByHash.getValue());
             }
-            document.add(new TextField(SearchFieldConstants.DEFAULT_FIELD.toString(), allFields.toString(), storeDisabled));
-            indexWriter.addDocument(document);
+            return batch.size();
+        } catch (IOException e) {
+            LOGGER.warn("Could not add entries to the index.", e);
+            return 0;
+        }
+    }
+
+    private void addToIndex(BibEntry bibEntry) {
+        try {
+            indexWriter.updateDocument(getHashTerm(getEntryHash(bibEntry)), createDocument(bibEntry));
         } catch (IOException e) {
             LOGGER.warn("Could not add an entry to the index.", e);
         }
     }
 
+    private static Document createDocument(BibEntry bibEntry) {
+        Document document = new Document();
+        org.apache.lucene.document.Field.Store storeEnabled = org.apache.lucene.document.Field.Store.YES;
+        org.apache.lucene.document.Field.Store storeDisabled = org.apache.lucene.document.Field.Store.NO;
+        document.add(new StringField(SearchFieldConstants.ENTRY_HASH.toString(), getEntryHash(bibEntry), storeEnabled));
+        document.add(new TextField(SearchFieldConstants.ENTRY_TYPE.toString(), bibEntry.getType().getName(), storeDisabled));
+
+        StringBuilder allFields = new StringBuilder(bibEntry.getType().getName());
+        for (Map.Entry<Field, String> mapEntry : bibEntry.getFieldMap().entrySet()) {
+            document.add(new TextField(mapEntry.getKey().getName(), mapEntry.getValue(), storeDisabled));
+            if (mapEntry.getKey().equals(StandardField.GROUPS)) {
+                // Do not add groups to the allFields field: https://github.com/JabRef/jabref/issues/7996
+                continue;
+            }
+            allFields.append('\n').append(mapEntry.getValue());
+        }
+        document.add(new TextField(SearchFieldConstants.DEFAULT_FIELD.toString(), allFields.toString(), storeDisabled));
+        return document;
+    }
+
     @Override
     public void removeFromIndex(Collection<BibEntry> entries, BackgroundTask<?> task) {
         if (entries.size() > 1) {
@@ -119,9 +322,13 @@ public class BibFieldsIndexer implements LuceneIndexer {
         }
     }
 
-    private void removeFromIndex(BibEntry entry) {
+    private synchronized void removeFromIndex(BibEntry entry) {
+        String hash = hashByEntryId.get(entry.getId());
+        if (hash == null || !unregisterEntry(entry.getId(), hash)) {
+            return;
+        }
         try {
-            indexWriter.deleteDocuments((new Term(SearchFieldConstants.ENTRY_ID.toString(), entry.getId())));
+            indexWriter.deleteDocuments(getHashTerm(hash));
             LOGGER.debug("Entry {} removed from index", entry.getId());
         } catch (IOException e) {
             LOGGER.error("Error deleting entry from index", e);
@@ -131,15 +338,25 @@ public class BibFieldsIndexer implements LuceneIndexer {
     @Override
     public void updateEntry(BibEntry entry, String oldValue, String newValue, BackgroundTask<?> task) {
         LOGGER.debug("Updating entry {} in index", entry.getId());
-        removeFromIndex(entry);
-        addToIndex(entry);
+        String hash = getEntryHash(entry);
+        synchronized (this) {
+            if (hash.equals(hashByEntryId.get(entry.getId()))) {
+                return;
+            }
+            removeFromIndex(entry);
+            if (registerEntry(entry.getId(), hash)) {
+                addToIndex(entry);
+            }
+        }
     }
 
     @Override
-    public void removeAllFromIndex() {
+    public synchronized void removeAllFromIndex() {
         try {
             LOGGER.debug("Removing all bib fields from index");
             indexWriter.deleteAll();
+            entryIdsByHash.clear();
+            hashByEntryId.clear();
             LOGGER.debug("All bib fields removed from index");
         } catch (IOException e) {
             LOGGER.error("Error deleting all linked files from index", e);
@@ -150,6 +367,114 @@ public class BibFieldsIndexer implements LuceneIndexer {
     public void rebuildIndex(BackgroundTask<?> task) {
         removeAllFromIndex();
         addToIndex(databaseContext.getDatabase().getEntries(), task);
+        commit();
+    }
+
+    /**
+     * Registers the entry for the given content hash.
+     *
+     * @return true if no other entry has the same content, i.e., a document has to be added to the index
+     */
+    private boolean registerEntry(String entryId, String hash) {
+        String oldHash = hashByEntryId.put(entryId, hash);
+        if (oldHash != null && !oldHash.equals(hash) && unregisterEntry(entryId, oldHash)) {
+            LOGGER.debug("Entry {} was registered with a different content", entryId);
+            try {
+                indexWriter.deleteDocuments(getHashTerm(oldHash));
+            } catch (IOException e) {
+                LOGGER.error("Error deleting entry from index", e);
+            }
+        }
+        Set<String> entryIds = entryIdsByHash.computeIfAbsent(hash, k -> ConcurrentHashMap.newKeySet());
+        boolean isFirst = entryIds.isEmpty();
+        entryIds.add(entryId);
+        return isFirst;
+    }
+
+    /**
+     * @return true if no other entry has the same content, i.e., the document has to be removed from the index
+     */
+    private boolean unregisterEntry(String entryId, String hash) {
+        hashByEntryId.remove(entryId, hash);
+        Set<String> entryIds = entryIdsByHash.get(hash);
+        if (entryIds == null) {
+            return false;
+        }
+        entryIds.remove(entryId);
+        if (entryIds.isEmpty()) {
+            entryIdsByHash.remove(hash);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return The ids of the entries indexed by the document with the given {@link SearchFieldConstants#ENTRY_HASH}
+     */
+    public Set<String> getEntryIds(String hash) {
+        return Optional.ofNullable(entryIdsByHash.get(hash)).map(Set::copyOf).orElse(Set.of());
+    }
+
+    /**
+     * @return The {@link SearchFieldConstants#ENTRY_HASH} of the document indexing the given entry, if the entry is indexed
+     */
+    public Optional<String> getIndexedHash(BibEntry entry) {
+        return Optional.ofNullable(hashByEntryId.get(entry.getId()));
+    }
+
+    /**
+     * Computes a hash of everything that is indexed for the entry (type and fields). The hash is stable across sessions.
+     */
+    static String getEntryHash(BibEntry entry) {
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putString(entry.getType().getName(), StandardCharsets.UTF_8);
+        entry.getFieldMap().entrySet().stream()
+             .sorted(Comparator.comparing((Map.Entry<Field, String> mapEntry) -> mapEntry.getKey().getName()))
+             .forEach(field -> hasher.putChar('\0')
+                                     .putString(field.getKey().getName(), StandardCharsets.UTF_8)
+                                     .putChar('\0')
+                                     .putString(field.getValue(), StandardCharsets.UTF_8));
+        return hasher.hash().toString();
+    }
+
+    private static Term getHashTerm(String hash) {
+        return new Term(SearchFieldConstants.ENTRY_HASH.toString(), hash);
+    }
+
+    private Set<String> getHashesFromIndex() {
+        LOGGER.debug("Getting all entry hashes from index.");
+        Set<String> hashes = new HashSet<>();
+        try {
+            searcherManager.maybeRefreshBlocking();
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                IndexReader reader = searcher.getIndexReader();
+                Terms terms = MultiTerms.getTerms(reader, SearchFieldConstants.ENTRY_HASH.toString());
+                if (terms != null) {
+                    TermsEnum termsEnum = terms.iterator();
+                    BytesRef term;
+                    while ((term = termsEnum.next()) != null) {
+                        hashes.add(term.utf8ToString());
+                    }
+                }
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            LOGGER.error("Error getting entry hashes from index", e);
+        }
+        return hashes;
+    }
+
+    private void commit() {
+        if (!isPersistent) {
+            return;
+        }
+        try {
+            indexWriter.commit();
+        } catch (IOException e) {
+            LOGGER.warn("Could not commit bib fields index", e);
+        }
     }
 
     @Override
@@ -0,0 +1,92 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.logic.importer.util.FileFieldParser;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.event.EntriesAddedEvent;
+import org.jabref.model.database.event.EntriesRemovedEvent;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.event.FieldChangedEvent;
+import org.jabref.model.entry.field.StandardField;
+
+import com.google.common.eventbus.Subscribe;
+
+/**
+ * Maps the links of linked files to the ids of the entries linking the file.
+ * The map is built once and then kept up to date by listening to the changes of the database,
+ * so that mapping full-text search hits to entries does not need to walk all entries.
+ */
+public class LinkedFilesMap {
+    private final BibDatabase database;
+    private final Map<String, Set<String>> entryIdsByLink = new ConcurrentHashMap<>();
+
+    public LinkedFilesMap(BibDatabase database) {
+        this.database = database;
+        synchronized (this) {
+            database.registerListener(this);
+            for (BibEntry entry : database.getEntries()) {
+                addLinks(entry.getId(), entry.getFiles());
+            }
+        }
+    }
+
+    /**
+     * @return the ids of the entries linking the file
+     */
+    public Set<String> getEntryIds(String fileLink) {
+        Set<String> entryIds = entryIdsByLink.get(fileLink);
+        return entryIds == null ? Set.of() : Set.copyOf(entryIds);
+    }
+
+    public void close() {
+        database.unregisterListener(this);
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesAddedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            addLinks(entry.getId(), entry.getFiles());
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(EntriesRemovedEvent event) {
+        for (BibEntry entry : event.getBibEntries()) {
+            removeLinks(entry.getId(), entry.getFiles());
+        }
+    }
+
+    @Subscribe
+    public synchronized void listen(FieldChangedEvent event) {
+        if (!StandardField.FILE.equals(event.getField())) {
+            return;
+        }
+        String entryId = event.getBibEntry().getId();
+        if (event.getOldValue() != null) {
+            removeLinks(entryId, FileFieldParser.parse(event.getOldValue()));
+        }
+        if (event.getNewValue() != null) {
+            addLinks(entryId, FileFieldParser.parse(event.getNewValue()));
+        }
+    }
+
+    private void addLinks(String entryId, Collection<LinkedFile> linkedFiles) {
+        for (LinkedFile linkedFile : linkedFiles) {
+            entryIdsByLink.computeIfAbsent(linkedFile.getLink(), k -> ConcurrentHashMap.newKeySet()).add(entryId);
+        }
+    }
+
+    private void removeLinks(String entryId, Collection<LinkedFile> linkedFiles) {
+        for (LinkedFile linkedFile : linkedFiles) {
+            entryIdsByLink.computeIfPresent(linkedFile.getLink(), (link, entryIds) -> {
+                entryIds.remove(entryId);
+                return entryIds.isEmpty() ? null : entryIds;
+            });
+        }
+    }
+}
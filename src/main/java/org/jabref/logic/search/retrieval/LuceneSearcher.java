@@ -2,17 +2,20 @@ package org.jabref.logic.search.retrieval;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.jabref.logic.FilePreferences;
 import org.jabref.logic.search.LuceneIndexer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
 import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.entry.BibEntry;
-import org.jabref.model.entry.LinkedFile;
 import org.jabref.model.search.SearchFieldConstants;
 import org.jabref.model.search.SearchFlags;
 import org.jabref.model.search.SearchQuery;
@@ -20,64 +23,164 @@ import org.jabref.model.search.SearchResult;
 import org.jabref.model.search.SearchResults;
 
 import org.apache.lucene.document.Document;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.MultiReader;
 import org.apache.lucene.index.StoredFields;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.Scorable;
 import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.TermInSetQuery;
 import org.apache.lucene.search.TermQuery;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.QueryScorer;
 import org.apache.lucene.search.highlight.SimpleHTMLFormatter;
+import org.apache.lucene.store.AlreadyClosedException;
+import org.apache.lucene.util.BytesRef;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public final class LuceneSearcher {
     private static final Logger LOGGER = LoggerFactory.getLogger(LuceneSearcher.class);
+    // Stored fields needed to map a hit to entries. The text of linked files is not loaded.
+    private static final Set<String> RESULT_FIELDS = Set.of(
+            SearchFieldConstants.ENTRY_HASH.toString(),
+            SearchFieldConstants.PATH.toString(),
+            SearchFieldConstants.PAGE_NUMBER.toString());
+    private static final Set<String> PAGE_FIELDS = Set.of(
+            SearchFieldConstants.CONTENT.toString(),
+            SearchFieldConstants.ANNOTATIONS.toString());
 
     private final FilePreferences filePreferences;
-    private final BibDatabaseContext databaseContext;
+    private final BibFieldsIndexer bibFieldsIndexer;
     private final SearcherManager bibFieldsSearcherManager;
     private final SearcherManager linkedFilesSearcherManager;
+    private final LinkedFilesMap linkedFilesMap;
 
-    public LuceneSearcher(BibDatabaseContext databaseContext, LuceneIndexer bibFieldsIndexer, LuceneIndexer linkedFilesIndexer, FilePreferences filePreferences) {
+    public LuceneSearcher(BibDatabaseContext databaseContext, BibFieldsIndexer bibFieldsIndexer, LuceneIndexer linkedFilesIndexer, FilePreferences filePreferences) {
+        this.bibFieldsIndexer = bibFieldsIndexer;
         this.bibFieldsSearcherManager = bibFieldsIndexer.getSearcherManager();
         this.linkedFilesSearcherManager = linkedFilesIndexer.getSearcherManager();
-        this.databaseContext = databaseContext;
         this.filePreferences = filePreferences;
+        this.linkedFilesMap = new LinkedFilesMap(databaseContext.getDatabase());
+    }
+
+    public void close() {
+        linkedFilesMap.close();
     }
 
     public boolean isEntryMatched(BibEntry entry, SearchQuery searchQuery) {
-        BooleanQuery booleanQuery = buildBooleanQueryForEntry(entry, searchQuery);
-        SearchResults results = search(booleanQuery, searchQuery.getSearchFlags());
-        return results.getSearchScoreForEntry(entry) > 0;
+        return getMatchedEntries(List.of(entry), searchQuery).contains(entry.getId());
+    }
+
+    /**
+     * Determines which of the given entries match the query.
+     * The query is executed once, restricted to the documents of the given entries.
+     * Linked files are not considered, because linked files documents are not associated with an entry.
+     *
+     * @return the ids of the matching entries
+     */
+    public Set<String> getMatchedEntries(Collection<BibEntry> entries, SearchQuery searchQuery) {
+        Map<String, List<String>> entryIdsByHash = new HashMap<>();
+        for (BibEntry entry : entries) {
+            bibFieldsIndexer.getIndexedHash(entry)
+                            .ifPresent(hash -> entryIdsByHash.computeIfAbsent(hash, k -> new ArrayList<>()).add(entry.getId()));
+        }
+        if (entryIdsByHash.isEmpty()) {
+            return Set.of();
+        }
+
+        List<BytesRef> hashes = entryIdsByHash.keySet().stream().map(BytesRef::new).toList();
+        Query query = new BooleanQuery.Builder()
+                .add(searchQuery.getParsedQuery(), BooleanClause.Occur.MUST)
+                .add(new TermInSetQuery(SearchFieldConstants.ENTRY_HASH.toString(), hashes), BooleanClause.Occur.FILTER)
+                .build();
+        Set<String> fieldsToLoad = Set.of(SearchFieldConstants.ENTRY_HASH.toString());
+
+        Set<String> matchedEntries = new HashSet<>();
+        try {
+            IndexSearcher indexSearcher = acquireIndexSearcher(bibFieldsSearcherManager);
+            try {
+                // Each hash identifies exactly one document
+                TopDocs topDocs = indexSearcher.search(query, hashes.size());
+                StoredFields storedFields = indexSearcher.storedFields();
+                for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
+                    String hash = getFieldContents(storedFields.document(scoreDoc.doc, fieldsToLoad), SearchFieldConstants.ENTRY_HASH);
+                    matchedEntries.addAll(entryIdsByHash.getOrDefault(hash, List.of()));
+                }
+            } finally {
+                releaseIndexSearcher(bibFieldsSearcherManager, indexSearcher);
+            }
+        } catch (IOException | IndexSearcher.TooManyClauses | AlreadyClosedException e) {
+            LOGGER.error("Error during search execution", e);
+        }
+        return matchedEntries;
+    }
+
+    /**
+     * Executes the query restricted to the document of the given entry.
+     * Note that results of linked files are not included, because linked files documents are not associated with an entry.
+     */
+    public SearchResults searchForEntry(BibEntry entry, SearchQuery searchQuery) {
+        Optional<String> hash = bibFieldsIndexer.getIndexedHash(entry);
+        if (hash.isEmpty()) {
+            return new SearchResults();
+        }
+        return search(buildBooleanQueryForEntry(hash.get(), searchQuery), searchQuery.getSearchFlags());
     }
 
-    private BooleanQuery buildBooleanQueryForEntry(BibEntry entry, SearchQuery searchQuery) {
+    private BooleanQuery buildBooleanQueryForEntry(String entryHash, SearchQuery searchQuery) {
         Query parsedQuery = searchQuery.getParsedQuery();
-        TermQuery entryIdQuery = new TermQuery(new Term(SearchFieldConstants.ENTRY_ID.toString(), entry.getId()));
+        TermQuery entryHashQuery = new TermQuery(new Term(SearchFieldConstants.ENTRY_HASH.toString(), entryHash));
         return new BooleanQuery.Builder()
                 .add(parsedQuery, BooleanClause.Occur.MUST)
-                .add(entryIdQuery, BooleanClause.Occur.MUST)
+                .add(entryHashQuery, BooleanClause.Occur.MUST)
                 .build();
     }
 
+    /**
+     * @return all hits of the query. Only the ids and scores of the hits are loaded, the text of linked files is loaded on demand.
+     */
     public SearchResults search(Query searchQuery, EnumSet<SearchFlags> searchFlags) {
         LOGGER.debug("Executing search with query: {}", searchQuery);
         try {
             boolean shouldSearchInLinkedFiles = searchFlags.contains(SearchFlags.FULLTEXT) && filePreferences.shouldFulltextIndexLinkedFiles();
             return performSearch(searchQuery, shouldSearchInLinkedFiles);
-        } catch (IOException | IndexSearcher.TooManyClauses e) {
+        } catch (IOException | IndexSearcher.TooManyClauses | AlreadyClosedException e) {
+            LOGGER.error("Error during search execution", e);
+        }
+        return new SearchResults();
+    }
+
+    /**
+     * @param maxHits the number of best scoring hits to return
+     * @return the <code>maxHits</code> best scoring hits of the query
+     */
+    public SearchResults search(Query searchQuery, EnumSet<SearchFlags> searchFlags, int maxHits) {
+        try (Pager pager = page(searchQuery, searchFlags)) {
+            return pager.nextPage(maxHits);
+        } catch (IOException | AlreadyClosedException e) {
             LOGGER.error("Error during search execution", e);
         }
         return new SearchResults();
     }
 
+    /**
+     * Pages through the hits of the query, the best scoring hits first. The pager must be closed to release the index.
+     */
+    public Pager page(Query searchQuery, EnumSet<SearchFlags> searchFlags) throws IOException {
+        boolean shouldSearchInLinkedFiles = searchFlags.contains(SearchFlags.FULLTEXT) && filePreferences.shouldFulltextIndexLinkedFiles();
+        return new Pager(searchQuery, shouldSearchInLinkedFiles);
+    }
+
     private SearchResults performSearch(Query searchQuery, boolean shouldSearchInLinkedFiles) throws IOException {
         if (shouldSearchInLinkedFiles) {
             return searchInBibFieldsAndLinkedFiles(searchQuery);
@@ -109,79 +212,208 @@ public final class LuceneSearcher {
     }
 
     private SearchResults search(IndexSearcher indexSearcher, Query searchQuery, boolean shouldSearchInLinkedFiles) throws IOException {
-        TopDocs topDocs = indexSearcher.search(searchQuery, Integer.MAX_VALUE);
+        // Collecting unsorted avoids a priority queue of the size of the index
+        List<ScoreDoc> scoreDocs = indexSearcher.search(searchQuery, new ScoreDocCollectorManager());
         StoredFields storedFields = indexSearcher.storedFields();
-        LOGGER.debug("Found {} matching documents", topDocs.totalHits.value());
-        return getSearchResults(topDocs, storedFields, searchQuery, shouldSearchInLinkedFiles);
+        LOGGER.debug("Found {} matching documents", scoreDocs.size());
+        return getSearchResults(scoreDocs, storedFields, searchQuery, shouldSearchInLinkedFiles);
     }
 
-    private SearchResults getSearchResults(TopDocs topDocs, StoredFields storedFields, Query searchQuery, boolean shouldSearchInLinkedFiles) throws IOException {
+    private SearchResults getSearchResults(List<ScoreDoc> scoreDocs, StoredFields storedFields, Query searchQuery, boolean shouldSearchInLinkedFiles) throws IOException {
         SearchResults searchResults = new SearchResults();
         long startTime = System.currentTimeMillis();
 
         if (shouldSearchInLinkedFiles) {
-            getBibFieldsAndLinkedFilesResults(topDocs, storedFields, searchQuery, searchResults);
+            getBibFieldsAndLinkedFilesResults(scoreDocs, storedFields, searchQuery, searchResults);
         } else {
-            getBibFieldsResults(topDocs, storedFields, searchResults);
+            getBibFieldsResults(scoreDocs, storedFields, searchResults);
         }
 
         LOGGER.debug("Getting search results took {} ms", System.currentTimeMillis() - startTime);
         return searchResults;
     }
 
-    private void getBibFieldsAndLinkedFilesResults(TopDocs topDocs, StoredFields storedFields, Query searchQuery, SearchResults searchResults) throws IOException {
-        Map<String, List<String>> linkedFilesMap = getLinkedFilesMap();
-        Highlighter highlighter = new Highlighter(new SimpleHTMLFormatter("<b>", "</b>"), new QueryScorer(searchQuery));
+    private void getBibFieldsAndLinkedFilesResults(List<ScoreDoc> scoreDocs, StoredFields storedFields, Query searchQuery, SearchResults searchResults) throws IOException {
+        Highlighter highlighter = null;
 
-        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-            Document document = storedFields.document(scoreDoc.doc);
+        for (ScoreDoc scoreDoc : scoreDocs) {
+            Document document = storedFields.document(scoreDoc.doc, RESULT_FIELDS);
             String fileLink = getFieldContents(document, SearchFieldConstants.PATH);
 
             if (!fileLink.isEmpty()) {
-                addLinkedFileToResults(document, fileLink, linkedFilesMap, highlighter, searchResults, scoreDoc.score);
+                if (highlighter == null) {
+                    highlighter = new Highlighter(new SimpleHTMLFormatter("<b>", "</b>"), new QueryScorer(searchQuery));
+                }
+                addLinkedFileToResults(document, fileLink, highlighter, searchResults, scoreDoc.score);
             } else {
                 addBibEntryToResults(document, searchResults, scoreDoc.score);
             }
         }
     }
 
-    private void getBibFieldsResults(TopDocs topDocs, StoredFields storedFields, SearchResults searchResults) throws IOException {
-        for (ScoreDoc scoreDoc : topDocs.scoreDocs) {
-            Document document = storedFields.document(scoreDoc.doc);
+    private void getBibFieldsResults(List<ScoreDoc> scoreDocs, StoredFields storedFields, SearchResults searchResults) throws IOException {
+        for (ScoreDoc scoreDoc : scoreDocs) {
+            Document document = storedFields.document(scoreDoc.doc, RESULT_FIELDS);
             addBibEntryToResults(document, searchResults, scoreDoc.score);
         }
     }
 
-    private void addLinkedFileToResults(Document document, String fileLink, Map<String, List<String>> linkedFilesMap, Highlighter highlighter, SearchResults searchResults, float score) {
-        List<String> entriesWithFile = linkedFilesMap.get(fileLink);
-        if (entriesWithFile != null && !entriesWithFile.isEmpty()) {
+    private void addLinkedFileToResults(Document document, String fileLink, Highlighter highlighter, SearchResults searchResults, float score) {
+        Set<String> entriesWithFile = linkedFilesMap.getEntryIds(fileLink);
+        if (!entriesWithFile.isEmpty()) {
+            String pageNumber = getFieldContents(document, SearchFieldConstants.PAGE_NUMBER);
             SearchResult searchResult = new SearchResult(score, fileLink,
-                    getFieldContents(document, SearchFieldConstants.CONTENT),
-                    getFieldContents(document, SearchFieldConstants.ANNOTATIONS),
-                    Integer.parseInt(getFieldContents(document, SearchFieldConstants.PAGE_NUMBER)),
-                    highlighter);
+                    Integer.parseInt(pageNumber),
+                    highlighter,
+                    () -> loadLinkedFilePage(fileLink, pageNumber));
             searchResults.addSearchResult(entriesWithFile, searchResult);
         }
     }
 
+    /**
+     * Loads the text of a page of a linked file. This is only done for the results which are displayed.
+     */
+    private Document loadLinkedFilePage(String fileLink, String pageNumber) {
+        Query pageQuery = new BooleanQuery.Builder()
+                .add(new TermQuery(new Term(SearchFieldConstants.PATH.toString(), fileLink)), BooleanClause.Occur.FILTER)
+                .add(new TermQuery(new Term(SearchFieldConstants.PAGE_NUMBER.toString(), pageNumber)), BooleanClause.Occur.FILTER)
+                .build();
+        try {
+            IndexSearcher indexSearcher = acquireIndexSearcher(linkedFilesSearcherManager);
+            try {
+                TopDocs topDocs = indexSearcher.search(pageQuery, 1);
+                if (topDocs.scoreDocs.length > 0) {
+                    return indexSearcher.storedFields().document(topDocs.scoreDocs[0].doc, PAGE_FIELDS);
+                }
+            } finally {
+                releaseIndexSearcher(linkedFilesSearcherManager, indexSearcher);
+            }
+        } catch (IOException | AlreadyClosedException e) {
+            LOGGER.error("Error loading page {} of {} from index", pageNumber, fileLink, e);
+        }
+        return new Document();
+    }
+
     private void addBibEntryToResults(Document document, SearchResults searchResults, float score) {
-        String entryId = getFieldContents(document, SearchFieldConstants.ENTRY_ID);
-        searchResults.addSearchResult(entryId, new SearchResult(score));
+        String entryHash = getFieldContents(document, SearchFieldConstants.ENTRY_HASH);
+        searchResults.addSearchResult(bibFieldsIndexer.getEntryIds(entryHash), new SearchResult(score));
     }
 
-    private Map<String, List<String>> getLinkedFilesMap() {
-        // fileLink to List of entry IDs
-        Map<String, List<String>> linkedFilesMap = new HashMap<>();
-        for (BibEntry bibEntry : databaseContext.getEntries()) {
-            for (LinkedFile linkedFile : bibEntry.getFiles()) {
-                linkedFilesMap.computeIfAbsent(linkedFile.getLink(), k -> new ArrayList<>()).add(bibEntry.getId());
+    private static String getFieldContents(Document document, SearchFieldConstants field) {
+        return Optional.ofNullable(document.get(field.toString())).orElse("");
+    }
+
+    /**
+     * Pages through the hits of a query with {@link IndexSearcher#searchAfter}. All pages are read from the index as it was when the
+     * pager was created, so that each hit is on exactly one page.
+     */
+    public final class Pager implements AutoCloseable {
+        private final Query searchQuery;
+        private final boolean shouldSearchInLinkedFiles;
+        private final IndexSearcher bibFieldsIndexSearcher;
+        private final IndexSearcher linkedFilesIndexSearcher;
+        private final IndexSearcher indexSearcher;
+        private ScoreDoc lastHit;
+        private boolean hasNextPage = true;
+
+        private Pager(Query searchQuery, boolean shouldSearchInLinkedFiles) throws IOException {
+            this.searchQuery = searchQuery;
+            this.shouldSearchInLinkedFiles = shouldSearchInLinkedFiles;
+            this.bibFieldsIndexSearcher = acquireIndexSearcher(bibFieldsSearcherManager);
+            if (shouldSearchInLinkedFiles) {
+                try {
+                    this.linkedFilesIndexSearcher = acquireIndexSearcher(linkedFilesSearcherManager);
+                } catch (IOException | AlreadyClosedException e) {
+                    releaseIndexSearcher(bibFieldsSearcherManager, bibFieldsIndexSearcher);
+                    throw e;
+                }
+                this.indexSearcher = new IndexSearcher(new MultiReader(bibFieldsIndexSearcher.getIndexReader(), linkedFilesIndexSearcher.getIndexReader()));
+            } else {
+                this.linkedFilesIndexSearcher = null;
+                this.indexSearcher = bibFieldsIndexSearcher;
+            }
+        }
+
+        /**
+         * @return the <code>maxHits</code> best scoring hits following the hits of the previous pages
+         */
+        public SearchResults nextPage(int maxHits) {
+            if (!hasNextPage || (maxHits <= 0)) {
+                return new SearchResults();
+            }
+            LOGGER.debug("Executing search with query: {}", searchQuery);
+            try {
+                // The number of hits is limited to the number of documents by Lucene
+                ScoreDoc[] scoreDocs = indexSearcher.searchAfter(lastHit, searchQuery, maxHits).scoreDocs;
+                hasNextPage = scoreDocs.length == maxHits;
+                if (scoreDocs.length > 0) {
+                    lastHit = scoreDocs[scoreDocs.length - 1];
+                }
+                LOGGER.debug("Found {} matching documents", scoreDocs.length);
+                return getSearchResults(List.of(scoreDocs), indexSearcher.storedFields(), searchQuery, shouldSearchInLinkedFiles);
+            } catch (IOException | IndexSearcher.TooManyClauses | AlreadyClosedException e) {
+                LOGGER.error("Error during search execution", e);
+                hasNextPage = false;
+            }
+            return new SearchResults();
+        }
+
+        public boolean hasNextPage() {
+            return hasNextPage;
+        }
+
+        @Override
+        public void close() {
+            try {
+                releaseIndexSearcher(bibFieldsSearcherManager, bibFieldsIndexSearcher);
+                if (linkedFilesIndexSearcher != null) {
+                    releaseIndexSearcher(linkedFilesSearcherManager, linkedFilesIndexSearcher);
+                }
+            } catch (IOException e) {
+                LOGGER.error("Could not release the index", e);
             }
         }
-        return linkedFilesMap;
     }
 
-    private static String getFieldContents(Document document, SearchFieldConstants field) {
-        return Optional.ofNullable(document.get(field.toString())).orElse("");
+    /**
+     * Collects all hits with their scores. In contrast to {@link TopDocs}, the hits are not sorted.
+     */
+    private static class ScoreDocCollectorManager implements CollectorManager<ScoreDocCollector, List<ScoreDoc>> {
+        @Override
+        public ScoreDocCollector newCollector() {
+            return new ScoreDocCollector();
+        }
+
+        @Override
+        public List<ScoreDoc> reduce(Collection<ScoreDocCollector> collectors) {
+            return collectors.stream().flatMap(collector -> collector.scoreDocs.stream()).toList();
+        }
+    }
+
+    private static class ScoreDocCollector extends SimpleCollector {
+        private final List<ScoreDoc> scoreDocs = new ArrayList<>();
+        private Scorable scorer;
+        private int docBase;
+
+        @Override
+        protected void doSetNextReader(LeafReaderContext context) {
+            docBase = context.docBase;
+        }
+
+        @Override
+        public void setScorer(Scorable scorer) {
+            this.scorer = scorer;
+        }
+
+        @Override
+        public void collect(int doc) throws IOException {
+            scoreDocs.add(new ScoreDoc(docBase + doc, scorer.score()));
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE;
+        }
     }
 
     private static IndexSearcher acquireIndexSearcher(SearcherManager searcherManager) throws IOException {
@@ -25,16 +25,21 @@ public class DBMSConnection implements DatabaseConnection {
         }
         this.properties = connectionProperties;
 
-        try {
-            DriverManager.setLoginTimeout(3);
-            // ensure that all SQL drivers are loaded - source: http://stackoverflow.com/a/22384826/873282
-            // we use the side effect of getAvailableDBMSTypes() - it loads all available drivers
-            DBMSConnection.getAvailableDBMSTypes();
+        DriverManager.setLoginTimeout(3);
+        // ensure that all SQL drivers are loaded - source: http://stackoverflow.com/a/22384826/873282
+        // we use the side effect of getAvailableDBMSTypes() - it loads all available drivers
+        DBMSConnection.getAvailableDBMSTypes();
+
+        this.connection = openConnection();
+    }
 
-            if (connectionProperties.isUseExpertMode()) {
-                this.connection = DriverManager.getConnection(connectionProperties.getJdbcUrl(), connectionProperties.asProperties());
+    @Override
+    public Connection openConnection() throws SQLException {
+        try {
+            if (properties.isUseExpertMode()) {
+                return DriverManager.getConnection(properties.getJdbcUrl(), properties.asProperties());
             } else {
-                this.connection = DriverManager.getConnection(connectionProperties.getUrl(), connectionProperties.asProperties());
+                return DriverManager.getConnection(properties.getUrl(), properties.asProperties());
             }
         } catch (SQLException e) {
             // Some systems like PostgreSQL retrieves 0 to every exception.
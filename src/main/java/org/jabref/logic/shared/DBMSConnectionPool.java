@@ -0,0 +1,129 @@
+package org.jabref.logic.shared;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Further connections to the shared database, which are used for reading. Thus, reads do not wait for writes through the main
+ * connection of {@link DBMSProcessor}, and several threads can read at the same time.
+ * <p>
+ * Released connections are kept open together with their prepared statements. As firewalls and timeouts of the database drop idle
+ * connections, idle connections are validated before they are borrowed again. If no further connection can be opened (e.g., because of
+ * a connection limit of the database), the main connection is used. Its statements are prepared for each borrower and closed on release,
+ * as the statements cached for writing must not be used by several threads.
+ */
+class DBMSConnectionPool {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DBMSConnectionPool.class);
+
+    private static final int MAX_IDLE_CONNECTIONS = 4;
+    private static final int VALIDATION_TIMEOUT_SECONDS = 2;
+
+    private final DatabaseConnection databaseConnection;
+    private final Connection mainConnection;
+    private final Deque<PreparedStatementCache> idleConnections = new ArrayDeque<>();
+    private boolean canOpenConnections = true;
+    private boolean closed;
+
+    DBMSConnectionPool(DatabaseConnection databaseConnection) {
+        this.databaseConnection = databaseConnection;
+        this.mainConnection = databaseConnection.getConnection();
+    }
+
+    /**
+     * Returns a connection, which is not used by other threads until it is released. If no further connection is available, the main
+     * connection is returned with statements of the borrower's own.
+     */
+    PreparedStatementCache borrow() {
+        while (true) {
+            PreparedStatementCache idleConnection;
+            synchronized (this) {
+                if (closed || !canOpenConnections) {
+                    return new PreparedStatementCache(mainConnection);
+                }
+                idleConnection = idleConnections.pollFirst();
+            }
+            if (idleConnection == null) {
+                break;
+            }
+            if (isValid(idleConnection)) {
+                return idleConnection;
+            }
+            LOGGER.debug("Idle connection was dropped. Closing it.");
+            close(idleConnection);
+        }
+
+        try {
+            return new PreparedStatementCache(databaseConnection.openConnection());
+        } catch (SQLException e) {
+            LOGGER.warn("Could not open further connection. Reading through the main connection.", e);
+            synchronized (this) {
+                canOpenConnections = false;
+            }
+            return new PreparedStatementCache(mainConnection);
+        }
+    }
+
+    void release(PreparedStatementCache connection) {
+        if (connection.getConnection() == mainConnection) {
+            connection.closeStatements();
+            return;
+        }
+        synchronized (this) {
+            if (!closed && (idleConnections.size() < MAX_IDLE_CONNECTIONS)) {
+                idleConnections.addFirst(connection);
+                return;
+            }
+        }
+        close(connection);
+    }
+
+    /**
+     * Closes a connection instead of releasing it, because an error occurred and the connection might be broken
+     */
+    void discard(PreparedStatementCache connection) {
+        if (connection.getConnection() == mainConnection) {
+            connection.closeStatements();
+        } else {
+            close(connection);
+        }
+    }
+
+    /**
+     * Closes the idle connections. Connections borrowed at the moment are closed when they are released.
+     */
+    void close() {
+        List<PreparedStatementCache> connectionsToClose;
+        synchronized (this) {
+            closed = true;
+            connectionsToClose = new ArrayList<>(idleConnections);
+            idleConnections.clear();
+        }
+        connectionsToClose.forEach(DBMSConnectionPool::close);
+    }
+
+    private static boolean isValid(PreparedStatementCache connection) {
+        try {
+            return connection.getConnection().isValid(VALIDATION_TIMEOUT_SECONDS);
+        } catch (SQLException e) {
+            LOGGER.debug("Could not validate connection", e);
+            return false;
+        }
+    }
+
+    private static void close(PreparedStatementCache connection) {
+        connection.closeStatements();
+        try {
+            connection.getConnection().close();
+        } catch (SQLException e) {
+            LOGGER.debug("Could not close connection", e);
+        }
+    }
+}
@@ -163,6 +163,13 @@ public class DBMSConnectionProperties implements DatabaseConnectionProperties {
         if (allowPublicKeyRetrieval) {
             props.setProperty("allowPublicKeyRetrieval", Boolean.toString(true));
         }
+        // Send batched inserts as multi-row inserts, otherwise the MariaDB driver (used for MySQL) and the PostgreSQL driver take one round trip
+        // per statement of a batch. The Oracle driver sends a batch at once anyway.
+        if (type == DBMSType.MYSQL) {
+            props.setProperty("rewriteBatchedStatements", Boolean.toString(true));
+        } else if (type == DBMSType.POSTGRESQL) {
+            props.setProperty("reWriteBatchedInserts", Boolean.toString(true));
+        }
         return props;
     }
 
@@ -8,14 +8,16 @@ import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.jabref.logic.shared.exception.OfflineLockException;
@@ -27,6 +29,7 @@ import org.jabref.model.entry.field.FieldFactory;
 import org.jabref.model.entry.types.EntryTypeFactory;
 import org.jabref.model.metadata.MetaData;
 
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,13 +43,105 @@ public abstract class DBMSProcessor {
 
     protected static final Logger LOGGER = LoggerFactory.getLogger(DBMSProcessor.class);
 
+    // Bounds the number of parameters of the statements replacing the fields
+    private static final int UPDATE_PARTITION_SIZE = 100;
+    // Oracle supports at most 1000 expressions in a list
+    private static final int MAX_PADDED_PARAMETERS = 512;
+
     protected final Connection connection;
 
     protected DatabaseConnectionProperties connectionProperties;
 
+    // The statements of the frequent queries are prepared once per connection. The statements of the main connection are used for
+    // writing only, thus all writes are synchronized on the processor.
+    private final PreparedStatementCache statementCache;
+    private final DBMSConnectionPool readConnections;
+
+    // The queries are built once, queries with a list of shared IDs once per number of parameters
+    private final Map<Integer, String> selectEntriesQueries = new ConcurrentHashMap<>();
+    private final Map<Integer, String> deleteFieldsQueries = new ConcurrentHashMap<>();
+    private final Supplier<String> selectIDVersionMappingQuery = Suppliers.memoize(() -> "SELECT " +
+            escape("SHARED_ID") +
+            ", " +
+            escape("VERSION") +
+            " FROM " +
+            escape_Table("ENTRY") +
+            " ORDER BY " +
+            escape("SHARED_ID"));
+    private final Supplier<String> selectChangeStampQuery = Suppliers.memoize(() -> "SELECT COUNT(*), SUM(" +
+            escape("VERSION") +
+            "), MAX(" +
+            escape("SHARED_ID") +
+            ") FROM " +
+            escape_Table("ENTRY"));
+    private final Supplier<String> insertFieldQuery = Suppliers.memoize(() -> "INSERT INTO " +
+            escape_Table("FIELD") +
+            "(" +
+            escape("ENTRY_SHARED_ID") +
+            ", " +
+            escape("NAME") +
+            ", " +
+            escape("VALUE") +
+            ") VALUES(?, ?, ?)");
+    private final Supplier<String> updateEntryTypeQuery = Suppliers.memoize(() -> "UPDATE " +
+            escape_Table("ENTRY") +
+            " SET " +
+            escape("TYPE") +
+            " = ?, " +
+            escape("VERSION") +
+            " = " +
+            escape("VERSION") +
+            " + 1 WHERE " +
+            escape("SHARED_ID") +
+            " = ?");
+
+    /**
+     * Summary of the ENTRY table. Each update of an entry increments its version, thus changes the summary. Insertions and removals
+     * change the entry count. The summary does not identify a state uniquely: if a removal and an insertion happen in between, the
+     * summary stays the same in case the database reuses the removed shared ID (e.g., MySQL may reuse the highest AUTO_INCREMENT
+     * value after a restart) and the versions match.
+     */
+    public record ChangeStamp(int entryCount, long versionSum, int maxSharedID) {
+
+        /**
+         * Returns the summary after the given number of entries got a new version by {@link #updateEntries(List)}
+         */
+        public ChangeStamp withUpdatedEntries(int updatedEntries) {
+            return new ChangeStamp(entryCount, versionSum + updatedEntries, maxSharedID);
+        }
+
+        /**
+         * Returns the summary after the entries with the given shared IDs were inserted, updated or removed
+         *
+         * @param versionsBefore the versions of the entries before the change by their shared ID, without the inserted entries
+         * @param versionsAfter  the versions of the entries after the change by their shared ID, without the removed entries
+         * @return the summary, empty if it cannot be derived because the entry with the highest shared ID was removed
+         */
+        public Optional<ChangeStamp> withChangedEntries(Map<Integer, Integer> versionsBefore, Map<Integer, Integer> versionsAfter) {
+            if (versionsBefore.containsKey(maxSharedID) && !versionsAfter.containsKey(maxSharedID)) {
+                return Optional.empty();
+            }
+            long versionDelta = versionsAfter.values().stream().mapToLong(Integer::longValue).sum()
+                    - versionsBefore.values().stream().mapToLong(Integer::longValue).sum();
+            int newMaxSharedID = versionsAfter.keySet().stream().mapToInt(Integer::intValue).reduce(maxSharedID, Math::max);
+            return Optional.of(new ChangeStamp(entryCount + versionsAfter.size() - versionsBefore.size(), versionSum + versionDelta, newMaxSharedID));
+        }
+    }
+
+    /**
+     * Result of {@link #updateEntries(List)}
+     *
+     * @param updatedEntries the number of shared entries, which got a new version
+     * @param refusedUpdates the refused updates of entries having a newer version on shared database
+     */
+    public record EntriesUpdate(int updatedEntries, List<OfflineLockException> refusedUpdates) {
+    }
+
     protected DBMSProcessor(DatabaseConnection dbmsConnection) {
         this.connection = dbmsConnection.getConnection();
         this.connectionProperties = dbmsConnection.getProperties();
+        this.statementCache = new PreparedStatementCache(connection);
+        this.readConnections = new DBMSConnectionPool(dbmsConnection);
     }
 
     /**
@@ -163,13 +258,17 @@ public abstract class DBMSProcessor {
      *
      * @param bibEntries List of {@link BibEntry} to be inserted
      */
-    public void insertEntries(List<BibEntry> bibEntries) {
+    public synchronized void insertEntries(List<BibEntry> bibEntries) {
         List<BibEntry> notYetExistingEntries = getNotYetExistingEntries(bibEntries);
         if (notYetExistingEntries.isEmpty()) {
             return;
         }
         insertIntoEntryTable(notYetExistingEntries);
-        insertIntoFieldTable(notYetExistingEntries);
+        try {
+            insertIntoFieldTable(notYetExistingEntries);
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error during field insertion", e);
+        }
     }
 
     /**
@@ -248,50 +347,47 @@ public abstract class DBMSProcessor {
      * Inserts the given list of BibEntry into FIELD table.
      *
      * @param bibEntries {@link BibEntry} to be inserted
+     * @throws SQLException in case of error
      */
-    protected void insertIntoFieldTable(List<BibEntry> bibEntries) {
-        try {
-            // Inserting into FIELD table
-            // Coerce to ArrayList in order to use List.get()
-            List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
-                                                 .collect(Collectors.toList());
-
-            StringBuilder insertFieldQuery = new StringBuilder()
-                    .append("INSERT INTO ")
-                    .append(escape_Table("FIELD"))
-                    .append("(")
-                    .append(escape("ENTRY_SHARED_ID"))
-                    .append(", ")
-                    .append(escape("NAME"))
-                    .append(", ")
-                    .append(escape("VALUE"))
-                    .append(") VALUES(?, ?, ?)");
-            int numFields = 0;
-            for (List<Field> entryFields : fields) {
-                numFields += entryFields.size();
-            }
+    protected void insertIntoFieldTable(List<BibEntry> bibEntries) throws SQLException {
+        // Inserting into FIELD table
+        // Coerce to ArrayList in order to use List.get()
+        List<List<Field>> fields = bibEntries.stream().map(bibEntry -> new ArrayList<>(bibEntry.getFields()))
+                                             .collect(Collectors.toList());
 
-            if (numFields == 0) {
-                return; // Prevent SQL Exception
-            }
+        StringBuilder insertFieldQuery = new StringBuilder()
+                .append("INSERT INTO ")
+                .append(escape_Table("FIELD"))
+                .append("(")
+                .append(escape("ENTRY_SHARED_ID"))
+                .append(", ")
+                .append(escape("NAME"))
+                .append(", ")
+                .append(escape("VALUE"))
+                .append(") VALUES(?, ?, ?)");
+        int numFields = 0;
+        for (List<Field> entryFields : fields) {
+            numFields += entryFields.size();
+        }
 
-            // Number of commas is fields.size() - 1
-            insertFieldQuery.append(", (?, ?, ?)".repeat(Math.max(0, (numFields - 1))));
-            try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
-                int fieldsCompleted = 0;
-                for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
-                    for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
-                        // columnIndex starts with 1
-                        preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
-                        preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
-                        fieldsCompleted += 1;
-                    }
+        if (numFields == 0) {
+            return; // Prevent SQL Exception
+        }
+
+        // Number of commas is fields.size() - 1
+        insertFieldQuery.append(", (?, ?, ?)".repeat(Math.max(0, (numFields - 1))));
+        try (PreparedStatement preparedFieldStatement = connection.prepareStatement(insertFieldQuery.toString())) {
+            int fieldsCompleted = 0;
+            for (int entryIndex = 0; entryIndex < fields.size(); entryIndex++) {
+                for (int entryFieldsIndex = 0; entryFieldsIndex < fields.get(entryIndex).size(); entryFieldsIndex++) {
+                    // columnIndex starts with 1
+                    preparedFieldStatement.setInt((3 * fieldsCompleted) + 1, bibEntries.get(entryIndex).getSharedBibEntryData().getSharedID());
+                    preparedFieldStatement.setString((3 * fieldsCompleted) + 2, fields.get(entryIndex).get(entryFieldsIndex).getName());
+                    preparedFieldStatement.setString((3 * fieldsCompleted) + 3, bibEntries.get(entryIndex).getField(fields.get(entryIndex).get(entryFieldsIndex)).get());
+                    fieldsCompleted += 1;
                 }
-                preparedFieldStatement.executeUpdate();
             }
-        } catch (SQLException e) {
-            LOGGER.error("SQL Error: ", e);
+            preparedFieldStatement.executeUpdate();
         }
     }
 
@@ -299,150 +395,128 @@ public abstract class DBMSProcessor {
      * Updates the whole {@link BibEntry} on shared database.
      *
      * @param localBibEntry {@link BibEntry} affected by changes
-     * @throws SQLException in case of error
+     * @throws OfflineLockException if the shared entry has a newer version
+     * @throws SQLException         in case of error
      */
     public void updateEntry(BibEntry localBibEntry) throws OfflineLockException, SQLException {
-        connection.setAutoCommit(false); // disable auto commit due to transaction
-
-        try {
-            Optional<BibEntry> sharedEntryOptional = getSharedEntry(localBibEntry.getSharedBibEntryData().getSharedID());
+        List<OfflineLockException> refusedUpdates = updateEntries(Collections.singletonList(localBibEntry)).refusedUpdates();
+        if (!refusedUpdates.isEmpty()) {
+            throw refusedUpdates.getFirst();
+        }
+    }
 
-            if (sharedEntryOptional.isEmpty()) {
-                return;
+    /**
+     * Updates the given entries on shared database in one transaction. The fields of each entry are replaced with a constant number of
+     * round trips, independent of the number of fields (see {@link #replaceFields(List)}).
+     * <p>
+     * An entry is only updated if the local version is at least the shared one or the entries are equal. Entries, which are not present
+     * on shared database, are ignored.
+     *
+     * @param localBibEntries {@link BibEntry BibEntries} affected by changes
+     * @return the number of updated entries and the refused updates of entries having a newer version on shared database
+     * @throws SQLException in case of error
+     */
+    public synchronized EntriesUpdate updateEntries(List<BibEntry> localBibEntries) throws SQLException {
+        List<Integer> sharedIDs = localBibEntries.stream()
+                                                 .map(localBibEntry -> localBibEntry.getSharedBibEntryData().getSharedID())
+                                                 .distinct()
+                                                 .toList();
+        Map<Integer, BibEntry> sharedEntries = partitionAndGetSharedEntries(sharedIDs)
+                .stream()
+                .collect(Collectors.toMap(sharedEntry -> sharedEntry.getSharedBibEntryData().getSharedID(), Function.identity()));
+
+        List<OfflineLockException> refusedUpdates = new ArrayList<>();
+        // Per shared ID, only the last local entry is written, as the fields of an entry are replaced as a whole
+        Map<Integer, BibEntry> entriesToUpdate = new LinkedHashMap<>();
+        for (BibEntry localBibEntry : localBibEntries) {
+            BibEntry sharedBibEntry = sharedEntries.get(localBibEntry.getSharedBibEntryData().getSharedID());
+            if (sharedBibEntry == null) {
+                continue;
             }
-
-            BibEntry sharedBibEntry = sharedEntryOptional.get();
-
-            // remove shared fields which do not exist locally
-            removeSharedFieldsByDifference(localBibEntry, sharedBibEntry);
-
             // update only if local version is higher or the entries are equal
             if ((localBibEntry.getSharedBibEntryData().getVersion() >= sharedBibEntry.getSharedBibEntryData()
                                                                                      .getVersion()) || localBibEntry.equals(sharedBibEntry)) {
-                insertOrUpdateFields(localBibEntry);
-
-                // updating entry type
-                String updateEntryTypeQuery = "UPDATE " +
-                        escape_Table("ENTRY") +
-                        " SET " +
-                        escape("TYPE") +
-                        " = ?, " +
-                        escape("VERSION") +
-                        " = " +
-                        escape("VERSION") +
-                        " + 1 WHERE " +
-                        escape("SHARED_ID") +
-                        " = ?";
-
-                try (PreparedStatement preparedUpdateEntryTypeStatement = connection.prepareStatement(updateEntryTypeQuery)) {
-                    preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
-                    preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                    preparedUpdateEntryTypeStatement.executeUpdate();
-                }
-
-                connection.commit(); // apply all changes in current transaction
+                entriesToUpdate.put(sharedBibEntry.getSharedBibEntryData().getSharedID(), localBibEntry);
             } else {
-                throw new OfflineLockException(localBibEntry, sharedBibEntry);
+                refusedUpdates.add(new OfflineLockException(localBibEntry, sharedBibEntry));
             }
+        }
+        if (entriesToUpdate.isEmpty()) {
+            return new EntriesUpdate(0, refusedUpdates);
+        }
+
+        connection.setAutoCommit(false); // disable auto commit due to transaction
+
+        try {
+            for (List<BibEntry> partition : Lists.partition(new ArrayList<>(entriesToUpdate.values()), UPDATE_PARTITION_SIZE)) {
+                replaceFields(partition);
+                updateEntryTypes(partition);
+            }
+
+            connection.commit(); // apply all changes in current transaction
+
+            // the local entries now have the shared state, so that they are not fetched again on the next synchronization
+            entriesToUpdate.forEach((sharedID, localBibEntry) ->
+                    localBibEntry.getSharedBibEntryData().setVersion(sharedEntries.get(sharedID).getSharedBibEntryData().getVersion() + 1));
         } catch (SQLException e) {
             LOGGER.error("SQL Error: ", e);
             connection.rollback(); // undo changes made in current transaction
+            return new EntriesUpdate(0, refusedUpdates);
         } finally {
             connection.setAutoCommit(true); // enable auto commit mode again
         }
+        return new EntriesUpdate(entriesToUpdate.size(), refusedUpdates);
     }
 
     /**
-     * Helping method. Removes shared fields which do not exist locally
+     * Replaces all shared fields of the given entries with their local fields: one statement removes the shared fields, one batch
+     * inserts the local ones. The drivers send the batch in one round trip (see {@link DBMSConnectionProperties#asProperties()}).
+     * The FIELD table has no unique key on entry and name, thus a database specific upsert is not possible.
      */
-    private void removeSharedFieldsByDifference(BibEntry localBibEntry, BibEntry sharedBibEntry) throws SQLException {
-        Set<Field> nullFields = new HashSet<>(sharedBibEntry.getFields());
-        nullFields.removeAll(localBibEntry.getFields());
-        for (Field nullField : nullFields) {
-            String deleteFieldQuery = "DELETE FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedDeleteFieldStatement = connection
-                    .prepareStatement(deleteFieldQuery)) {
-                preparedDeleteFieldStatement.setString(1, nullField.getName());
-                preparedDeleteFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-                preparedDeleteFieldStatement.executeUpdate();
+    protected void replaceFields(List<BibEntry> localBibEntries) throws SQLException {
+        int parameterCount = getParameterCount(localBibEntries.size());
+        PreparedStatement preparedDeleteFieldsStatement = statementCache.prepareStatement(
+                deleteFieldsQueries.computeIfAbsent(parameterCount, this::createDeleteFieldsQuery));
+        setSharedIDs(preparedDeleteFieldsStatement, localBibEntries.stream().map(entry -> entry.getSharedBibEntryData().getSharedID()).toList(), parameterCount);
+        preparedDeleteFieldsStatement.executeUpdate();
+
+        PreparedStatement preparedInsertFieldStatement = statementCache.prepareStatement(insertFieldQuery.get());
+        boolean hasFields = false;
+        for (BibEntry localBibEntry : localBibEntries) {
+            for (Map.Entry<Field, String> field : localBibEntry.getFieldMap().entrySet()) {
+                preparedInsertFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
+                preparedInsertFieldStatement.setString(2, field.getKey().getName());
+                preparedInsertFieldStatement.setString(3, field.getValue());
+                preparedInsertFieldStatement.addBatch();
+                hasFields = true;
             }
         }
+        if (hasFields) {
+            preparedInsertFieldStatement.executeBatch();
+        }
+    }
+
+    private String createDeleteFieldsQuery(int parameterCount) {
+        return "DELETE FROM " +
+                escape_Table("FIELD") +
+                " WHERE " +
+                escape("ENTRY_SHARED_ID") +
+                " IN (" +
+                "?, ".repeat(parameterCount - 1) +
+                "?)";
     }
 
     /**
-     * Helping method. Inserts a key-value pair into FIELD table for every field if not existing. Otherwise only an
-     * update is performed.
+     * Helping method. Updates the entry types and increments the versions of the given entries in one batch
      */
-    private void insertOrUpdateFields(BibEntry localBibEntry) throws SQLException {
-        for (Field field : localBibEntry.getFields()) {
-            // avoiding to use deprecated BibEntry.getField() method. null values are accepted by PreparedStatement!
-            Optional<String> valueOptional = localBibEntry.getField(field);
-            String value = null;
-            if (valueOptional.isPresent()) {
-                value = valueOptional.get();
-            }
-
-            String selectFieldQuery = "SELECT * FROM " +
-                    escape_Table("FIELD") +
-                    " WHERE " +
-                    escape("NAME") +
-                    " = ? AND " +
-                    escape("ENTRY_SHARED_ID") +
-                    " = ?";
-
-            try (PreparedStatement preparedSelectFieldStatement = connection
-                    .prepareStatement(selectFieldQuery)) {
-                preparedSelectFieldStatement.setString(1, field.getName());
-                preparedSelectFieldStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
-
-                try (ResultSet selectFieldResultSet = preparedSelectFieldStatement.executeQuery()) {
-                    if (selectFieldResultSet.next()) { // check if field already exists
-                        String updateFieldQuery = "UPDATE " +
-                                escape_Table("FIELD") +
-                                " SET " +
-                                escape("VALUE") +
-                                " = ? WHERE " +
-                                escape("NAME") +
-                                " = ? AND " +
-                                escape("ENTRY_SHARED_ID") +
-                                " = ?";
-
-                        try (PreparedStatement preparedUpdateFieldStatement = connection
-                                .prepareStatement(updateFieldQuery)) {
-                            preparedUpdateFieldStatement.setString(1, value);
-                            preparedUpdateFieldStatement.setString(2, field.getName());
-                            preparedUpdateFieldStatement.setInt(3, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedUpdateFieldStatement.executeUpdate();
-                        }
-                    } else {
-                        String insertFieldQuery = "INSERT INTO " +
-                                escape_Table("FIELD") +
-                                "(" +
-                                escape("ENTRY_SHARED_ID") +
-                                ", " +
-                                escape("NAME") +
-                                ", " +
-                                escape("VALUE") +
-                                ") VALUES(?, ?, ?)";
-
-                        try (PreparedStatement preparedFieldStatement = connection
-                                .prepareStatement(insertFieldQuery)) {
-                            preparedFieldStatement.setInt(1, localBibEntry.getSharedBibEntryData().getSharedID());
-                            preparedFieldStatement.setString(2, field.getName());
-                            preparedFieldStatement.setString(3, value);
-                            preparedFieldStatement.executeUpdate();
-                        }
-                    }
-                }
-            }
+    private void updateEntryTypes(List<BibEntry> localBibEntries) throws SQLException {
+        PreparedStatement preparedUpdateEntryTypeStatement = statementCache.prepareStatement(updateEntryTypeQuery.get());
+        for (BibEntry localBibEntry : localBibEntries) {
+            preparedUpdateEntryTypeStatement.setString(1, localBibEntry.getType().getName());
+            preparedUpdateEntryTypeStatement.setInt(2, localBibEntry.getSharedBibEntryData().getSharedID());
+            preparedUpdateEntryTypeStatement.addBatch();
         }
+        preparedUpdateEntryTypeStatement.executeBatch();
     }
 
     /**
@@ -450,7 +524,7 @@ public abstract class DBMSProcessor {
      *
      * @param bibEntries {@link BibEntry} to be deleted
      */
-    public void removeEntries(List<BibEntry> bibEntries) {
+    public synchronized void removeEntries(List<BibEntry> bibEntries) {
         Objects.requireNonNull(bibEntries);
         if (bibEntries.isEmpty()) {
             return;
@@ -513,36 +587,12 @@ public abstract class DBMSProcessor {
 
         List<BibEntry> sharedEntries = new ArrayList<>();
 
-        StringBuilder query = new StringBuilder();
-        query.append("SELECT ")
-             .append(escape_Table("ENTRY")).append(".").append(escape("SHARED_ID")).append(", ")
-             .append(escape_Table("ENTRY")).append(".").append(escape("TYPE")).append(", ")
-             .append(escape_Table("ENTRY")).append(".").append(escape("VERSION")).append(", ")
-             .append("F.").append(escape("ENTRY_SHARED_ID")).append(", ")
-             .append("F.").append(escape("NAME")).append(", ")
-             .append("F.").append(escape("VALUE"))
-             .append(" FROM ")
-             .append(escape_Table("ENTRY"))
-             // Handle special case if entry does not have any fields (yet)
-             .append(" left outer join ")
-             .append(escape_Table("FIELD"))
-             .append(" F on ")
-             .append(escape_Table("ENTRY")).append(".").append(escape("SHARED_ID"))
-             .append(" = F.").append(escape("ENTRY_SHARED_ID"));
-
-        if (!sharedIDs.isEmpty()) {
-            query.append(" where ")
-                 .append(escape("SHARED_ID")).append(" in (")
-                 .append("?, ".repeat(sharedIDs.size() - 1))
-                 .append("?)");
-        }
-        query.append(" order by ")
-             .append(escape("SHARED_ID"));
-
-        try (PreparedStatement preparedStatement = connection.prepareStatement(query.toString())) {
-            for (int i = 0; i < sharedIDs.size(); i++) {
-                preparedStatement.setInt(i + 1, sharedIDs.get(i));
-            }
+        int parameterCount = getParameterCount(sharedIDs.size());
+        String query = selectEntriesQueries.computeIfAbsent(parameterCount, this::createSelectEntriesQuery);
+        PreparedStatementCache readConnection = readConnections.borrow();
+        try {
+            PreparedStatement preparedStatement = readConnection.prepareStatement(query);
+            setSharedIDs(preparedStatement, sharedIDs, parameterCount);
 
             try (ResultSet selectEntryResultSet = preparedStatement.executeQuery()) {
                 BibEntry bibEntry = null;
@@ -569,35 +619,113 @@ public abstract class DBMSProcessor {
         } catch (SQLException e) {
             LOGGER.error("Executed >{}<", query);
             LOGGER.error("SQL Error", e);
+            readConnections.discard(readConnection);
             return Collections.emptyList();
         }
+        readConnections.release(readConnection);
 
         return sharedEntries;
     }
 
+    private String createSelectEntriesQuery(int parameterCount) {
+        StringBuilder query = new StringBuilder();
+        query.append("SELECT ")
+             .append(escape_Table("ENTRY")).append(".").append(escape("SHARED_ID")).append(", ")
+             .append(escape_Table("ENTRY")).append(".").append(escape("TYPE")).append(", ")
+             .append(escape_Table("ENTRY")).append(".").append(escape("VERSION")).append(", ")
+             .append("F.").append(escape("ENTRY_SHARED_ID")).append(", ")
+             .append("F.").append(escape("NAME")).append(", ")
+             .append("F.").append(escape("VALUE"))
+             .append(" FROM ")
+             .append(escape_Table("ENTRY"))
+             // Handle special case if entry does not have any fields (yet)
+             .append(" left outer join ")
+             .append(escape_Table("FIELD"))
+             .append(" F on ")
+             .append(escape_Table("ENTRY")).append(".").append(escape("SHARED_ID"))
+             .append(" = F.").append(escape("ENTRY_SHARED_ID"));
+
+        if (parameterCount > 0) {
+            query.append(" where ")
+                 .append(escape("SHARED_ID")).append(" in (")
+                 .append("?, ".repeat(parameterCount - 1))
+                 .append("?)");
+        }
+        query.append(" order by ")
+             .append(escape("SHARED_ID"));
+        return query.toString();
+    }
+
+    /**
+     * Rounds the number of shared IDs up to a power of two, so that only few queries with different numbers of parameters are
+     * prepared and cached.
+     */
+    private static int getParameterCount(int sharedIDCount) {
+        if ((sharedIDCount <= 1) || (sharedIDCount > MAX_PADDED_PARAMETERS)) {
+            return sharedIDCount;
+        }
+        return Integer.highestOneBit(sharedIDCount - 1) << 1;
+    }
+
+    /**
+     * Sets the shared IDs as parameters. The remaining parameters are filled with the last ID, which does not change the result of
+     * an IN clause.
+     */
+    private static void setSharedIDs(PreparedStatement preparedStatement, List<Integer> sharedIDs, int parameterCount) throws SQLException {
+        for (int i = 0; i < parameterCount; i++) {
+            preparedStatement.setInt(i + 1, sharedIDs.get(Math.min(i, sharedIDs.size() - 1)));
+        }
+    }
+
     public List<BibEntry> getSharedEntries() {
         return getSharedEntries(Collections.emptyList());
     }
 
     /**
      * Retrieves a mapping between the columns SHARED_ID and VERSION.
+     *
+     * @return the mapping, empty in case of error. A partial mapping is never returned, as the entries missing in it would be removed locally.
      */
-    public Map<Integer, Integer> getSharedIDVersionMapping() {
+    public Optional<Map<Integer, Integer>> getSharedIDVersionMapping() {
         Map<Integer, Integer> sharedIDVersionMapping = new HashMap<>();
-        String selectEntryQuery = "SELECT * FROM " +
-                escape_Table("ENTRY") +
-                " ORDER BY " +
-                escape("SHARED_ID");
 
-        try (ResultSet selectEntryResultSet = connection.createStatement().executeQuery(selectEntryQuery)) {
+        PreparedStatementCache readConnection = readConnections.borrow();
+        try (ResultSet selectEntryResultSet = readConnection.prepareStatement(selectIDVersionMappingQuery.get()).executeQuery()) {
             while (selectEntryResultSet.next()) {
                 sharedIDVersionMapping.put(selectEntryResultSet.getInt("SHARED_ID"), selectEntryResultSet.getInt("VERSION"));
             }
         } catch (SQLException e) {
             LOGGER.error("SQL Error", e);
+            readConnections.discard(readConnection);
+            return Optional.empty();
+        }
+        readConnections.release(readConnection);
+
+        return Optional.of(sharedIDVersionMapping);
+    }
+
+    /**
+     * Retrieves a summary of the ENTRY table, which is much smaller than {@link #getSharedIDVersionMapping()}.
+     * The summary changes when an entry is inserted, updated or removed.
+     *
+     * @return the summary, empty in case of error
+     */
+    public Optional<ChangeStamp> getSharedChangeStamp() {
+        Optional<ChangeStamp> changeStamp = Optional.empty();
+
+        PreparedStatementCache readConnection = readConnections.borrow();
+        try (ResultSet selectStampResultSet = readConnection.prepareStatement(selectChangeStampQuery.get()).executeQuery()) {
+            if (selectStampResultSet.next()) {
+                changeStamp = Optional.of(new ChangeStamp(selectStampResultSet.getInt(1), selectStampResultSet.getLong(2), selectStampResultSet.getInt(3)));
+            }
+        } catch (SQLException e) {
+            LOGGER.error("SQL Error", e);
+            readConnections.discard(readConnection);
+            return Optional.empty();
         }
+        readConnections.release(readConnection);
 
-        return sharedIDVersionMapping;
+        return changeStamp;
     }
 
     /**
@@ -622,7 +750,7 @@ public abstract class DBMSProcessor {
      *
      * @param data JabRef meta data as map
      */
-    public void setSharedMetaData(Map<String, String> data) throws SQLException {
+    public synchronized void setSharedMetaData(Map<String, String> data) throws SQLException {
         StringBuilder updateQuery = new StringBuilder()
                 .append("UPDATE ")
                 .append(escape_Table("METADATA"))
@@ -677,6 +805,14 @@ public abstract class DBMSProcessor {
         return null; // can never happen except new types were added without updating this method.
     }
 
+    /**
+     * Closes the cached statements and the further connections opened for reading. The main connection is closed by its owner.
+     */
+    public synchronized void close() {
+        readConnections.close();
+        statementCache.closeStatements();
+    }
+
     public DatabaseConnectionProperties getDBMSConnectionProperties() {
         return this.connectionProperties;
     }
@@ -704,4 +840,12 @@ public abstract class DBMSProcessor {
     public void notifyClients() {
         // nothing to do
     }
+
+    /**
+     * Notifies all clients ({@link DBMSSynchronizer}) which are connected to the same DBMS about the given changes of entries, so that
+     * they fetch only these entries. Needs to be implemented if LiveUpdate is supported by the DBMS
+     */
+    public void notifyClients(@SuppressWarnings("unused") SharedEntryChanges changes) {
+        // nothing to do
+    }
 }
@@ -3,6 +3,9 @@ package org.jabref.logic.shared;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -40,6 +43,11 @@ import org.slf4j.LoggerFactory;
 /**
  * Synchronizes the shared or local databases with their opposite side. Local changes are pushed by {@link EntriesEvent}
  * using Google's Guava EventBus.
+ * <p>
+ * Field changes filtered out by {@link org.jabref.logic.util.CoarseChangeFilter} (e.g., typing) are collected and pushed together
+ * with the next major change. The local database is only compared with the shared one if the {@link DBMSProcessor.ChangeStamp} of the
+ * shared database changed since the last synchronization, and only entries with a newer shared version are fetched. Own updates of
+ * entries advance the last change stamp, so that they do not lead to a comparison. Insertions and removals still do.
  */
 public class DBMSSynchronizer implements DatabaseSynchronizer {
 
@@ -56,7 +64,10 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     private final GlobalCitationKeyPatterns globalCiteKeyPattern;
     private final FieldPreferences fieldPreferences;
     private final FileUpdateMonitor fileMonitor;
-    private Optional<BibEntry> lastEntryChanged;
+    // Entries changed locally, which were not pushed yet. Compared by identity, as the content of the entries changes.
+    private final Set<BibEntry> pendingEntryChanges = Collections.newSetFromMap(new IdentityHashMap<>());
+    // Written by the notification listener thread and the thread pushing local changes
+    private volatile Optional<DBMSProcessor.ChangeStamp> lastSynchronizedChangeStamp = Optional.empty();
 
     public DBMSSynchronizer(BibDatabaseContext bibDatabaseContext, Character keywordSeparator,
                             FieldPreferences fieldPreferences,
@@ -69,7 +80,6 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         this.eventBus = new EventBus();
         this.keywordSeparator = keywordSeparator;
         this.globalCiteKeyPattern = Objects.requireNonNull(globalCiteKeyPattern);
-        this.lastEntryChanged = Optional.empty();
     }
 
     /**
@@ -80,12 +90,16 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to insert the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
+            // The shared database differs from the one of the last synchronization. Entries fetched from the shared database do not
+            // change it, thus they keep the change stamp.
+            lastSynchronizedChangeStamp = Optional.empty();
             synchronizeLocalMetaData();
-            pullWithLastEntry();
+            pushPendingEntryChanges();
             synchronizeLocalDatabase();
             dbmsProcessor.insertEntries(event.getBibEntries());
-            // Reset last changed entry because it just has already been synchronized -> Why necessary?
-            lastEntryChanged = Optional.empty();
+            notifyClients(event.getBibEntries(), List.of());
+            // The inserted entries have just been synchronized completely
+            removePendingEntryChanges(event.getBibEntries());
         }
     }
 
@@ -97,14 +111,15 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         BibEntry bibEntry = event.getBibEntry();
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to update the bibEntry entry again (but it would not harm).
+        if (event.getEntriesEventSource() == EntriesEventSource.SHARED) {
+            return;
+        }
+        addPendingEntryChange(bibEntry);
+        // Minor changes are pushed together with the next major one
         if (isPresentLocalBibEntry(bibEntry) && isEventSourceAccepted(event) && checkCurrentConnection() && !event.isFilteredOut()) {
             synchronizeLocalMetaData();
-            pullWithLastEntry();
-            synchronizeSharedEntry(bibEntry);
+            pushPendingEntryChanges();
             synchronizeLocalDatabase(); // Pull changes for the case that there were some
-        } else {
-            // Set new BibEntry that has been changed last
-            lastEntryChanged = Optional.of(bibEntry);
         }
     }
 
@@ -116,9 +131,12 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         // While synchronizing the local database (see synchronizeLocalDatabase() below), some EntriesEvents may be posted.
         // In this case DBSynchronizer should not try to delete the bibEntry entry again (but it would not harm).
         if (isEventSourceAccepted(event) && checkCurrentConnection()) {
+            // The shared database differs from the one of the last synchronization
+            lastSynchronizedChangeStamp = Optional.empty();
             synchronizeLocalMetaData();
-            pullWithLastEntry();
+            pushPendingEntryChanges();
             dbmsProcessor.removeEntries(event.getBibEntries());
+            notifyClients(List.of(), event.getBibEntries());
             synchronizeLocalDatabase();
         }
     }
@@ -175,51 +193,126 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
 
+        Optional<DBMSProcessor.ChangeStamp> changeStamp = dbmsProcessor.getSharedChangeStamp();
+        if (changeStamp.isPresent() && changeStamp.equals(lastSynchronizedChangeStamp)) {
+            // nothing changed since the last synchronization
+            return;
+        }
+
+        Optional<Map<Integer, Integer>> sharedIDVersionMapping = dbmsProcessor.getSharedIDVersionMapping();
+        if (sharedIDVersionMapping.isEmpty()) {
+            // Without the complete mapping, all local entries would be regarded as removed on the shared database
+            LOGGER.warn("Could not read the shared entries. Skipping synchronization.");
+            return;
+        }
         List<BibEntry> localEntries = bibDatabase.getEntries();
-        Map<Integer, Integer> idVersionMap = dbmsProcessor.getSharedIDVersionMapping();
+        Map<Integer, Integer> idVersionMap = sharedIDVersionMapping.get();
 
         // remove old entries locally
         removeNotSharedEntries(localEntries, idVersionMap.keySet());
-        List<Integer> entriesToInsertIntoLocalDatabase = new ArrayList<>();
-        // compare versions and update local entry if needed
-        for (Map.Entry<Integer, Integer> idVersionEntry : idVersionMap.entrySet()) {
-            boolean remoteEntryMatchingOneLocalEntryFound = false;
-            for (BibEntry localEntry : localEntries) {
-                if (idVersionEntry.getKey().equals(localEntry.getSharedBibEntryData().getSharedID())) {
-                    remoteEntryMatchingOneLocalEntryFound = true;
-                    if (idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion()) {
-                        Optional<BibEntry> sharedEntry = dbmsProcessor.getSharedEntry(idVersionEntry.getKey());
-                        if (sharedEntry.isPresent()) {
-                            // update fields
-                            localEntry.setType(sharedEntry.get().getType(), EntriesEventSource.SHARED);
-                            localEntry.getSharedBibEntryData()
-                                      .setVersion(sharedEntry.get().getSharedBibEntryData().getVersion());
-                            sharedEntry.get().getFieldMap().forEach(
-                                    // copy remote values to local entry
-                                    (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
-                            );
-
-                            // locally remove not existing fields
-                            localEntry.getFields().stream()
-                                      .filter(field -> !sharedEntry.get().hasField(field))
-                                      .forEach(
-                                              field -> localEntry.clearField(field, EntriesEventSource.SHARED)
-                                      );
-                        }
-                    }
-                }
+        fetchChangedEntries(idVersionMap);
+
+        lastSynchronizedChangeStamp = changeStamp;
+    }
+
+    /**
+     * Synchronizes only the changes of shared entries another client notified about. In contrast to {@link #pullChanges()}, neither
+     * the whole ID-version mapping nor the meta data is fetched.
+     * <p>
+     * The change stamp of the last synchronization is advanced by the applied changes, so that the next local change does not lead to
+     * a comparison of all entries.
+     */
+    public void pullChanges(SharedEntryChanges changes) {
+        if (!checkCurrentConnection()) {
+            return;
+        }
+        pushPendingEntryChanges();
+
+        Set<Integer> notifiedIDs = new HashSet<>(changes.changedVersions().keySet());
+        notifiedIDs.addAll(changes.removedIDs());
+        Map<Integer, Integer> versionsBefore = getLocalVersions(notifiedIDs);
+
+        removeLocalEntries(bibDatabase.getEntries()
+                                      .stream()
+                                      .filter(localEntry -> changes.removedIDs().contains(localEntry.getSharedBibEntryData().getSharedID()))
+                                      .toList());
+        fetchChangedEntries(changes.changedVersions());
+
+        Map<Integer, Integer> versionsAfter = getLocalVersions(notifiedIDs);
+        lastSynchronizedChangeStamp = lastSynchronizedChangeStamp.flatMap(changeStamp -> changeStamp.withChangedEntries(versionsBefore, versionsAfter));
+    }
+
+    /**
+     * @return the versions of the local entries having one of the given shared IDs by their shared ID
+     */
+    private Map<Integer, Integer> getLocalVersions(Set<Integer> sharedIDs) {
+        return bibDatabase.getEntries()
+                          .stream()
+                          .filter(localEntry -> sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
+                          .collect(Collectors.toMap(localEntry -> localEntry.getSharedBibEntryData().getSharedID(),
+                                  localEntry -> localEntry.getSharedBibEntryData().getVersion(),
+                                  Math::max));
+    }
+
+    /**
+     * Fetches the shared entries which are newer than the local ones or not present locally, and applies them to the local database.
+     *
+     * @param sharedVersions the versions of the shared entries to be checked by their shared ID
+     */
+    private void fetchChangedEntries(Map<Integer, Integer> sharedVersions) {
+        Map<Integer, List<BibEntry>> localEntriesBySharedID = bibDatabase.getEntries()
+                                                                         .stream()
+                                                                         .collect(Collectors.groupingBy(localEntry -> localEntry.getSharedBibEntryData().getSharedID()));
+
+        // compare versions to find the local entries which need an update
+        List<Integer> entriesToFetch = new ArrayList<>();
+        for (Map.Entry<Integer, Integer> idVersionEntry : sharedVersions.entrySet()) {
+            List<BibEntry> matchingLocalEntries = localEntriesBySharedID.get(idVersionEntry.getKey());
+            if ((matchingLocalEntries == null)
+                    || matchingLocalEntries.stream().anyMatch(localEntry -> idVersionEntry.getValue() > localEntry.getSharedBibEntryData().getVersion())) {
+                entriesToFetch.add(idVersionEntry.getKey());
             }
-            if (!remoteEntryMatchingOneLocalEntryFound) {
-                entriesToInsertIntoLocalDatabase.add(idVersionEntry.getKey());
+        }
+
+        List<BibEntry> entriesToInsertIntoLocalDatabase = new ArrayList<>();
+        // fetch all changed entries at once instead of querying them one by one
+        for (BibEntry sharedEntry : dbmsProcessor.partitionAndGetSharedEntries(entriesToFetch)) {
+            List<BibEntry> matchingLocalEntries = localEntriesBySharedID.get(sharedEntry.getSharedBibEntryData().getSharedID());
+            if (matchingLocalEntries == null) {
+                entriesToInsertIntoLocalDatabase.add(sharedEntry);
+                continue;
+            }
+            for (BibEntry localEntry : matchingLocalEntries) {
+                if (sharedEntry.getSharedBibEntryData().getVersion() > localEntry.getSharedBibEntryData().getVersion()) {
+                    updateLocalEntry(localEntry, sharedEntry);
+                }
             }
         }
 
         if (!entriesToInsertIntoLocalDatabase.isEmpty()) {
             // in case entries should be added into the local database, insert them
-            bibDatabase.insertEntries(dbmsProcessor.partitionAndGetSharedEntries(entriesToInsertIntoLocalDatabase), EntriesEventSource.SHARED);
+            bibDatabase.insertEntries(entriesToInsertIntoLocalDatabase, EntriesEventSource.SHARED);
         }
     }
 
+    private void updateLocalEntry(BibEntry localEntry, BibEntry sharedEntry) {
+        // update fields
+        localEntry.setType(sharedEntry.getType(), EntriesEventSource.SHARED);
+        localEntry.getSharedBibEntryData()
+                  .setVersion(sharedEntry.getSharedBibEntryData().getVersion());
+        sharedEntry.getFieldMap().forEach(
+                // copy remote values to local entry
+                (field, value) -> localEntry.setField(field, value, EntriesEventSource.SHARED)
+        );
+
+        // locally remove not existing fields
+        localEntry.getFields().stream()
+                  .filter(field -> !sharedEntry.hasField(field))
+                  .forEach(
+                          field -> localEntry.clearField(field, EntriesEventSource.SHARED)
+                  );
+    }
+
     /**
      * Removes all local entries which are not present on shared database.
      *
@@ -227,10 +320,12 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
      * @param sharedIDs    Set of all IDs which are present on shared database
      */
     private void removeNotSharedEntries(List<BibEntry> localEntries, Set<Integer> sharedIDs) {
-        List<BibEntry> entriesToRemove =
-                localEntries.stream()
-                            .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
-                            .collect(Collectors.toList());
+        removeLocalEntries(localEntries.stream()
+                                       .filter(localEntry -> !sharedIDs.contains(localEntry.getSharedBibEntryData().getSharedID()))
+                                       .collect(Collectors.toList()));
+    }
+
+    private void removeLocalEntries(List<BibEntry> entriesToRemove) {
         if (!entriesToRemove.isEmpty()) {
             eventBus.post(new SharedEntriesNotPresentEvent(entriesToRemove));
             // remove all non-shared entries without triggering listeners
@@ -246,16 +341,51 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         if (!checkCurrentConnection()) {
             return;
         }
+        BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences); // perform possibly existing save actions
+        synchronizeSharedEntries(List.of(bibEntry));
+    }
+
+    /**
+     * Synchronizes the shared BibEntries with the local ones in one transaction.
+     */
+    private void synchronizeSharedEntries(List<BibEntry> bibEntries) {
+        if (bibEntries.isEmpty() || !checkCurrentConnection()) {
+            return;
+        }
         try {
-            BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences); // perform possibly existing save actions
-            dbmsProcessor.updateEntry(bibEntry);
-        } catch (OfflineLockException exception) {
-            eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+            DBMSProcessor.EntriesUpdate entriesUpdate = dbmsProcessor.updateEntries(bibEntries);
+            // The local entries got the new versions, thus the own update must not lead to a comparison of all entries
+            lastSynchronizedChangeStamp = lastSynchronizedChangeStamp.map(changeStamp -> changeStamp.withUpdatedEntries(entriesUpdate.updatedEntries()));
+
+            Set<BibEntry> refusedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (OfflineLockException exception : entriesUpdate.refusedUpdates()) {
+                refusedEntries.add(exception.getLocalBibEntry());
+                eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
+            }
+            notifyClients(bibEntries.stream().filter(bibEntry -> !refusedEntries.contains(bibEntry)).toList(), List.of());
         } catch (SQLException e) {
             LOGGER.error("SQL Error", e);
         }
     }
 
+    /**
+     * Notifies the other clients about the entries changed on shared database, so that they fetch only these entries
+     */
+    private void notifyClients(List<BibEntry> changedEntries, List<BibEntry> removedEntries) {
+        Map<Integer, Integer> changedVersions = changedEntries.stream()
+                                                              .filter(bibEntry -> bibEntry.getSharedBibEntryData().getSharedID() != -1)
+                                                              .collect(Collectors.toMap(bibEntry -> bibEntry.getSharedBibEntryData().getSharedID(),
+                                                                      bibEntry -> bibEntry.getSharedBibEntryData().getVersion(),
+                                                                      Math::max));
+        Set<Integer> removedIDs = removedEntries.stream()
+                                                .map(bibEntry -> bibEntry.getSharedBibEntryData().getSharedID())
+                                                .collect(Collectors.toSet());
+        SharedEntryChanges changes = new SharedEntryChanges(DBMSProcessor.PROCESSOR_ID, changedVersions, removedIDs);
+        if (!changes.isEmpty()) {
+            dbmsProcessor.notifyClients(changes);
+        }
+    }
+
     /**
      * Synchronizes all meta data locally.
      */
@@ -295,18 +425,14 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         if (!checkCurrentConnection()) {
             return;
         }
+        List<BibEntry> changedEntries = new ArrayList<>();
         for (BibEntry bibEntry : bibDatabase.getEntries()) {
-            try {
-                // synchronize only if changes were present
-                if (!BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences).isEmpty()) {
-                    dbmsProcessor.updateEntry(bibEntry);
-                }
-            } catch (OfflineLockException exception) {
-                eventBus.post(new UpdateRefusedEvent(bibDatabaseContext, exception.getLocalBibEntry(), exception.getSharedBibEntry()));
-            } catch (SQLException e) {
-                LOGGER.error("SQL Error: ", e);
+            // synchronize only if changes were present
+            if (!BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences).isEmpty()) {
+                changedEntries.add(bibEntry);
             }
         }
+        synchronizeSharedEntries(changedEntries);
     }
 
     /**
@@ -318,34 +444,54 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
             return;
         }
         // First synchronize entry, then synchronize database
-        pullWithLastEntry();
+        pushPendingEntryChanges();
         synchronizeLocalDatabase();
         synchronizeLocalMetaData();
     }
 
     /**
-     * Synchronizes local BibEntries only if last entry changes still remain
+     * Synchronizes local BibEntries only if local entry changes still remain
      */
     public void pullLastEntryChanges() {
-        if (lastEntryChanged.isPresent()) {
+        if (hasPendingEntryChanges()) {
             if (!checkCurrentConnection()) {
                 return;
             }
             synchronizeLocalMetaData();
-            pullWithLastEntry();
+            pushPendingEntryChanges();
             // Pull changes for the case that there were some
             synchronizeLocalDatabase();
         }
     }
 
     /**
-     * Synchronizes local BibEntries and pulls remaining last entry changes
+     * Pushes the entries changed locally since the last push in one transaction
      */
-    private void pullWithLastEntry() {
-        if (lastEntryChanged.isPresent() && isPresentLocalBibEntry(lastEntryChanged.get())) {
-            synchronizeSharedEntry(lastEntryChanged.get());
-        }
-        lastEntryChanged = Optional.empty();
+    private void pushPendingEntryChanges() {
+        List<BibEntry> changedEntries = takePendingEntryChanges().stream()
+                                                                 .filter(this::isPresentLocalBibEntry)
+                                                                 .toList();
+        // perform possibly existing save actions
+        changedEntries.forEach(bibEntry -> BibDatabaseWriter.applySaveActions(bibEntry, metaData, fieldPreferences));
+        synchronizeSharedEntries(changedEntries);
+    }
+
+    private synchronized void addPendingEntryChange(BibEntry bibEntry) {
+        pendingEntryChanges.add(bibEntry);
+    }
+
+    private synchronized void removePendingEntryChanges(List<BibEntry> bibEntries) {
+        bibEntries.forEach(pendingEntryChanges::remove);
+    }
+
+    private synchronized boolean hasPendingEntryChanges() {
+        return !pendingEntryChanges.isEmpty();
+    }
+
+    private synchronized List<BibEntry> takePendingEntryChanges() {
+        List<BibEntry> bibEntries = new ArrayList<>(pendingEntryChanges);
+        pendingEntryChanges.clear();
+        return bibEntries;
     }
 
     /**
@@ -385,6 +531,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         this.dbName = connection.getProperties().getDatabase();
         this.currentConnection = connection.getConnection();
         this.dbmsProcessor = DBMSProcessor.getProcessorInstance(connection);
+        this.lastSynchronizedChangeStamp = Optional.empty();
         initializeDatabases();
     }
 
@@ -394,6 +541,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
         pullLastEntryChanges();
         try {
             dbmsProcessor.stopNotificationListener();
+            dbmsProcessor.close();
             currentConnection.close();
         } catch (SQLException e) {
             LOGGER.error("SQL Error:", e);
@@ -401,7 +549,7 @@ public class DBMSSynchronizer implements DatabaseSynchronizer {
     }
 
     private boolean isPresentLocalBibEntry(BibEntry bibEntry) {
-        return bibDatabase.getEntries().contains(bibEntry);
+        return bibDatabase.getEntryById(bibEntry.getId()) == bibEntry;
     }
 
     @Override
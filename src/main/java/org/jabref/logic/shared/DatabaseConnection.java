@@ -1,10 +1,16 @@
 package org.jabref.logic.shared;
 
 import java.sql.Connection;
+import java.sql.SQLException;
 
 public interface DatabaseConnection {
 
     DatabaseConnectionProperties getProperties();
 
     Connection getConnection();
+
+    /**
+     * Opens a further connection with the same properties. The caller is responsible for closing it.
+     */
+    Connection openConnection() throws SQLException;
 }
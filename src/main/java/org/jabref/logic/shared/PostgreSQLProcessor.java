@@ -19,6 +19,9 @@ import org.postgresql.PGConnection;
  */
 public class PostgreSQLProcessor extends DBMSProcessor {
 
+    // PostgreSQL refuses payloads of 8000 bytes and more
+    private static final int MAX_NOTIFICATION_PAYLOAD_LENGTH = 7900;
+
     private PostgresSQLNotificationListener listener;
 
     private int VERSION_DB_STRUCT_DEFAULT = -1;
@@ -165,9 +168,25 @@ public class PostgreSQLProcessor extends DBMSProcessor {
     }
 
     @Override
-    public void notifyClients() {
-        try {
-            connection.createStatement().execute("NOTIFY jabrefLiveUpdate, '" + PROCESSOR_ID + "';");
+    public synchronized void notifyClients() {
+        notifyClients(PROCESSOR_ID);
+    }
+
+    @Override
+    public synchronized void notifyClients(SharedEntryChanges changes) {
+        String payload = changes.toPayload();
+        if (payload.length() > MAX_NOTIFICATION_PAYLOAD_LENGTH) {
+            // The clients synchronize the whole library instead
+            notifyClients(PROCESSOR_ID);
+            return;
+        }
+        notifyClients(payload);
+    }
+
+    private void notifyClients(String payload) {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify('jabrefLiveUpdate', ?)")) {
+            statement.setString(1, payload);
+            statement.execute();
         } catch (SQLException e) {
             LOGGER.error("SQL Error during client notification", e);
         }
@@ -0,0 +1,77 @@
+package org.jabref.logic.shared;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the prepared statements of a connection open, so that frequent queries are not prepared again on each execution.
+ * Only the most recently used statements are kept.
+ */
+class PreparedStatementCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PreparedStatementCache.class);
+
+    private static final int MAX_STATEMENTS = 32;
+
+    private final Connection connection;
+    // access order, thus the first statement is the least recently used one
+    private final Map<String, PreparedStatement> statements = new LinkedHashMap<>(MAX_STATEMENTS, 0.75f, true);
+
+    PreparedStatementCache(Connection connection) {
+        this.connection = connection;
+    }
+
+    Connection getConnection() {
+        return connection;
+    }
+
+    /**
+     * Returns an open statement for the query without parameters and batches. The statement must not be closed by the caller.
+     */
+    synchronized PreparedStatement prepareStatement(String query) throws SQLException {
+        PreparedStatement statement = statements.get(query);
+        if ((statement != null) && !statement.isClosed()) {
+            statement.clearParameters();
+            statement.clearBatch();
+            return statement;
+        }
+
+        statement = connection.prepareStatement(query);
+        statements.put(query, statement);
+        if (statements.size() > MAX_STATEMENTS) {
+            Iterator<PreparedStatement> leastRecentlyUsed = statements.values().iterator();
+            close(leastRecentlyUsed.next());
+            leastRecentlyUsed.remove();
+        }
+        return statement;
+    }
+
+    /**
+     * Closes all statements. The connection stays open.
+     */
+    void closeStatements() {
+        List<PreparedStatement> statementsToClose;
+        synchronized (this) {
+            statementsToClose = new ArrayList<>(statements.values());
+            statements.clear();
+        }
+        statementsToClose.forEach(PreparedStatementCache::close);
+    }
+
+    private static void close(PreparedStatement statement) {
+        try {
+            statement.close();
+        } catch (SQLException e) {
+            LOGGER.debug("Could not close prepared statement", e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.jabref.logic.shared;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The changes of shared entries made by one client, which are sent to the other clients as payload of a notification.
+ * Thus, the other clients fetch only the changed entries instead of synchronizing the whole library.
+ * <p>
+ * The payload is {@code processorID;sharedID:version,...;removedSharedID,...}.
+ *
+ * @param processorID     the {@link DBMSProcessor#PROCESSOR_ID} of the client
+ * @param changedVersions the versions of the inserted and updated entries on shared database by their shared ID
+ * @param removedIDs      the shared IDs of the removed entries
+ */
+public record SharedEntryChanges(String processorID, Map<Integer, Integer> changedVersions, Set<Integer> removedIDs) {
+
+    private static final String PART_SEPARATOR = ";";
+    private static final String ENTRY_SEPARATOR = ",";
+    private static final String VERSION_SEPARATOR = ":";
+
+    public boolean isEmpty() {
+        return changedVersions.isEmpty() && removedIDs.isEmpty();
+    }
+
+    public String toPayload() {
+        return processorID + PART_SEPARATOR
+                + changedVersions.entrySet().stream()
+                                 .map(entry -> entry.getKey() + VERSION_SEPARATOR + entry.getValue())
+                                 .collect(Collectors.joining(ENTRY_SEPARATOR))
+                + PART_SEPARATOR
+                + removedIDs.stream()
+                            .map(String::valueOf)
+                            .collect(Collectors.joining(ENTRY_SEPARATOR));
+    }
+
+    /**
+     * @return the changes, empty if the payload does not list the changed entries (e.g., if it only contains the processor ID)
+     */
+    public static Optional<SharedEntryChanges> fromPayload(String payload) {
+        String[] parts = payload.split(PART_SEPARATOR, -1);
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        try {
+            Map<Integer, Integer> changedVersions = parts[1].isEmpty() ? Map.of() : Arrays.stream(parts[1].split(ENTRY_SEPARATOR))
+                    .map(entry -> entry.split(VERSION_SEPARATOR))
+                    .collect(Collectors.toMap(entry -> Integer.valueOf(entry[0]), entry -> Integer.valueOf(entry[1]), Math::max));
+            Set<Integer> removedIDs = parts[2].isEmpty() ? Set.of() : Arrays.stream(parts[2].split(ENTRY_SEPARATOR))
+                    .map(Integer::valueOf)
+                    .collect(Collectors.toSet());
+            return Optional.of(new SharedEntryChanges(parts[0], changedVersions, removedIDs));
+        } catch (NumberFormatException | ArrayIndexOutOfBoundsException e) {
+            return Optional.empty();
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package org.jabref.logic.shared.listener;
 
 import java.sql.SQLException;
+import java.util.Optional;
 
 import org.jabref.logic.shared.DBMSProcessor;
 import org.jabref.logic.shared.DBMSSynchronizer;
+import org.jabref.logic.shared.SharedEntryChanges;
 
 import org.postgresql.PGConnection;
 import org.postgresql.PGNotification;
@@ -36,9 +38,7 @@ public class PostgresSQLNotificationListener implements Runnable {
 
                 if (notifications != null) {
                     for (PGNotification notification : notifications) {
-                        if (!notification.getName().equals(DBMSProcessor.PROCESSOR_ID)) {
-                            dbmsSynchronizer.pullChanges();
-                        }
+                        handleNotification(notification.getParameter());
                     }
                 }
 
@@ -50,6 +50,24 @@ public class PostgresSQLNotificationListener implements Runnable {
         }
     }
 
+    /**
+     * Pulls the changes announced by the payload of a notification. The notifications sent by this client itself are skipped,
+     * as its changes are already present locally.
+     */
+    void handleNotification(String payload) {
+        // Plain notifications only carry the processor ID
+        if (payload.equals(DBMSProcessor.PROCESSOR_ID)) {
+            return;
+        }
+        Optional<SharedEntryChanges> changes = SharedEntryChanges.fromPayload(payload);
+        if (changes.isEmpty()) {
+            dbmsSynchronizer.pullChanges();
+        } else if (!changes.get().processorID().equals(DBMSProcessor.PROCESSOR_ID)) {
+            // Notifications listing the changed entries lead to fetching only these entries
+            dbmsSynchronizer.pullChanges(changes.get());
+        }
+    }
+
     public void stop() {
         stop = true;
     }
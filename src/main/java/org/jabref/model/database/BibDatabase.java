@@ -9,6 +9,7 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -33,6 +34,7 @@ import org.jabref.model.entry.event.EntryChangedEvent;
 import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.Field;
 import org.jabref.model.entry.field.FieldFactory;
+import org.jabref.model.entry.field.InternalField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.strings.StringUtil;
 
@@ -52,10 +54,13 @@ public class BibDatabase {
     /**
      * State attributes
      */
-    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(FXCollections.observableArrayList(BibEntry::getObservables));
+    private final ObservableList<BibEntry> entries = FXCollections.synchronizedObservableList(new BibEntryList());
 
     // BibEntryId to BibEntry
     private final Map<String, BibEntry> entriesId = new HashMap<>();
+
+    // Citation key to the entries having that key. Kept up to date on insertion, removal and key changes.
+    private final Map<String, List<BibEntry>> entriesByCitationKey = new HashMap<>();
     private Map<String, BibtexString> bibtexStrings = new ConcurrentHashMap<>();
 
     // Not included in equals, because it is not relevant for the content of the database
@@ -137,7 +142,8 @@ public class BibDatabase {
      * Returns the entry with the given citation key.
      */
     public synchronized Optional<BibEntry> getEntryByCitationKey(String key) {
-        return entries.stream().filter(entry -> Objects.equals(entry.getCitationKey().orElse(null), key)).findFirst();
+        List<BibEntry> entriesWithKey = getEntriesByCitationKey(key);
+        return entriesWithKey.isEmpty() ? Optional.empty() : Optional.of(entriesWithKey.getFirst());
     }
 
     /**
@@ -147,16 +153,17 @@ public class BibDatabase {
      * @return list of entries that contains the given key
      */
     public synchronized List<BibEntry> getEntriesByCitationKey(String key) {
-        List<BibEntry> result = new ArrayList<>();
-
-        for (BibEntry entry : entries) {
-            entry.getCitationKey().ifPresent(entryKey -> {
-                if (key.equals(entryKey)) {
-                    result.add(entry);
-                }
-            });
+        List<BibEntry> entriesWithKey;
+        synchronized (entriesByCitationKey) {
+            entriesWithKey = new ArrayList<>(entriesByCitationKey.getOrDefault(key, List.of()));
         }
-        return result;
+        if (entriesWithKey.size() > 1) {
+            // Duplicate keys are rare: only then the order of the database needs to be restored
+            Set<BibEntry> duplicates = Collections.newSetFromMap(new IdentityHashMap<>());
+            duplicates.addAll(entriesWithKey);
+            return entries.stream().filter(duplicates::contains).collect(Collectors.toList());
+        }
+        return entriesWithKey;
     }
 
     public synchronized void insertEntry(BibEntry entry) {
@@ -192,7 +199,10 @@ public class BibDatabase {
             eventBus.post(new EntriesAddedEvent(newEntries, newEntries.getFirst(), eventSource));
         }
         entries.addAll(newEntries);
-        newEntries.forEach(entry -> entriesId.put(entry.getId(), entry));
+        newEntries.forEach(entry -> {
+            entriesId.put(entry.getId(), entry);
+            entry.getCitationKey().ifPresent(key -> addToCitationKeyIndex(entry, key));
+        });
     }
 
     public synchronized void removeEntry(BibEntry bibEntry) {
@@ -223,15 +233,48 @@ public class BibDatabase {
     public synchronized void removeEntries(List<BibEntry> toBeDeleted, EntriesEventSource eventSource) {
         Objects.requireNonNull(toBeDeleted);
 
-        List<String> ids = new ArrayList<>();
+        Set<String> ids = HashSet.newHashSet(toBeDeleted.size());
         for (BibEntry entry : toBeDeleted) {
             ids.add(entry.getId());
         }
-        boolean anyRemoved = entries.removeIf(entry -> ids.contains(entry.getId()));
-        if (anyRemoved) {
-            toBeDeleted.forEach(entry -> entriesId.remove(entry.getId()));
-            eventBus.post(new EntriesRemovedEvent(toBeDeleted, eventSource));
+        removeEntriesById(ids, eventSource);
+    }
+
+    /**
+     * Removes the entries having the given ids as one batch.
+     * Listeners of {@link #getEntries()} are notified by a single change and one {@link EntriesRemovedEvent} is posted for all removed entries.
+     *
+     * @param ids         the ids ({@link BibEntry#getId()}) of the entries to delete; ids not present in the database are ignored
+     * @param eventSource Source the event is sent from
+     */
+    public synchronized void removeEntriesById(Collection<String> ids, EntriesEventSource eventSource) {
+        Objects.requireNonNull(ids);
+
+        Set<BibEntry> removedEntries = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String id : ids) {
+            BibEntry removedEntry = entriesId.remove(id);
+            if (removedEntry != null) {
+                removedEntries.add(removedEntry);
+                removedEntry.getCitationKey().ifPresent(key -> removeFromCitationKeyIndex(removedEntry, key));
+            }
+        }
+        if (removedEntries.isEmpty()) {
+            return;
+        }
+
+        // Single pass over the entries; the removed entries are reported in database order
+        List<BibEntry> removedInOrder = new ArrayList<>(removedEntries.size());
+        synchronized (entries) {
+            for (BibEntry entry : entries) {
+                if (removedEntries.contains(entry)) {
+                    removedInOrder.add(entry);
+                }
+            }
+            // Fires a single change consisting of removals only, so that listeners keep the state of the remaining entries.
+            // The list moves each remaining entry at most once, see BibEntryList.
+            entries.removeAll(removedEntries);
         }
+        eventBus.post(new EntriesRemovedEvent(removedInOrder, eventSource));
     }
 
     /**
@@ -560,9 +603,37 @@ public class BibDatabase {
 
     @Subscribe
     private void relayEntryChangeEvent(FieldChangedEvent event) {
+        BibEntry entry = event.getBibEntry();
+        // Removed entries still post their changes, these must not be indexed
+        if (event.getField().equals(InternalField.KEY_FIELD) && entriesId.get(entry.getId()) == entry) {
+            if (event.getOldValue() != null) {
+                removeFromCitationKeyIndex(entry, event.getOldValue());
+            }
+            if (event.getNewValue() != null) {
+                addToCitationKeyIndex(entry, event.getNewValue());
+            }
+        }
         eventBus.post(event);
     }
 
+    private void addToCitationKeyIndex(BibEntry entry, String key) {
+        synchronized (entriesByCitationKey) {
+            entriesByCitationKey.computeIfAbsent(key, k -> new ArrayList<>(1)).add(entry);
+        }
+    }
+
+    private void removeFromCitationKeyIndex(BibEntry entry, String key) {
+        synchronized (entriesByCitationKey) {
+            List<BibEntry> entriesWithKey = entriesByCitationKey.get(key);
+            if (entriesWithKey != null) {
+                entriesWithKey.removeIf(entryWithKey -> entryWithKey == entry);
+                if (entriesWithKey.isEmpty()) {
+                    entriesByCitationKey.remove(key);
+                }
+            }
+        }
+    }
+
     public Optional<BibEntry> getReferencedEntry(BibEntry entry) {
         return entry.getField(StandardField.CROSSREF).flatMap(this::getEntryByCitationKey);
     }
@@ -597,10 +668,9 @@ public class BibDatabase {
      * Returns the number of occurrences of the given citation key in this database.
      */
     public long getNumberOfCitationKeyOccurrences(String key) {
-        return entries.stream()
-                      .flatMap(entry -> entry.getCitationKey().stream())
-                      .filter(key::equals)
-                      .count();
+        synchronized (entriesByCitationKey) {
+            return entriesByCitationKey.getOrDefault(key, List.of()).size();
+        }
     }
 
     /**
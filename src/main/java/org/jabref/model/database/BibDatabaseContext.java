@@ -274,6 +274,15 @@ public class BibDatabaseContext {
         return indexPath;
     }
 
+    /**
+     * @return The path to store the lucene index of the bib fields. It is a sibling of {@link #getFulltextIndexPath()}.
+     */
+    @NonNull
+    public Path getBibFieldsIndexPath() {
+        Path fulltextIndexPath = getFulltextIndexPath();
+        return fulltextIndexPath.resolveSibling(fulltextIndexPath.getFileName() + "--bibfields");
+    }
+
     @Override
     public String toString() {
         return "BibDatabaseContext{" +
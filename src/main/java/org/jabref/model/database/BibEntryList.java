@@ -0,0 +1,124 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
+
+import org.jabref.model.entry.BibEntry;
+
+/**
+ * The list of entries of a {@link BibDatabase}.
+ * Like a list created by {@link FXCollections#observableArrayList(javafx.util.Callback)} with {@link BibEntry#getObservables()} as
+ * extractor, it notifies its listeners by an update change when an entry changes.
+ * <p>
+ * In contrast to that list, {@link #removeAll(Collection)} moves each remaining entry at most once instead of shifting the remaining
+ * entries for each removed one. Listeners still receive a single change consisting of removals only, so that they keep the state
+ * they have for the remaining entries.
+ * <p>
+ * An entry must not be contained twice, which {@link BibDatabase} ensures by the ids of the entries.
+ */
+class BibEntryList extends ModifiableObservableListBase<BibEntry> {
+
+    private final List<BibEntry> entries = new ArrayList<>();
+    // Reports the changes of an entry as an update of the list
+    private final Map<BibEntry, InvalidationListener> entryListeners = new IdentityHashMap<>();
+
+    @Override
+    public BibEntry get(int index) {
+        return entries.get(index);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    protected void doAdd(int index, BibEntry entry) {
+        entries.add(index, entry);
+        observe(entry);
+    }
+
+    @Override
+    protected BibEntry doSet(int index, BibEntry entry) {
+        BibEntry replaced = entries.set(index, entry);
+        stopObserving(replaced);
+        observe(entry);
+        return replaced;
+    }
+
+    @Override
+    protected BibEntry doRemove(int index) {
+        BibEntry removed = entries.remove(index);
+        stopObserving(removed);
+        return removed;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> entriesToRemove) {
+        beginChange();
+        try {
+            // The removals are reported in ascending order, each at its index after the preceding removals
+            int remaining = 0;
+            List<BibEntry> removedRun = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                BibEntry entry = entries.get(i);
+                if (entriesToRemove.contains(entry)) {
+                    stopObserving(entry);
+                    removedRun.add(entry);
+                } else {
+                    if (!removedRun.isEmpty()) {
+                        nextRemove(remaining, removedRun);
+                        removedRun = new ArrayList<>();
+                    }
+                    entries.set(remaining, entry);
+                    remaining++;
+                }
+            }
+            if (!removedRun.isEmpty()) {
+                nextRemove(remaining, removedRun);
+            }
+
+            boolean removed = remaining < entries.size();
+            entries.subList(remaining, entries.size()).clear();
+            return removed;
+        } finally {
+            endChange();
+        }
+    }
+
+    private void observe(BibEntry entry) {
+        InvalidationListener listener = observable -> reportUpdate(entry);
+        entryListeners.put(entry, listener);
+        for (Observable observable : entry.getObservables()) {
+            observable.addListener(listener);
+        }
+    }
+
+    private void stopObserving(BibEntry entry) {
+        InvalidationListener listener = entryListeners.remove(entry);
+        if (listener != null) {
+            for (Observable observable : entry.getObservables()) {
+                observable.removeListener(listener);
+            }
+        }
+    }
+
+    private void reportUpdate(BibEntry entry) {
+        for (int i = 0; i < entries.size(); i++) {
+            if (entries.get(i) == entry) {
+                beginChange();
+                nextUpdate(i);
+                endChange();
+                return;
+            }
+        }
+    }
+}
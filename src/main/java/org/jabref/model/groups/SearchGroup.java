@@ -57,6 +57,17 @@ public class SearchGroup extends AbstractGroup {
         matchedEntries.addAll(entriesId);
     }
 
+    /**
+     * Updates the matches of the given entries in one step.
+     *
+     * @param entries         the entries whose matches were re-evaluated
+     * @param matchedEntryIds the ids of the entries out of <code>entries</code> which match the query
+     */
+    public void updateMatches(Collection<BibEntry> entries, Set<String> matchedEntryIds) {
+        entries.forEach(entry -> matchedEntries.remove(entry.getId()));
+        matchedEntries.addAll(matchedEntryIds);
+    }
+
     public void updateMatches(BibEntry entry, boolean matched) {
         if (matched) {
             matchedEntries.add(entry.getId());
@@ -18,7 +18,7 @@ public enum SearchFieldConstants {
      */
     VERSION("3"),
     DEFAULT_FIELD("any"),
-    ENTRY_ID("id"),
+    ENTRY_HASH("entryhash"),
     ENTRY_TYPE("entrytype"),
     PATH("path"),
     CONTENT("content"),
@@ -3,62 +3,79 @@ package org.jabref.model.search;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.document.Document;
 import org.apache.lucene.search.highlight.Highlighter;
 import org.apache.lucene.search.highlight.InvalidTokenOffsetsException;
 import org.apache.lucene.search.highlight.TextFragment;
 
+/**
+ * A single hit of a search. For hits in linked files, the text of the page is loaded and highlighted on demand only,
+ * because only the results of the entry shown in the entry editor are displayed.
+ * The first call of {@link #getContentResultStringsHtml()} or {@link #getAnnotationsResultStringsHtml()} reads from the index,
+ * so it should not happen on the JavaFX thread.
+ */
 public final class SearchResult {
 
     private final float searchScore;
     private final boolean hasFulltextResults;
     private final String path;
-    private final String pageContent;
-    private final String annotation;
     private final int pageNumber;
     private final Highlighter highlighter;
+    private final Supplier<Document> pageLoader;
+    private Document page;
     private List<String> contentResultStringsHtml;
     private List<String> annotationsResultStringsHtml;
 
     private SearchResult(float searchScore,
                          boolean hasFulltextResults,
                          String path,
-                         String pageContent,
-                         String annotation,
                          int pageNumber,
-                         Highlighter highlighter) {
+                         Highlighter highlighter,
+                         Supplier<Document> pageLoader) {
         this.searchScore = searchScore;
         this.hasFulltextResults = hasFulltextResults;
         this.path = path;
-        this.pageContent = pageContent;
-        this.annotation = annotation;
         this.pageNumber = pageNumber;
         this.highlighter = highlighter;
+        this.pageLoader = pageLoader;
     }
 
     public SearchResult(float searchScore) {
-        this(searchScore, false, "", "", "", -1, null);
+        this(searchScore, false, "", -1, null, Document::new);
     }
 
-    public SearchResult(float searchScore, String path, String pageContent, String annotation, int pageNumber, Highlighter highlighter) {
-        this(searchScore, true, path, pageContent, annotation, pageNumber, highlighter);
+    /**
+     * @param pageLoader loads the stored fields {@link SearchFieldConstants#CONTENT} and {@link SearchFieldConstants#ANNOTATIONS} of the page
+     */
+    public SearchResult(float searchScore, String path, int pageNumber, Highlighter highlighter, Supplier<Document> pageLoader) {
+        this(searchScore, true, path, pageNumber, highlighter, pageLoader);
     }
 
-    public List<String> getContentResultStringsHtml() {
+    public synchronized List<String> getContentResultStringsHtml() {
         if (contentResultStringsHtml == null) {
-            return contentResultStringsHtml = getHighlighterFragments(highlighter, SearchFieldConstants.CONTENT, pageContent);
+            return contentResultStringsHtml = getHighlighterFragments(highlighter, SearchFieldConstants.CONTENT, getPageField(SearchFieldConstants.CONTENT));
         }
         return contentResultStringsHtml;
     }
 
-    public List<String> getAnnotationsResultStringsHtml() {
+    public synchronized List<String> getAnnotationsResultStringsHtml() {
         if (annotationsResultStringsHtml == null) {
-            annotationsResultStringsHtml = getHighlighterFragments(highlighter, SearchFieldConstants.ANNOTATIONS, annotation);
+            annotationsResultStringsHtml = getHighlighterFragments(highlighter, SearchFieldConstants.ANNOTATIONS, getPageField(SearchFieldConstants.ANNOTATIONS));
         }
         return annotationsResultStringsHtml;
     }
 
+    private String getPageField(SearchFieldConstants field) {
+        if (page == null) {
+            page = pageLoader.get();
+        }
+        return Optional.ofNullable(page.get(field.toString())).orElse("");
+    }
+
     public float getSearchScore() {
         return searchScore;
     }
@@ -76,6 +93,9 @@ public final class SearchResult {
     }
 
     private static List<String> getHighlighterFragments(Highlighter highlighter, SearchFieldConstants field, String content) {
+        if (highlighter == null || content.isEmpty()) {
+            return List.of();
+        }
         try (TokenStream contentStream = SearchFieldConstants.LINKED_FILES_ANALYZER.tokenStream(field.toString(), content)) {
             TextFragment[] frags = highlighter.getBestTextFragments(contentStream, content, true, 10);
             return Arrays.stream(frags).map(TextFragment::toString).toList();
@@ -14,7 +14,7 @@ public class SearchResults {
     private final Map<String, List<SearchResult>> searchResults = new HashMap<>();
 
     public void mergeSearchResults(SearchResults additionalResults) {
-        this.searchResults.putAll(additionalResults.searchResults);
+        additionalResults.searchResults.forEach((entryId, results) -> searchResults.computeIfAbsent(entryId, k -> new ArrayList<>()).addAll(results));
     }
 
     public void addSearchResult(String entryId, SearchResult result) {
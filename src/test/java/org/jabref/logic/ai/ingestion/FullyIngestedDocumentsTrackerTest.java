@@ -49,4 +49,28 @@ abstract class FullyIngestedDocumentsTrackerTest {
         reopen();
         assertEquals(Optional.empty(), tracker.getIngestedDocumentModificationTimeInSeconds("link"));
     }
+
+    @Test
+    void findFullyIngestedDocumentWithContent() {
+        tracker.markDocumentAsFullyIngested("link", 1L, "content");
+        reopen();
+        assertEquals(Optional.of("link"), tracker.findFullyIngestedDocumentWithContent("content"));
+        assertEquals(Optional.empty(), tracker.findFullyIngestedDocumentWithContent("other content"));
+    }
+
+    @Test
+    void unmarkedDocumentIsNotFoundByContent() {
+        tracker.markDocumentAsFullyIngested("link", 1L, "content");
+        tracker.unmarkDocumentAsFullyIngested("link");
+        reopen();
+        assertEquals(Optional.empty(), tracker.findFullyIngestedDocumentWithContent("content"));
+    }
+
+    @Test
+    void documentWithChangedContentIsNotFoundByOldContent() {
+        tracker.markDocumentAsFullyIngested("link", 1L, "content");
+        tracker.markDocumentAsFullyIngested("link", 2L, "changed content");
+        assertEquals(Optional.empty(), tracker.findFullyIngestedDocumentWithContent("content"));
+        assertEquals(Optional.of("link"), tracker.findFullyIngestedDocumentWithContent("changed content"));
+    }
 }
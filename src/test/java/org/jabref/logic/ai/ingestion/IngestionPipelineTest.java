@@ -0,0 +1,123 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+
+import org.jabref.logic.ai.processingstatus.ProcessingInfo;
+import org.jabref.logic.ai.processingstatus.ProcessingState;
+import org.jabref.model.entry.LinkedFile;
+
+import dev.langchain4j.data.document.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IngestionPipelineTest {
+
+    private final IngestionPipeline pipeline = new IngestionPipeline(1, 1);
+    private final BooleanProperty shutdownSignal = new SimpleBooleanProperty(false);
+    private final AtomicInteger finishedFiles = new AtomicInteger();
+    // Stands in for the JavaFX thread: the state changes run asynchronously to the pipeline
+    private ExecutorService stateExecutor;
+
+    @BeforeEach
+    void setUp() {
+        stateExecutor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        stateExecutor.shutdownNow();
+    }
+
+    @Test
+    void failedFileIsReportedAndOtherFilesSucceed() throws Exception {
+        List<ProcessingInfo<LinkedFile, Void>> linkedFiles = createLinkedFiles(3);
+
+        pipeline.run(linkedFiles, linkedFile -> {
+            GenerateEmbeddingsTask task = createTask();
+            if ("file1.pdf".equals(linkedFile.getLink())) {
+                when(task.extractDocument()).thenThrow(new RuntimeException("Could not extract"));
+            }
+            return task;
+        }, stateExecutor, finishedFiles::incrementAndGet, shutdownSignal);
+
+        // The final states are set when run returns
+        assertEquals(List.of(ProcessingState.SUCCESS, ProcessingState.ERROR, ProcessingState.SUCCESS),
+                linkedFiles.stream().map(ProcessingInfo::getState).toList());
+        assertEquals(Optional.of("Could not extract"), linkedFiles.get(1).getException().map(Exception::getMessage));
+        assertEquals(3, finishedFiles.get());
+    }
+
+    @Test
+    void extractionDoesNotRunFarAheadOfEmbedding() throws Exception {
+        AtomicInteger documentsInMemory = new AtomicInteger();
+        AtomicInteger maxDocumentsInMemory = new AtomicInteger();
+
+        pipeline.run(createLinkedFiles(20), linkedFile -> {
+            GenerateEmbeddingsTask task = mock(GenerateEmbeddingsTask.class);
+            when(task.extractDocument()).thenAnswer(invocation -> {
+                maxDocumentsInMemory.accumulateAndGet(documentsInMemory.incrementAndGet(), Math::max);
+                return Optional.of(createDocument());
+            });
+            doAnswer(invocation -> {
+                Thread.sleep(5);
+                documentsInMemory.decrementAndGet();
+                return null;
+            }).when(task).ingestDocument(any());
+            return task;
+        }, stateExecutor, finishedFiles::incrementAndGet, shutdownSignal);
+
+        assertEquals(20, finishedFiles.get());
+        // At most three files are in progress: two per embedding worker and one per extraction worker
+        assertTrue(maxDocumentsInMemory.get() <= 3, "at most 3 documents in memory, but were " + maxDocumentsInMemory.get());
+    }
+
+    @Test
+    void noFurtherFileIsStartedAfterShutdown() throws Exception {
+        List<ProcessingInfo<LinkedFile, Void>> linkedFiles = createLinkedFiles(20);
+        AtomicInteger startedFiles = new AtomicInteger();
+
+        pipeline.run(linkedFiles, linkedFile -> {
+            startedFiles.incrementAndGet();
+            GenerateEmbeddingsTask task = createTask();
+            shutdownSignal.set(true);
+            return task;
+        }, stateExecutor, finishedFiles::incrementAndGet, shutdownSignal);
+
+        assertEquals(1, startedFiles.get());
+        assertEquals(1, finishedFiles.get());
+        assertEquals(ProcessingState.STOPPED, linkedFiles.getLast().getState());
+    }
+
+    private static List<ProcessingInfo<LinkedFile, Void>> createLinkedFiles(int count) {
+        List<ProcessingInfo<LinkedFile, Void>> linkedFiles = new ArrayList<>();
+        IntStream.range(0, count).forEach(i -> linkedFiles.add(new ProcessingInfo<>(new LinkedFile("", "file" + i + ".pdf", "PDF"), ProcessingState.STOPPED)));
+        return linkedFiles;
+    }
+
+    private static GenerateEmbeddingsTask createTask() {
+        GenerateEmbeddingsTask task = mock(GenerateEmbeddingsTask.class);
+        when(task.extractDocument()).thenReturn(Optional.of(createDocument()));
+        return task;
+    }
+
+    private static GenerateEmbeddingsTask.ExtractedDocument createDocument() {
+        return new GenerateEmbeddingsTask.ExtractedDocument(Document.from("text"), 0, null);
+    }
+}
@@ -0,0 +1,223 @@
+package org.jabref.logic.ai.ingestion;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.Executor;
+
+import org.jabref.logic.util.NotificationService;
+
+import dev.langchain4j.data.document.Metadata;
+import dev.langchain4j.data.embedding.Embedding;
+import dev.langchain4j.data.segment.TextSegment;
+import dev.langchain4j.store.embedding.EmbeddingMatch;
+import dev.langchain4j.store.embedding.EmbeddingSearchRequest;
+import dev.langchain4j.store.embedding.filter.Filter;
+import dev.langchain4j.store.embedding.filter.MetadataFilterBuilder;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.jabref.logic.ai.ingestion.FileEmbeddingsManager.LINK_METADATA_KEY;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+
+class MVStoreEmbeddingStoreTest {
+    private static final int DIMENSION = 16;
+    private static final int EMBEDDINGS_COUNT = 1000;
+    // Far below the number of embeddings of a file, so that filtered searches use the index
+    private static final int EXHAUSTIVE_SEARCH_LIMIT = 10;
+
+    @TempDir Path tempDir;
+
+    private final List<String> ids = new ArrayList<>();
+    private final List<Embedding> embeddings = new ArrayList<>();
+    private MVStoreEmbeddingStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = openStore(Runnable::run);
+
+        Random random = new Random(42);
+        for (int i = 0; i < EMBEDDINGS_COUNT; i++) {
+            float[] vector = new float[DIMENSION];
+            for (int j = 0; j < DIMENSION; j++) {
+                vector[j] = (float) random.nextGaussian();
+            }
+            Embedding embedding = Embedding.from(vector);
+            String file = (i % 2 == 0) ? "a.pdf" : "b.pdf";
+            embeddings.add(embedding);
+            ids.add(store.add(embedding, new TextSegment("segment " + i, new Metadata(Map.of(LINK_METADATA_KEY, file)))));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    private MVStoreEmbeddingStore openStore(Executor backgroundExecutor) {
+        return new MVStoreEmbeddingStore(tempDir.resolve("embeddings.mv"), mock(NotificationService.class), EXHAUSTIVE_SEARCH_LIMIT, backgroundExecutor);
+    }
+
+    /**
+     * Closes the store and removes the graph, as if the embeddings were stored by a version without the index
+     */
+    private void closeAndRemoveGraph() {
+        store.commit();
+        store.close();
+        MVStore mvStore = MVStore.open(tempDir.resolve("embeddings.mv").toString());
+        mvStore.getMapNames().stream()
+               .filter(name -> name.startsWith("embeddingsGraph"))
+               .toList()
+               .forEach(mvStore::removeMap);
+        mvStore.commit();
+        mvStore.close();
+    }
+
+    private List<EmbeddingMatch<TextSegment>> search(Embedding query, Filter filter) {
+        return store.search(EmbeddingSearchRequest.builder()
+                                                  .queryEmbedding(query)
+                                                  .maxResults(5)
+                                                  .minScore(0.0)
+                                                  .filter(filter)
+                                                  .build())
+                    .matches();
+    }
+
+    @Test
+    void searchFindsStoredEmbedding() {
+        for (int i = 0; i < EMBEDDINGS_COUNT; i += 97) {
+            List<EmbeddingMatch<TextSegment>> matches = search(embeddings.get(i), null);
+
+            assertEquals(5, matches.size());
+            assertEquals(ids.get(i), matches.getFirst().embeddingId());
+            assertEquals("segment " + i, matches.getFirst().embedded().text());
+        }
+    }
+
+    @Test
+    void searchReturnsOnlyEmbeddingsOfFilteredFile() {
+        List<EmbeddingMatch<TextSegment>> matches = search(embeddings.getFirst(), MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("b.pdf"));
+
+        assertEquals(5, matches.size());
+        assertTrue(matches.stream().allMatch(match -> "b.pdf".equals(match.embedded().metadata().getString(LINK_METADATA_KEY))));
+    }
+
+    @Test
+    void searchWithFilterFindsStoredEmbeddingUsingIndex() {
+        for (int i = 1; i < EMBEDDINGS_COUNT; i += 97 * 2) {
+            List<EmbeddingMatch<TextSegment>> matches = search(embeddings.get(i), MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("b.pdf"));
+
+            assertEquals(5, matches.size());
+            assertEquals(ids.get(i), matches.getFirst().embeddingId());
+            assertTrue(matches.stream().allMatch(match -> "b.pdf".equals(match.embedded().metadata().getString(LINK_METADATA_KEY))));
+        }
+    }
+
+    @Test
+    void searchWithIsInFilterReturnsEmbeddingsOfListedFiles() {
+        List<EmbeddingMatch<TextSegment>> matches = search(embeddings.get(1), MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isIn("b.pdf", "unknown.pdf"));
+
+        assertEquals(ids.get(1), matches.getFirst().embeddingId());
+        assertTrue(matches.stream().allMatch(match -> "b.pdf".equals(match.embedded().metadata().getString(LINK_METADATA_KEY))));
+    }
+
+    @Test
+    void searchWithFilterOfUnknownFileReturnsNothing() {
+        assertEquals(List.of(), search(embeddings.getFirst(), MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("unknown.pdf")));
+    }
+
+    @Test
+    void searchDoesNotFindRemovedEmbedding() {
+        for (int i = 0; i < EMBEDDINGS_COUNT; i += 3) {
+            store.remove(ids.get(i));
+        }
+
+        for (int i = 1; i < EMBEDDINGS_COUNT; i += 100) {
+            List<EmbeddingMatch<TextSegment>> matches = search(embeddings.get(i), null);
+
+            assertEquals(5, matches.size());
+            if (i % 3 != 0) {
+                assertEquals(ids.get(i), matches.getFirst().embeddingId());
+            }
+            assertTrue(matches.stream().noneMatch(match -> ids.indexOf(match.embeddingId()) % 3 == 0));
+        }
+    }
+
+    @Test
+    void searchFindsEmbeddingAfterReopening() {
+        store.commit();
+        store.close();
+        store = new MVStoreEmbeddingStore(tempDir.resolve("embeddings.mv"), mock(NotificationService.class));
+
+        assertEquals(ids.get(42), search(embeddings.get(42), null).getFirst().embeddingId());
+    }
+
+    @Test
+    void searchFindsEmbeddingBeforeMissingGraphIsBuilt() {
+        closeAndRemoveGraph();
+        List<Runnable> backgroundTasks = new ArrayList<>();
+        store = openStore(backgroundTasks::add);
+
+        assertEquals(1, backgroundTasks.size());
+        assertEquals(ids.get(42), search(embeddings.get(42), null).getFirst().embeddingId());
+        assertEquals(ids.get(43), search(embeddings.get(43), MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("b.pdf")).getFirst().embeddingId());
+    }
+
+    @Test
+    void missingGraphIsBuiltInBackground() {
+        closeAndRemoveGraph();
+        store = openStore(Runnable::run);
+
+        for (int i = 0; i < EMBEDDINGS_COUNT; i += 97) {
+            assertEquals(ids.get(i), search(embeddings.get(i), null).getFirst().embeddingId());
+        }
+
+        store.commit();
+        store.close();
+        store = openStore(command -> fail("The graph was built completely, nothing is left to index"));
+        assertEquals(ids.get(42), search(embeddings.get(42), null).getFirst().embeddingId());
+    }
+
+    @Test
+    void closingStopsBuildingMissingGraph() {
+        closeAndRemoveGraph();
+        List<Runnable> backgroundTasks = new ArrayList<>();
+        store = openStore(backgroundTasks::add);
+        store.close();
+        backgroundTasks.forEach(Runnable::run);
+
+        backgroundTasks.clear();
+        store = openStore(backgroundTasks::add);
+        assertEquals(1, backgroundTasks.size());
+        backgroundTasks.forEach(Runnable::run);
+        assertEquals(ids.get(42), search(embeddings.get(42), null).getFirst().embeddingId());
+    }
+
+    @Test
+    void removeAllWithFilterRemovesEmbeddingsOfFile() {
+        store.removeAll(MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("a.pdf"));
+
+        List<EmbeddingMatch<TextSegment>> matches = search(embeddings.getFirst(), null);
+        assertNotEquals(ids.getFirst(), matches.getFirst().embeddingId());
+        assertTrue(matches.stream().allMatch(match -> "b.pdf".equals(match.embedded().metadata().getString(LINK_METADATA_KEY))));
+    }
+
+    @Test
+    void copyEmbeddingsAddsEmbeddingsForOtherFile() {
+        store.copyEmbeddings("a.pdf", "copy.pdf");
+
+        List<EmbeddingMatch<TextSegment>> matches = search(embeddings.getFirst(), MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("copy.pdf"));
+        assertEquals("segment 0", matches.getFirst().embedded().text());
+        assertNotEquals(ids.getFirst(), matches.getFirst().embeddingId());
+        assertEquals(ids.getFirst(), search(embeddings.getFirst(), MetadataFilterBuilder.metadataKey(LINK_METADATA_KEY).isEqualTo("a.pdf")).getFirst().embeddingId());
+    }
+}
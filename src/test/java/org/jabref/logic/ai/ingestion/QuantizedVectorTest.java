@@ -0,0 +1,36 @@
+package org.jabref.logic.ai.ingestion;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class QuantizedVectorTest {
+
+    private final float[] vector = {0.5f, -1.27f, 0.01f, 0f};
+
+    @Test
+    void dequantizeRestoresVectorApproximately() {
+        byte[] quantized = QuantizedVector.quantize(vector);
+
+        assertEquals(Float.BYTES + vector.length, quantized.length);
+        assertArrayEquals(vector, QuantizedVector.dequantize(quantized), 0.01f);
+    }
+
+    @Test
+    void cosineSimilarityWithItselfIsOne() {
+        assertEquals(1.0, QuantizedVector.cosineSimilarity(vector, QuantizedVector.quantize(vector)), 0.001);
+    }
+
+    @Test
+    void cosineSimilarityWithOppositeIsMinusOne() {
+        float[] opposite = {-0.5f, 1.27f, -0.01f, 0f};
+
+        assertEquals(-1.0, QuantizedVector.cosineSimilarity(vector, QuantizedVector.quantize(opposite)), 0.001);
+    }
+
+    @Test
+    void cosineSimilarityWithZeroVectorIsZero() {
+        assertEquals(0.0, QuantizedVector.cosineSimilarity(vector, QuantizedVector.quantize(new float[4])));
+    }
+}
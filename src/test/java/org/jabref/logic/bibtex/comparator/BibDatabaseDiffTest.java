@@ -1,7 +1,9 @@
 package org.jabref.logic.bibtex.comparator;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.jabref.model.database.BibDatabase;
@@ -134,6 +136,30 @@ class BibDatabaseDiffTest {
         assertEquals(entryTwo, diff.getEntryDifferences().getFirst().newEntry(), "there is another value as newEntry");
     }
 
+    @Test
+    void compareOfLargeDatabasesMatchesChangedEntryByDoi() {
+        List<BibEntry> originalEntries = new ArrayList<>();
+        List<BibEntry> newEntries = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            originalEntries.add(new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "Title " + i));
+            newEntries.add(new BibEntry(BibEntry.DEFAULT_TYPE).withField(StandardField.TITLE, "Title " + i));
+        }
+        BibEntry changedEntry = new BibEntry(BibEntry.DEFAULT_TYPE)
+                .withField(StandardField.TITLE, "test")
+                .withField(StandardField.DOI, "10.1000/182");
+        BibEntry entryAfterChange = new BibEntry(BibEntry.DEFAULT_TYPE)
+                .withField(StandardField.TITLE, "test changed")
+                .withField(StandardField.DOI, "10.1000/182");
+        originalEntries.add(changedEntry);
+        newEntries.addFirst(entryAfterChange);
+
+        BibDatabaseDiff diff = BibDatabaseDiff.compare(
+                new BibDatabaseContext(new BibDatabase(originalEntries)),
+                new BibDatabaseContext(new BibDatabase(newEntries)));
+
+        assertEquals(List.of(new BibEntryDiff(changedEntry, entryAfterChange)), diff.getEntryDifferences());
+    }
+
     private BibDatabaseDiff compareEntries(BibEntry entryOne, BibEntry entryTwo) {
         BibDatabaseContext databaseOne = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryOne)));
         BibDatabaseContext databaseTwo = new BibDatabaseContext(new BibDatabase(Collections.singletonList(entryTwo)));
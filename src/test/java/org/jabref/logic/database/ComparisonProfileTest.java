@@ -0,0 +1,55 @@
+package org.jabref.logic.database;
+
+import java.util.Optional;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ComparisonProfileTest {
+
+    private final ComparisonProfile profile = new ComparisonProfile();
+
+    @Test
+    void normalizesFieldsAsCompared() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Smith, John and Jane Doe")
+                .withField(StandardField.JOURNAL, "J. Chem. Phys.")
+                .withField(StandardField.PAGES, "1 -- 10")
+                .withField(StandardField.TITLE, "  A Title ");
+
+        assertArrayEquals(new String[] {"smith", "doe"}, profile.getWords(entry, StandardField.AUTHOR).orElseThrow());
+        assertArrayEquals(new String[] {"j", "chem", "phys"}, profile.getWords(entry, StandardField.JOURNAL).orElseThrow());
+        assertArrayEquals(new String[] {"1-10"}, profile.getWords(entry, StandardField.PAGES).orElseThrow());
+        assertArrayEquals(new String[] {"a", "title"}, profile.getWords(entry, StandardField.TITLE).orElseThrow());
+        assertEquals(Optional.empty(), profile.getWords(entry, StandardField.YEAR));
+    }
+
+    @Test
+    void changedFieldIsNormalizedAgain() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Old title");
+        assertArrayEquals(new String[] {"old", "title"}, profile.getWords(entry, StandardField.TITLE).orElseThrow());
+        assertEquals(Optional.of("Old title"), profile.getStrictValue(entry, StandardField.TITLE));
+
+        entry.setField(StandardField.TITLE, "New title");
+
+        assertArrayEquals(new String[] {"new", "title"}, profile.getWords(entry, StandardField.TITLE).orElseThrow());
+        assertEquals(Optional.of("New title"), profile.getStrictValue(entry, StandardField.TITLE));
+    }
+
+    @Test
+    void clearedFieldIsEmpty() {
+        BibEntry entry = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "Title");
+        profile.getWords(entry, StandardField.TITLE);
+
+        entry.clearField(StandardField.TITLE);
+
+        assertEquals(Optional.empty(), profile.getWords(entry, StandardField.TITLE));
+        assertEquals(Optional.empty(), profile.getStrictValue(entry, StandardField.TITLE));
+    }
+}
@@ -114,7 +114,7 @@ public class DuplicateCheckTest {
                 .withField(StandardField.JOURNAL, "A");
 
         assertTrue(duplicateChecker.isDuplicate(one, two, BibDatabaseMode.BIBTEX));
-        assertEquals(1.01, DuplicateCheck.compareEntriesStrictly(one, two), 0.01);
+        assertEquals(1.01, duplicateChecker.compareEntriesStrictly(one, two), 0.01);
     }
 
     @Test
@@ -132,7 +132,7 @@ public class DuplicateCheckTest {
                 .withField(StandardField.JOURNAL, "B");
 
         assertTrue(duplicateChecker.isDuplicate(one, two, BibDatabaseMode.BIBTEX));
-        assertEquals(0.75, DuplicateCheck.compareEntriesStrictly(one, two), 0.01);
+        assertEquals(0.75, duplicateChecker.compareEntriesStrictly(one, two), 0.01);
     }
 
     @Test
@@ -579,4 +579,15 @@ public class DuplicateCheckTest {
 
         assertFalse(duplicateChecker.isDuplicate(entryOne, entryTwo, BibDatabaseMode.BIBTEX));
     }
+
+    @Test
+    void changedEntryIsComparedWithItsNewValue() {
+        BibEntry one = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "A title");
+        BibEntry two = new BibEntry(StandardEntryType.Article).withField(StandardField.TITLE, "A title");
+        assertEquals(1.01, duplicateChecker.compareEntriesStrictly(one, two), 0.01);
+
+        one.setField(StandardField.TITLE, "Another title");
+
+        assertEquals(0, duplicateChecker.compareEntriesStrictly(one, two), 0.01);
+    }
 }
@@ -0,0 +1,83 @@
+package org.jabref.logic.database;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jabref.model.database.BibDatabaseMode;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.BibEntryTypesManager;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DuplicateFinderTest {
+
+    private final DuplicateFinder duplicateFinder = new DuplicateFinder(new BibEntryTypesManager());
+
+    @Test
+    void findsSameResultAsCheckingAllPairs() throws InterruptedException {
+        List<BibEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            entries.add(new BibEntry(StandardEntryType.Article)
+                    .withField(StandardField.AUTHOR, "Author " + (i % 7))
+                    .withField(StandardField.TITLE, "On the topic number " + (i % 50))
+                    .withField(StandardField.JOURNAL, "Journal")
+                    .withField(StandardField.YEAR, String.valueOf(2000 + (i % 3))));
+        }
+        entries.add(new BibEntry(StandardEntryType.Book).withField(StandardField.DOI, "10.1000/182"));
+        entries.add(new BibEntry(StandardEntryType.Misc).withField(StandardField.DOI, "10.1000/182"));
+
+        DuplicateCheck duplicateCheck = new DuplicateCheck(new BibEntryTypesManager());
+        Set<List<BibEntry>> expected = new HashSet<>();
+        for (int i = 0; i < entries.size(); i++) {
+            for (int j = i + 1; j < entries.size(); j++) {
+                if (duplicateCheck.isDuplicate(entries.get(i), entries.get(j), BibDatabaseMode.BIBTEX)) {
+                    expected.add(List.of(entries.get(i), entries.get(j)));
+                }
+            }
+        }
+
+        Set<List<BibEntry>> found = ConcurrentHashMap.newKeySet();
+        duplicateFinder.findDuplicates(entries, BibDatabaseMode.BIBTEX, (first, second) -> found.add(List.of(first, second)));
+
+        assertEquals(expected, found);
+    }
+
+    @Test
+    void entriesWithDifferentTitlesAndAuthorsAreNotCompared() {
+        BibEntry one = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Smith, John")
+                .withField(StandardField.TITLE, "Deep learning")
+                .withField(StandardField.YEAR, "2020");
+        BibEntry two = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Doe, Jane")
+                .withField(StandardField.TITLE, "Quantum computing")
+                .withField(StandardField.YEAR, "2020");
+
+        assertEquals(Set.of(), intersection(DuplicateFinder.getBlockingKeys(one), DuplicateFinder.getBlockingKeys(two)));
+    }
+
+    @Test
+    void firstAuthorAndYearFormABlock() {
+        BibEntry one = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Smith, John and Doe, Jane")
+                .withField(StandardField.YEAR, "2020");
+        BibEntry two = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "J. Smith")
+                .withField(StandardField.YEAR, "2020");
+
+        assertEquals(Set.of("author:smith:2020"), intersection(DuplicateFinder.getBlockingKeys(one), DuplicateFinder.getBlockingKeys(two)));
+    }
+
+    private static Set<String> intersection(Set<String> one, Set<String> two) {
+        Set<String> result = new HashSet<>(one);
+        result.retainAll(two);
+        return result;
+    }
+}
@@ -0,0 +1,115 @@
+package org.jabref.logic.groups;
+
+import java.util.BitSet;
+import java.util.List;
+
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.groups.ExplicitGroup;
+import org.jabref.model.groups.GroupHierarchyType;
+import org.jabref.model.groups.GroupTreeNode;
+import org.jabref.model.groups.WordKeywordGroup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GroupMembershipIndexTest {
+
+    private final GroupTreeNode explicitGroup = GroupTreeNode.fromGroup(new ExplicitGroup("Explicit", GroupHierarchyType.INDEPENDENT, ','));
+    private final GroupTreeNode keywordGroup = GroupTreeNode.fromGroup(new WordKeywordGroup("Keyword", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "lucene", false, ',', false));
+
+    private BibEntry inBoth;
+    private BibEntry inExplicitGroup;
+    private BibEntry inNoGroup;
+    private BibDatabase database;
+    private GroupMembershipIndex index;
+
+    @BeforeEach
+    void setUp() {
+        inBoth = new BibEntry().withField(StandardField.GROUPS, "Explicit").withField(StandardField.KEYWORDS, "lucene");
+        inExplicitGroup = new BibEntry().withField(StandardField.GROUPS, "Explicit");
+        inNoGroup = new BibEntry();
+        database = new BibDatabase(List.of(inBoth, inExplicitGroup, inNoGroup));
+        index = new GroupMembershipIndex(database);
+    }
+
+    @Test
+    void unionContainsEntriesOfAnyGroup() {
+        BitSet matches = index.getMatches(List.of(explicitGroup, keywordGroup), false, false);
+
+        assertTrue(index.contains(matches, inBoth));
+        assertTrue(index.contains(matches, inExplicitGroup));
+        assertFalse(index.contains(matches, inNoGroup));
+    }
+
+    @Test
+    void intersectionContainsEntriesOfAllGroups() {
+        BitSet matches = index.getMatches(List.of(explicitGroup, keywordGroup), true, false);
+
+        assertTrue(index.contains(matches, inBoth));
+        assertFalse(index.contains(matches, inExplicitGroup));
+        assertFalse(index.contains(matches, inNoGroup));
+    }
+
+    @Test
+    void invertContainsEntriesOfNoGroup() {
+        BitSet matches = index.getMatches(List.of(explicitGroup, keywordGroup), false, true);
+
+        assertFalse(index.contains(matches, inBoth));
+        assertFalse(index.contains(matches, inExplicitGroup));
+        assertTrue(index.contains(matches, inNoGroup));
+    }
+
+    @Test
+    void singleEntryIsMatchedLikeAllEntries() {
+        List<GroupTreeNode> groups = List.of(explicitGroup, keywordGroup);
+        for (boolean intersection : List.of(false, true)) {
+            for (boolean invert : List.of(false, true)) {
+                BitSet matches = index.getMatches(groups, intersection, invert);
+                for (BibEntry entry : database.getEntries()) {
+                    assertEquals(index.contains(matches, entry), GroupMembershipIndex.matches(groups, intersection, invert, entry));
+                }
+            }
+        }
+    }
+
+    @Test
+    void matchesAreUpdatedOnChanges() {
+        index.getMatches(List.of(keywordGroup), false, false);
+
+        inNoGroup.setField(StandardField.KEYWORDS, "lucene");
+        database.removeEntry(inBoth);
+        BibEntry added = new BibEntry().withField(StandardField.KEYWORDS, "lucene");
+        database.insertEntry(added);
+
+        BitSet matches = index.getMatches(List.of(keywordGroup), false, false);
+        assertTrue(index.contains(matches, inNoGroup));
+        assertTrue(index.contains(matches, added));
+        assertFalse(index.contains(matches, inBoth));
+    }
+
+    @Test
+    void changeDuringComputationIsApplied() {
+        GroupTreeNode changingGroup = GroupTreeNode.fromGroup(new WordKeywordGroup("Keyword", GroupHierarchyType.INDEPENDENT, StandardField.KEYWORDS, "lucene", false, ',', false) {
+            @Override
+            public boolean contains(BibEntry entry) {
+                if (entry == inNoGroup) {
+                    // Changes an entry which was already checked
+                    inExplicitGroup.setField(StandardField.KEYWORDS, "lucene");
+                }
+                return super.contains(entry);
+            }
+        });
+
+        BitSet matches = index.getMatches(List.of(changingGroup), false, false);
+
+        assertTrue(index.contains(matches, inBoth));
+        assertTrue(index.contains(matches, inExplicitGroup));
+        assertFalse(index.contains(matches, inNoGroup));
+    }
+}
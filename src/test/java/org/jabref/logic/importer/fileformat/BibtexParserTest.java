@@ -11,6 +11,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 
@@ -336,6 +337,78 @@ class BibtexParserTest {
         assertEquals(secondEntry, parsedEntries.get(1).getParsedSerialization());
     }
 
+    @Test
+    void parseSetsParsedSerializationOfEntriesLargerThanReadBuffer() throws IOException {
+        String abstractText = "Lorem ipsum dolor sit amet.".repeat(1000);
+        String firstEntry = "@article{first," + OS.NEWLINE + "  abstract = {" + abstractText + "}" + OS.NEWLINE + "}" + OS.NEWLINE;
+        String secondEntry = "@article{second," + OS.NEWLINE + "  abstract = {" + abstractText + "}" + OS.NEWLINE + "}" + OS.NEWLINE;
+        List<BibEntry> parsedEntries = parser.parse(new StringReader(firstEntry + secondEntry))
+                                             .getDatabase().getEntries();
+        assertEquals(firstEntry, parsedEntries.getFirst().getParsedSerialization());
+        assertEquals(secondEntry, parsedEntries.get(1).getParsedSerialization());
+        assertEquals(Optional.of(abstractText), parsedEntries.get(1).getField(StandardField.ABSTRACT));
+    }
+
+    @Test
+    void parseInChunksReturnsSameResultAsSequentialParsing() throws IOException {
+        String bibtex = """
+                % Encoding: UTF-8
+
+                @Preamble{\\newcommand{\\noop}[1]{}}
+
+                @String{acm = {ACM Press}}
+
+                @Article{first,
+                  author    = {Oliver Kopp},
+                  publisher = acm,
+                }
+
+                % a comment in front of the entry
+                @InProceedings{second,
+                  title = {Title with {Braces}},
+                }
+
+                @Comment{free text}
+
+                @Misc{third,
+                  note = "quoted {value}",
+                }
+
+                @String{ieee = {IEEE}}
+
+                @Book{fourth,
+                  publisher = ieee # { and } # acm,
+                }
+
+                @Comment{jabref-meta: databaseType:bibtex;}
+
+                some epilog
+                """;
+        ParserResult sequential = new BibtexParser(importFormatPreferences).parse(new StringReader(bibtex), Integer.MAX_VALUE);
+        ParserResult parallel = new BibtexParser(importFormatPreferences).parse(new StringReader(bibtex), 1);
+
+        List<BibEntry> expectedEntries = sequential.getDatabase().getEntries();
+        List<BibEntry> actualEntries = parallel.getDatabase().getEntries();
+        assertEquals(4, actualEntries.size());
+        assertEquals(expectedEntries, actualEntries);
+        assertEquals(expectedEntries.stream().map(BibEntry::getParsedSerialization).toList(),
+                actualEntries.stream().map(BibEntry::getParsedSerialization).toList());
+        assertEquals(sequential.getDatabase().getPreamble(), parallel.getDatabase().getPreamble());
+        assertEquals(sequential.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).collect(Collectors.toSet()),
+                parallel.getDatabase().getStringValues().stream().map(BibtexString::getParsedSerialization).collect(Collectors.toSet()));
+        assertEquals(sequential.getDatabase().getEpilog(), parallel.getDatabase().getEpilog());
+        assertEquals(sequential.getMetaData().getMode(), parallel.getMetaData().getMode());
+        assertEquals(sequential.warnings(), parallel.warnings());
+    }
+
+    @Test
+    void parseDoesNotTreatUFFFFAsEndOfInput() throws IOException {
+        List<BibEntry> parsedEntries = parser.parse(new StringReader("@article{first, title = {A\uFFFFB}}@article{second, title = {C}}"))
+                                             .getDatabase().getEntries();
+        assertEquals(List.of(Optional.of("A\uFFFFB"), Optional.of("C")),
+                parsedEntries.stream().map(entry -> entry.getField(StandardField.TITLE)).toList());
+    }
+
     @Test
     void parseRecognizesMultipleEntriesOnSameLine() throws IOException {
         ParserResult result = parser
@@ -1,5 +1,8 @@
 package org.jabref.logic.journals;
 
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import javax.swing.undo.CompoundEdit;
@@ -14,8 +17,11 @@ import org.jabref.model.entry.field.AMSField;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.types.StandardEntryType;
 
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -314,4 +320,54 @@ class JournalAbbreviationRepositoryTest {
                 .withField(StandardField.JOURNAL, "Physical Review B");
         assertEquals(expectedAbbreviatedJournalEntry, abbreviatedJournalEntry);
     }
+
+    @Test
+    void customAbbreviationIsFoundIgnoringCase() {
+        Abbreviation abbreviation = new Abbreviation("Long Name", "L. N.", "LN");
+        repository.addCustomAbbreviation(abbreviation);
+
+        assertEquals(Optional.of(abbreviation), repository.get("long name"));
+        assertEquals(Optional.of(abbreviation), repository.get("l n"));
+        assertTrue(repository.isKnownName("LN"));
+        assertTrue(repository.isAbbreviatedName("l. n."));
+        assertFalse(repository.isAbbreviatedName("LONG NAME"));
+    }
+
+    @Test
+    void lazilyOpenedRepositoryFindsAllForms(@TempDir Path tempDir) {
+        Path journalList = tempDir.resolve("journal-list.mv");
+        try (MVStore store = new MVStore.Builder().fileName(journalList.toString()).open()) {
+            MVMap<String, Abbreviation> fullToAbbreviation = store.openMap("FullToAbbreviation");
+            fullToAbbreviation.put("Long Name", new Abbreviation("Long Name", "L. N.", "LN"));
+            store.<String, String>openMap("AbbreviationToFull").put("L. N.", "Long Name");
+            store.<String, String>openMap("DotlessToFull").put("L N", "Long Name");
+            store.<String, String>openMap("ShortestUniqueToFull").put("LN", "Long Name");
+        }
+
+        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toString()).open()) {
+            JournalAbbreviationRepository lazyRepository = JournalAbbreviationRepository.openLazily(store).orElseThrow();
+
+            Abbreviation expected = new Abbreviation("Long Name", "L. N.", "LN");
+            assertEquals(Optional.of(expected), lazyRepository.get("Long Name"));
+            assertEquals(Optional.of(expected), lazyRepository.get("L. N."));
+            assertEquals(Optional.of(expected), lazyRepository.get("L N"));
+            assertEquals(Optional.of(expected), lazyRepository.get("LN"));
+            assertTrue(lazyRepository.isAbbreviatedName("L N"));
+            assertFalse(lazyRepository.isKnownName("Other Name"));
+            assertEquals(Set.of("Long Name"), lazyRepository.getFullNames());
+            assertEquals(List.of(expected), List.copyOf(lazyRepository.getAllLoaded()));
+        }
+    }
+
+    @Test
+    void lazilyOpeningFileWithoutLookupMapsFails(@TempDir Path tempDir) {
+        Path journalList = tempDir.resolve("journal-list.mv");
+        try (MVStore store = new MVStore.Builder().fileName(journalList.toString()).open()) {
+            store.<String, Abbreviation>openMap("FullToAbbreviation").put("Long Name", new Abbreviation("Long Name", "L. N."));
+        }
+
+        try (MVStore store = new MVStore.Builder().readOnly().fileName(journalList.toString()).open()) {
+            assertEquals(Optional.empty(), JournalAbbreviationRepository.openLazily(store));
+        }
+    }
 }
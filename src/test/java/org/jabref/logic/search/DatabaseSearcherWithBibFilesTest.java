@@ -72,6 +72,9 @@ class DatabaseSearcherWithBibFilesTest {
     @TempDir
     private Path indexDir;
 
+    @TempDir
+    private Path bibFieldsIndexDir;
+
     private BibDatabaseContext initializeDatabaseFromPath(String testFile) throws Exception {
         return initializeDatabaseFromPath(Path.of(Objects.requireNonNull(DatabaseSearcherWithBibFilesTest.class.getResource(testFile)).toURI()));
     }
@@ -80,6 +83,7 @@ class DatabaseSearcherWithBibFilesTest {
         ParserResult result = new BibtexImporter(mock(ImportFormatPreferences.class, Answers.RETURNS_DEEP_STUBS), new DummyFileUpdateMonitor()).importDatabase(testFile);
         BibDatabaseContext databaseContext = spy(result.getDatabaseContext());
         when(databaseContext.getFulltextIndexPath()).thenReturn(indexDir);
+        when(databaseContext.getBibFieldsIndexPath()).thenReturn(bibFieldsIndexDir);
 
         when(filePreferences.shouldFulltextIndexLinkedFiles()).thenReturn(true);
         when(filePreferences.fulltextIndexLinkedFilesProperty()).thenReturn(new SimpleBooleanProperty(true));
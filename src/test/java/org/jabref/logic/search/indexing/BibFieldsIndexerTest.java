@@ -0,0 +1,154 @@
+package org.jabref.logic.search.indexing;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.search.IndexSearcher;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BibFieldsIndexerTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Test
+    void duplicateEntriesShareOneDocument() throws IOException {
+        BibEntry first = createEntry("Lucene in Action");
+        BibEntry second = createEntry("Lucene in Action");
+        BibDatabase database = new BibDatabase(List.of(first, second));
+        BibFieldsIndexer indexer = new BibFieldsIndexer(createContext(database));
+
+        indexer.updateOnStart(mock(BackgroundTask.class));
+        assertEquals(1, getNumberOfDocuments(indexer));
+        assertEquals(Set.of(first.getId(), second.getId()), indexer.getEntryIds(BibFieldsIndexer.getEntryHash(first)));
+
+        indexer.removeFromIndex(List.of(first), mock(BackgroundTask.class));
+        assertEquals(1, getNumberOfDocuments(indexer));
+        assertEquals(Set.of(second.getId()), indexer.getEntryIds(BibFieldsIndexer.getEntryHash(second)));
+        indexer.closeAndWait();
+    }
+
+    @Test
+    void updateEntryReplacesDocument() throws IOException {
+        BibEntry entry = createEntry("Lucene in Action");
+        BibFieldsIndexer indexer = new BibFieldsIndexer(createContext(new BibDatabase(List.of(entry))));
+        indexer.updateOnStart(mock(BackgroundTask.class));
+        String oldHash = BibFieldsIndexer.getEntryHash(entry);
+
+        entry.setField(StandardField.TITLE, "Lucene in Action, Second Edition");
+        indexer.updateEntry(entry, "Lucene in Action", "Lucene in Action, Second Edition", mock(BackgroundTask.class));
+
+        assertEquals(1, getNumberOfDocuments(indexer));
+        assertEquals(Set.of(), indexer.getEntryIds(oldHash));
+        assertEquals(Optional.of(BibFieldsIndexer.getEntryHash(entry)), indexer.getIndexedHash(entry));
+        indexer.closeAndWait();
+    }
+
+    @Test
+    void reopenedIndexOnlyReindexesChangedEntries() throws IOException {
+        BibFieldsIndexer indexer = new BibFieldsIndexer(createContext(new BibDatabase(List.of(
+                createEntry("Unchanged"),
+                createEntry("Changed"),
+                createEntry("Removed")))));
+        indexer.updateOnStart(mock(BackgroundTask.class));
+        assertEquals(3, getNumberOfDocuments(indexer));
+        indexer.closeAndWait();
+
+        // New session: the entries get new ids
+        BibEntry unchanged = createEntry("Unchanged");
+        BibEntry changed = createEntry("Changed in the meantime");
+        BibEntry added = createEntry("Added");
+        BibFieldsIndexer reopenedIndexer = new BibFieldsIndexer(createContext(new BibDatabase(List.of(unchanged, changed, added))));
+        reopenedIndexer.updateOnStart(mock(BackgroundTask.class));
+
+        assertEquals(3, getNumberOfDocuments(reopenedIndexer));
+        assertEquals(Set.of(unchanged.getId()), reopenedIndexer.getEntryIds(BibFieldsIndexer.getEntryHash(unchanged)));
+        assertEquals(Set.of(changed.getId()), reopenedIndexer.getEntryIds(BibFieldsIndexer.getEntryHash(changed)));
+        assertEquals(Set.of(added.getId()), reopenedIndexer.getEntryIds(BibFieldsIndexer.getEntryHash(added)));
+        reopenedIndexer.closeAndWait();
+    }
+
+    @Test
+    void bulkIndexingAddsAllBatches() throws IOException {
+        List<BibEntry> entries = IntStream.range(0, 2500)
+                                          .mapToObj(i -> createEntry("Title " + i))
+                                          .toList();
+        BibFieldsIndexer indexer = new BibFieldsIndexer(createContext(new BibDatabase(entries)));
+
+        indexer.updateOnStart(mock(BackgroundTask.class));
+
+        assertEquals(2500, getNumberOfDocuments(indexer));
+        assertEquals(Set.of(entries.getLast().getId()), indexer.getEntryIds(BibFieldsIndexer.getEntryHash(entries.getLast())));
+        indexer.closeAndWait();
+    }
+
+    @Test
+    void indexingFewerEntriesThanOneBatchReportsProgressEveryHundredEntries() {
+        BibFieldsIndexer indexer = new BibFieldsIndexer(createContext(new BibDatabase()));
+        BackgroundTask<?> task = mock(BackgroundTask.class);
+
+        indexer.addToIndex(IntStream.range(0, 250).mapToObj(i -> createEntry("Title " + i)).toList(), task);
+
+        verify(task).updateProgress(100, 250);
+        verify(task).updateProgress(200, 250);
+        verify(task).updateProgress(250, 250);
+        verify(task, times(3)).updateProgress(anyDouble(), anyDouble());
+        indexer.closeAndWait();
+    }
+
+    @Test
+    void entryHashIsIndependentOfFieldOrder() {
+        BibEntry first = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.AUTHOR, "Harrer")
+                .withField(StandardField.TITLE, "Title");
+        BibEntry second = new BibEntry(StandardEntryType.Article)
+                .withField(StandardField.TITLE, "Title")
+                .withField(StandardField.AUTHOR, "Harrer");
+        assertEquals(BibFieldsIndexer.getEntryHash(first), BibFieldsIndexer.getEntryHash(second));
+    }
+
+    private BibDatabaseContext createContext(BibDatabase database) {
+        BibDatabaseContext context = mock(BibDatabaseContext.class);
+        when(context.getDatabase()).thenReturn(database);
+        when(context.getDatabasePath()).thenReturn(Optional.of(tempDir.resolve("library.bib")));
+        when(context.getBibFieldsIndexPath()).thenReturn(tempDir.resolve("index"));
+        return context;
+    }
+
+    private static BibEntry createEntry(String title) {
+        return new BibEntry(StandardEntryType.Book)
+                .withField(StandardField.AUTHOR, "McCandless, Michael")
+                .withField(StandardField.TITLE, title);
+    }
+
+    private static int getNumberOfDocuments(BibFieldsIndexer indexer) throws IOException {
+        indexer.getSearcherManager().maybeRefreshBlocking();
+        IndexSearcher searcher = indexer.getSearcherManager().acquire();
+        try {
+            IndexReader reader = searcher.getIndexReader();
+            return reader.numDocs();
+        } finally {
+            indexer.getSearcherManager().release(searcher);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.jabref.logic.search.retrieval;
+
+import java.util.List;
+import java.util.Set;
+
+import org.jabref.logic.util.StandardFileType;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.LinkedFile;
+import org.jabref.model.entry.types.StandardEntryType;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LinkedFilesMapTest {
+
+    private final LinkedFile paper = new LinkedFile("", "paper.pdf", StandardFileType.PDF.getName());
+    private final LinkedFile thesis = new LinkedFile("", "thesis.pdf", StandardFileType.PDF.getName());
+
+    private BibDatabase database;
+    private BibEntry entry;
+    private LinkedFilesMap linkedFilesMap;
+
+    @BeforeEach
+    void setUp() {
+        entry = new BibEntry(StandardEntryType.Article).withFiles(List.of(paper));
+        database = new BibDatabase(List.of(entry));
+        linkedFilesMap = new LinkedFilesMap(database);
+    }
+
+    @Test
+    void existingEntriesAreMapped() {
+        assertEquals(Set.of(entry.getId()), linkedFilesMap.getEntryIds("paper.pdf"));
+    }
+
+    @Test
+    void addedEntriesAreMapped() {
+        BibEntry other = new BibEntry(StandardEntryType.Article).withFiles(List.of(paper, thesis));
+        database.insertEntry(other);
+
+        assertEquals(Set.of(entry.getId(), other.getId()), linkedFilesMap.getEntryIds("paper.pdf"));
+        assertEquals(Set.of(other.getId()), linkedFilesMap.getEntryIds("thesis.pdf"));
+    }
+
+    @Test
+    void removedEntriesAreUnmapped() {
+        database.removeEntry(entry);
+
+        assertEquals(Set.of(), linkedFilesMap.getEntryIds("paper.pdf"));
+    }
+
+    @Test
+    void changedFileFieldIsMapped() {
+        entry.setFiles(List.of(thesis));
+
+        assertEquals(Set.of(), linkedFilesMap.getEntryIds("paper.pdf"));
+        assertEquals(Set.of(entry.getId()), linkedFilesMap.getEntryIds("thesis.pdf"));
+    }
+}
@@ -0,0 +1,105 @@
+package org.jabref.logic.search.retrieval;
+
+import java.io.IOException;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.jabref.logic.FilePreferences;
+import org.jabref.logic.search.LuceneIndexer;
+import org.jabref.logic.search.indexing.BibFieldsIndexer;
+import org.jabref.logic.util.BackgroundTask;
+import org.jabref.model.database.BibDatabase;
+import org.jabref.model.database.BibDatabaseContext;
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+import org.jabref.model.entry.types.StandardEntryType;
+import org.jabref.model.search.SearchFlags;
+import org.jabref.model.search.SearchQuery;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LuceneSearcherTest {
+
+    private final BibEntry harrer = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Harrer")
+            .withField(StandardField.TITLE, "Lucene");
+    private final BibEntry harrerDuplicate = new BibEntry(StandardEntryType.Article)
+            .withField(StandardField.AUTHOR, "Harrer")
+            .withField(StandardField.TITLE, "Lucene");
+    private final BibEntry tonho = new BibEntry(StandardEntryType.InCollection)
+            .withField(StandardField.AUTHOR, "Tonho")
+            .withField(StandardField.TITLE, "Lucene");
+    private final BibEntry notIndexed = new BibEntry(StandardEntryType.Misc)
+            .withField(StandardField.AUTHOR, "Harrer");
+
+    private BibFieldsIndexer bibFieldsIndexer;
+    private LuceneSearcher searcher;
+
+    @BeforeEach
+    void setUp() {
+        BibDatabaseContext context = mock(BibDatabaseContext.class);
+        when(context.getDatabase()).thenReturn(new BibDatabase(List.of(harrer, harrerDuplicate, tonho)));
+        when(context.getDatabasePath()).thenReturn(Optional.empty());
+
+        bibFieldsIndexer = new BibFieldsIndexer(context);
+        bibFieldsIndexer.updateOnStart(mock(BackgroundTask.class));
+        searcher = new LuceneSearcher(context, bibFieldsIndexer, mock(LuceneIndexer.class), mock(FilePreferences.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        bibFieldsIndexer.closeAndWait();
+    }
+
+    @Test
+    void getMatchedEntriesIsRestrictedToGivenEntries() {
+        SearchQuery query = new SearchQuery("author:harrer", EnumSet.noneOf(SearchFlags.class));
+        assertEquals(Set.of(harrer.getId()), searcher.getMatchedEntries(List.of(harrer, tonho, notIndexed), query));
+    }
+
+    @Test
+    void getMatchedEntriesReturnsAllEntriesWithSameContent() {
+        SearchQuery query = new SearchQuery("lucene", EnumSet.noneOf(SearchFlags.class));
+        assertEquals(Set.of(harrer.getId(), harrerDuplicate.getId(), tonho.getId()), searcher.getMatchedEntries(List.of(harrer, harrerDuplicate, tonho), query));
+    }
+
+    @Test
+    void searchReturnsAllHits() {
+        SearchQuery query = new SearchQuery("lucene", EnumSet.noneOf(SearchFlags.class));
+        assertEquals(Set.of(harrer.getId(), harrerDuplicate.getId(), tonho.getId()), searcher.search(query.getParsedQuery(), query.getSearchFlags()).getMatchedEntries());
+    }
+
+    @Test
+    void searchReturnsBestHitsOnly() {
+        SearchQuery query = new SearchQuery("author:harrer^10 lucene", EnumSet.noneOf(SearchFlags.class));
+        assertEquals(Set.of(harrer.getId(), harrerDuplicate.getId()), searcher.search(query.getParsedQuery(), query.getSearchFlags(), 1).getMatchedEntries());
+    }
+
+    @Test
+    void pagesContainEachHitOnce() throws IOException {
+        SearchQuery query = new SearchQuery("author:harrer^10 lucene", EnumSet.noneOf(SearchFlags.class));
+        try (LuceneSearcher.Pager pager = searcher.page(query.getParsedQuery(), query.getSearchFlags())) {
+            assertEquals(Set.of(harrer.getId(), harrerDuplicate.getId()), pager.nextPage(1).getMatchedEntries());
+            assertTrue(pager.hasNextPage());
+            assertEquals(Set.of(tonho.getId()), pager.nextPage(10).getMatchedEntries());
+            assertFalse(pager.hasNextPage());
+        }
+    }
+
+    @Test
+    void isEntryMatched() {
+        SearchQuery query = new SearchQuery("author:tonho", EnumSet.noneOf(SearchFlags.class));
+        assertTrue(searcher.isEntryMatched(tonho, query));
+        assertFalse(searcher.isEntryMatched(harrer, query));
+    }
+}
@@ -0,0 +1,35 @@
+package org.jabref.logic.shared;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.jabref.logic.shared.DBMSProcessor.ChangeStamp;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class ChangeStampTest {
+
+    private final ChangeStamp changeStamp = new ChangeStamp(3, 10, 7);
+
+    @Test
+    void updatedEntriesAddTheirVersionDelta() {
+        assertEquals(Optional.of(new ChangeStamp(3, 12, 7)), changeStamp.withChangedEntries(Map.of(2, 1, 5, 4), Map.of(2, 2, 5, 5)));
+    }
+
+    @Test
+    void insertedEntryIncreasesCountAndMaxSharedID() {
+        assertEquals(Optional.of(new ChangeStamp(4, 11, 8)), changeStamp.withChangedEntries(Map.of(), Map.of(8, 1)));
+    }
+
+    @Test
+    void removedEntryDecreasesCount() {
+        assertEquals(Optional.of(new ChangeStamp(2, 7, 7)), changeStamp.withChangedEntries(Map.of(5, 3), Map.of()));
+    }
+
+    @Test
+    void removingEntryWithMaxSharedIDInvalidatesStamp() {
+        assertEquals(Optional.empty(), changeStamp.withChangedEntries(Map.of(7, 3), Map.of()));
+    }
+}
@@ -0,0 +1,48 @@
+package org.jabref.logic.shared;
+
+import java.sql.Connection;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DBMSConnectionPoolTest {
+
+    private DatabaseConnection databaseConnection;
+    private DBMSConnectionPool pool;
+
+    @BeforeEach
+    void setUp() {
+        databaseConnection = mock(DatabaseConnection.class);
+        when(databaseConnection.getConnection()).thenReturn(mock(Connection.class));
+        pool = new DBMSConnectionPool(databaseConnection);
+    }
+
+    @Test
+    void validIdleConnectionIsReused() throws Exception {
+        Connection connection = mock(Connection.class);
+        when(connection.isValid(anyInt())).thenReturn(true);
+        when(databaseConnection.openConnection()).thenReturn(connection);
+        PreparedStatementCache borrowed = pool.borrow();
+        pool.release(borrowed);
+
+        assertSame(borrowed, pool.borrow());
+    }
+
+    @Test
+    void droppedIdleConnectionIsClosedAndReplaced() throws Exception {
+        Connection dropped = mock(Connection.class);
+        when(dropped.isValid(anyInt())).thenReturn(false);
+        Connection fresh = mock(Connection.class);
+        when(databaseConnection.openConnection()).thenReturn(dropped, fresh);
+        pool.release(pool.borrow());
+
+        assertSame(fresh, pool.borrow().getConnection());
+        verify(dropped).close();
+    }
+}
@@ -17,4 +17,16 @@ class DBMSConnectionPropertiesTest {
         DBMSConnectionProperties connectionProperties = new DBMSConnectionPropertiesBuilder().setType(DBMSType.ORACLE).setHost("localhost").setPort(3108).setDatabase("jabref").setUser("user").setPassword("password").setUseSSL(false).setServerTimezone("").createDBMSConnectionProperties();
         assertEquals("jdbc:oracle:thin:@localhost:3108/jabref", connectionProperties.getUrl());
     }
+
+    @Test
+    void propertiesForMySqlRewriteBatchedStatements() {
+        DBMSConnectionProperties connectionProperties = new DBMSConnectionPropertiesBuilder().setType(DBMSType.MYSQL).setHost("localhost").setPort(3108).setDatabase("jabref").setUser("user").setPassword("password").setUseSSL(false).setServerTimezone("").createDBMSConnectionProperties();
+        assertEquals("true", connectionProperties.asProperties().getProperty("rewriteBatchedStatements"));
+    }
+
+    @Test
+    void propertiesForPostgreSqlRewriteBatchedInserts() {
+        DBMSConnectionProperties connectionProperties = new DBMSConnectionPropertiesBuilder().setType(DBMSType.POSTGRESQL).setHost("localhost").setPort(5432).setDatabase("jabref").setUser("user").setPassword("password").setUseSSL(false).setServerTimezone("").createDBMSConnectionProperties();
+        assertEquals("true", connectionProperties.asProperties().getProperty("reWriteBatchedInserts"));
+    }
 }
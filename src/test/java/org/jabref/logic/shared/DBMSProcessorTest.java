@@ -182,6 +182,56 @@ class DBMSProcessorTest {
         assertThrows(OfflineLockException.class, () -> dbmsProcessor.updateEntry(bibEntry));
     }
 
+    @Test
+    void updateEntriesUpdatesAllEntriesInOneTransaction() throws Exception {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = new BibEntry(StandardEntryType.Article);
+        dbmsProcessor.insertEntries(List.of(firstEntry, secondEntry));
+
+        firstEntry.clearField(StandardField.BOOKTITLE);
+        firstEntry.setField(StandardField.YEAR, "1995");
+        secondEntry.setField(StandardField.AUTHOR, "Michael J and Hutchings");
+
+        assertEquals(new DBMSProcessor.EntriesUpdate(2, List.of()), dbmsProcessor.updateEntries(List.of(firstEntry, secondEntry)));
+        assertEquals(List.of(firstEntry, secondEntry), dbmsProcessor.getSharedEntries());
+        assertEquals(2, firstEntry.getSharedBibEntryData().getVersion());
+    }
+
+    @Test
+    void updateEntriesRefusesOnlyNewerEntries() throws Exception {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = getBibEntryExample();
+        dbmsProcessor.insertEntries(List.of(firstEntry, secondEntry));
+
+        // simulate older version
+        firstEntry.getSharedBibEntryData().setVersion(0);
+        firstEntry.setField(StandardField.YEAR, "1993");
+        secondEntry.setField(StandardField.YEAR, "1995");
+
+        DBMSProcessor.EntriesUpdate entriesUpdate = dbmsProcessor.updateEntries(List.of(firstEntry, secondEntry));
+        List<OfflineLockException> refusedUpdates = entriesUpdate.refusedUpdates();
+
+        assertEquals(1, entriesUpdate.updatedEntries());
+        assertEquals(1, refusedUpdates.size());
+        assertEquals(firstEntry, refusedUpdates.getFirst().getLocalBibEntry());
+        assertEquals(Optional.of("1994"), dbmsProcessor.getSharedEntry(firstEntry.getSharedBibEntryData().getSharedID()).flatMap(entry -> entry.getField(StandardField.YEAR)));
+        assertEquals(Optional.of(secondEntry), dbmsProcessor.getSharedEntry(secondEntry.getSharedBibEntryData().getSharedID()));
+    }
+
+    @Test
+    void updateEntriesAdvancesChangeStampByUpdatedEntries() throws Exception {
+        BibEntry firstEntry = getBibEntryExample();
+        BibEntry secondEntry = new BibEntry(StandardEntryType.Article);
+        dbmsProcessor.insertEntries(List.of(firstEntry, secondEntry));
+        DBMSProcessor.ChangeStamp changeStamp = dbmsProcessor.getSharedChangeStamp().orElseThrow();
+
+        firstEntry.setField(StandardField.YEAR, "1995");
+        secondEntry.setField(StandardField.YEAR, "1996");
+        DBMSProcessor.EntriesUpdate entriesUpdate = dbmsProcessor.updateEntries(List.of(firstEntry, secondEntry));
+
+        assertEquals(Optional.of(changeStamp.withUpdatedEntries(entriesUpdate.updatedEntries())), dbmsProcessor.getSharedChangeStamp());
+    }
+
     @Test
     void updateEqualEntry() throws OfflineLockException, SQLException {
         BibEntry expectedBibEntry = getBibEntryExample();
@@ -298,9 +348,9 @@ class DBMSProcessorTest {
         expectedIDVersionMap.put(firstEntry.getSharedBibEntryData().getSharedID(), 1);
         expectedIDVersionMap.put(secondEntry.getSharedBibEntryData().getSharedID(), 2);
 
-        Map<Integer, Integer> actualIDVersionMap = dbmsProcessor.getSharedIDVersionMapping();
+        Optional<Map<Integer, Integer>> actualIDVersionMap = dbmsProcessor.getSharedIDVersionMapping();
 
-        assertEquals(expectedIDVersionMap, actualIDVersionMap);
+        assertEquals(Optional.of(expectedIDVersionMap), actualIDVersionMap);
     }
 
     @Test
@@ -18,6 +18,7 @@ import org.jabref.model.database.BibDatabaseContext;
 import org.jabref.model.database.BibDatabaseMode;
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.event.EntriesEventSource;
+import org.jabref.model.entry.event.FieldChangedEvent;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
@@ -125,6 +126,24 @@ class DBMSSynchronizerTest {
         assertEquals(Collections.singletonList(expectedBibEntry), actualEntries);
     }
 
+    @Test
+    void filteredOutFieldChangeIsPushedWithNextChange() throws Exception {
+        BibEntry bibEntry = createExampleBibEntry(1);
+        bibDatabase.insertEntry(bibEntry);
+
+        bibEntry.setField(StandardField.AUTHOR, "Brad L and Gilson", EntriesEventSource.SHARED);
+        FieldChangedEvent minorChange = new FieldChangedEvent(bibEntry, StandardField.AUTHOR, "Brad L and Gilson", "Wirthlin, Michael J1");
+        minorChange.setFilteredOut(true);
+        dbmsSynchronizer.listen(minorChange);
+
+        assertEquals(List.of(createExampleBibEntry(1)), dbmsProcessor.getSharedEntries());
+
+        bibEntry.setField(StandardField.TITLE, "The micro multiplexer", EntriesEventSource.SHARED);
+        dbmsSynchronizer.listen(new FieldChangedEvent(bibEntry, StandardField.TITLE, "The micro multiplexer", "The nano processor1"));
+
+        assertEquals(List.of(bibEntry), dbmsProcessor.getSharedEntries());
+    }
+
     @Test
     void entriesRemovedEventListener() throws Exception {
         BibEntry bibEntry = createExampleBibEntry(1);
@@ -0,0 +1,58 @@
+package org.jabref.logic.shared;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PreparedStatementCacheTest {
+
+    private Connection connection;
+    private PreparedStatementCache cache;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        connection = mock(Connection.class);
+        when(connection.prepareStatement(anyString())).thenAnswer(invocation -> mock(PreparedStatement.class));
+        cache = new PreparedStatementCache(connection);
+    }
+
+    @Test
+    void sameQueryReusesStatement() throws Exception {
+        PreparedStatement statement = cache.prepareStatement("SELECT 1");
+
+        assertSame(statement, cache.prepareStatement("SELECT 1"));
+        verify(statement).clearParameters();
+        assertNotSame(statement, cache.prepareStatement("SELECT 2"));
+    }
+
+    @Test
+    void leastRecentlyUsedStatementIsClosed() throws Exception {
+        PreparedStatement first = cache.prepareStatement("SELECT 0");
+        for (int i = 1; i <= 32; i++) {
+            cache.prepareStatement("SELECT " + i);
+        }
+
+        verify(first).close();
+        assertNotSame(first, cache.prepareStatement("SELECT 0"));
+    }
+
+    @Test
+    void closeStatementsKeepsConnectionOpen() throws Exception {
+        PreparedStatement statement = cache.prepareStatement("SELECT 1");
+
+        cache.closeStatements();
+
+        verify(statement).close();
+        verify(connection, never()).close();
+    }
+}
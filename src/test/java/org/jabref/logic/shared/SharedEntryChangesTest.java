@@ -0,0 +1,37 @@
+package org.jabref.logic.shared;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SharedEntryChangesTest {
+
+    @Test
+    void payloadContainsChangedAndRemovedEntries() {
+        SharedEntryChanges changes = new SharedEntryChanges("processor", Map.of(1, 3, 7, 1), Set.of(4, 5));
+
+        assertEquals(Optional.of(changes), SharedEntryChanges.fromPayload(changes.toPayload()));
+    }
+
+    @Test
+    void payloadWithoutRemovedEntries() {
+        SharedEntryChanges changes = new SharedEntryChanges("processor", Map.of(2, 5), Set.of());
+
+        assertEquals("processor;2:5;", changes.toPayload());
+        assertEquals(Optional.of(changes), SharedEntryChanges.fromPayload("processor;2:5;"));
+    }
+
+    @Test
+    void payloadWithProcessorIDOnlyHasNoChanges() {
+        assertEquals(Optional.empty(), SharedEntryChanges.fromPayload(DBMSProcessor.PROCESSOR_ID));
+    }
+
+    @Test
+    void malformedPayloadHasNoChanges() {
+        assertEquals(Optional.empty(), SharedEntryChanges.fromPayload("processor;2;"));
+    }
+}
@@ -0,0 +1,58 @@
+package org.jabref.logic.shared.listener;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.jabref.logic.shared.DBMSProcessor;
+import org.jabref.logic.shared.DBMSSynchronizer;
+import org.jabref.logic.shared.SharedEntryChanges;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.postgresql.PGConnection;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class PostgresSQLNotificationListenerTest {
+
+    private DBMSSynchronizer dbmsSynchronizer;
+    private PostgresSQLNotificationListener listener;
+
+    @BeforeEach
+    void setUp() {
+        dbmsSynchronizer = mock(DBMSSynchronizer.class);
+        listener = new PostgresSQLNotificationListener(dbmsSynchronizer, mock(PGConnection.class));
+    }
+
+    @Test
+    void ownPlainNotificationIsSkipped() {
+        listener.handleNotification(DBMSProcessor.PROCESSOR_ID);
+
+        verifyNoInteractions(dbmsSynchronizer);
+    }
+
+    @Test
+    void ownChangesAreSkipped() {
+        listener.handleNotification(new SharedEntryChanges(DBMSProcessor.PROCESSOR_ID, Map.of(1, 2), Set.of()).toPayload());
+
+        verifyNoInteractions(dbmsSynchronizer);
+    }
+
+    @Test
+    void plainNotificationOfOtherClientPullsAllChanges() {
+        listener.handleNotification("other");
+
+        verify(dbmsSynchronizer).pullChanges();
+    }
+
+    @Test
+    void changesOfOtherClientArePulled() {
+        SharedEntryChanges changes = new SharedEntryChanges("other", Map.of(1, 2), Set.of(3));
+
+        listener.handleNotification(changes.toPayload());
+
+        verify(dbmsSynchronizer).pullChanges(changes);
+    }
+}
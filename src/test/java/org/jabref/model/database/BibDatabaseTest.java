@@ -9,9 +9,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import javafx.collections.ListChangeListener;
 
 import org.jabref.model.entry.BibEntry;
 import org.jabref.model.entry.BibtexString;
+import org.jabref.model.entry.event.EntriesEventSource;
 import org.jabref.model.entry.field.StandardField;
 import org.jabref.model.entry.field.UnknownField;
 import org.jabref.model.entry.types.StandardEntryType;
@@ -302,6 +307,48 @@ class BibDatabaseTest {
         assertEquals(expectedEntries, actualEntry);
     }
 
+    @Test
+    void removeManyEntriesNotifiesOnceAndKeepsOrder() {
+        List<BibEntry> allEntries = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            allEntries.add(new BibEntry());
+        }
+        database.insertEntries(allEntries);
+        List<BibEntry> entriesToDelete = IntStream.range(0, allEntries.size()).filter(i -> i % 3 != 0).mapToObj(allEntries::get).toList();
+        List<BibEntry> remainingEntries = IntStream.range(0, allEntries.size()).filter(i -> i % 3 == 0).mapToObj(allEntries::get).toList();
+
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+        AtomicInteger listChanges = new AtomicInteger();
+        AtomicInteger addedEntries = new AtomicInteger();
+        database.getEntries().addListener((ListChangeListener<BibEntry>) change -> {
+            listChanges.incrementAndGet();
+            while (change.next()) {
+                addedEntries.addAndGet(change.getAddedSize());
+            }
+        });
+        database.removeEntries(entriesToDelete);
+
+        assertEquals(remainingEntries, database.getEntries());
+        assertEquals(entriesToDelete, tel.getRemovedEntries());
+        assertEquals(1, listChanges.get());
+        // The remaining entries are not replaced
+        assertEquals(0, addedEntries.get());
+    }
+
+    @Test
+    void removeEntriesByIdIgnoresUnknownIds() {
+        BibEntry firstEntry = new BibEntry();
+        BibEntry secondEntry = new BibEntry();
+        database.insertEntries(firstEntry, secondEntry);
+        EventListenerTest tel = new EventListenerTest();
+        database.registerListener(tel);
+        database.removeEntriesById(List.of(secondEntry.getId(), "unknown"), EntriesEventSource.LOCAL);
+
+        assertEquals(List.of(firstEntry), database.getEntries());
+        assertEquals(List.of(secondEntry), tel.getRemovedEntries());
+    }
+
     @Test
     void changingEntryPostsChangeEntryEvent() {
         BibEntry entry = new BibEntry();
@@ -345,6 +392,38 @@ class BibDatabaseTest {
         assertEquals(1, database.getNumberOfCitationKeyOccurrences("AAA"));
     }
 
+    @Test
+    void correctKeyCountAfterChangingKey() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("AAA"));
+        assertEquals(1, database.getNumberOfCitationKeyOccurrences("BBB"));
+    }
+
+    @Test
+    void changingKeyOfRemovedEntryDoesNotAffectKeyCount() {
+        BibEntry entry = new BibEntry().withCitationKey("AAA");
+        database.insertEntry(entry);
+        database.removeEntry(entry);
+        entry.setCitationKey("BBB");
+        assertEquals(0, database.getNumberOfCitationKeyOccurrences("BBB"));
+        assertEquals(Optional.empty(), database.getEntryByCitationKey("BBB"));
+    }
+
+    @Test
+    void getEntriesByCitationKeyKeepsDatabaseOrder() {
+        BibEntry first = new BibEntry().withCitationKey("AAA");
+        BibEntry second = new BibEntry().withCitationKey("BBB");
+        database.insertEntries(first, second);
+        second.setCitationKey("CCC");
+        first.setCitationKey("CCC");
+
+        assertEquals(List.of(first, second), database.getEntriesByCitationKey("CCC"));
+        assertEquals(Optional.of(first), database.getEntryByCitationKey("CCC"));
+        assertTrue(database.isDuplicateCitationKeyExisting("CCC"));
+    }
+
     @Test
     void circularStringResolving() {
         BibtexString string = new BibtexString("AAA", "#BBB#");
@@ -0,0 +1,84 @@
+package org.jabref.model.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import javafx.collections.ListChangeListener;
+
+import org.jabref.model.entry.BibEntry;
+import org.jabref.model.entry.field.StandardField;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BibEntryListTest {
+
+    private final BibEntryList list = new BibEntryList();
+    private final List<BibEntry> entries = IntStream.range(0, 6)
+                                                    .mapToObj(i -> new BibEntry().withField(StandardField.TITLE, "Title " + i))
+                                                    .toList();
+
+    @BeforeEach
+    void setUp() {
+        list.addAll(entries);
+    }
+
+    @Test
+    void removeAllReportsRemovalsAtIndexesAfterPrecedingRemovals() {
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<BibEntry>) change -> {
+            while (change.next()) {
+                assertFalse(change.wasAdded());
+                changes.add(change.getFrom() + ":" + change.getRemovedSize());
+            }
+        });
+
+        assertTrue(list.removeAll(Set.of(entries.get(0), entries.get(2), entries.get(3), entries.get(5))));
+
+        assertEquals(List.of(entries.get(1), entries.get(4)), list);
+        assertEquals(List.of("0:1", "1:2", "2:1"), changes);
+    }
+
+    @Test
+    void removeAllOfUnknownEntryDoesNotChangeList() {
+        assertFalse(list.removeAll(Set.of(new BibEntry())));
+        assertEquals(entries, list);
+    }
+
+    @Test
+    void changingEntryReportsUpdate() {
+        List<Integer> updated = new ArrayList<>();
+        list.addListener((ListChangeListener<BibEntry>) change -> {
+            while (change.next()) {
+                if (change.wasUpdated()) {
+                    updated.add(change.getFrom());
+                }
+            }
+        });
+
+        entries.get(3).setField(StandardField.AUTHOR, "Author");
+
+        assertEquals(List.of(3), updated);
+    }
+
+    @Test
+    void changingRemovedEntryReportsNoUpdate() {
+        list.removeAll(Set.of(entries.get(3)));
+        List<Integer> updated = new ArrayList<>();
+        list.addListener((ListChangeListener<BibEntry>) change -> {
+            while (change.next()) {
+                updated.add(change.getFrom());
+            }
+        });
+
+        entries.get(3).setField(StandardField.AUTHOR, "Author");
+
+        assertEquals(List.of(), updated);
+    }
+}